@@ -0,0 +1,458 @@
+package br.eng.strauss.yaxana;
+
+import static br.eng.strauss.yaxana.ConciseNumber.TERMINAL_OPERATIONS_HASHCODE;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encoder of the abstract syntax tree of a {@link ConciseNumber} as a directed acyclic graph, in
+ * which repeated subexpressions are replaced by references.
+ * <p>
+ * The postfix program of a {@link ConciseNumber} may contain references to previous non-terminal
+ * subexpressions. A reference takes two {@code short}s, the first one with {@link #REFERENCE} in
+ * its low four bits, which is no {@link Type}, and the distance back to the last operation of the
+ * referenced subexpression in its remaining 28 bits. Relative distances survive concatenation of
+ * postfix programs, hence unary operations and binary operations of operands without common
+ * subexpressions just concatenate. Otherwise, the subexpressions of the right operand, which occur
+ * in the left operand, are replaced by references.
+ * <p>
+ * An instance analyses a postfix program and then appends further postfix programs to a copy of
+ * it.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+final class ConciseEncoder
+{
+
+   /**
+    * Returns whether a given operation is a reference to a previous subexpression.
+    *
+    * @param op
+    *           the operation.
+    * @return whether the operation is a reference to a previous subexpression.
+    */
+   static boolean isReference(final int op)
+   {
+
+      return (op & 0xF) == REFERENCE;
+   }
+
+   /**
+    * Returns the position of the last operation of the subexpression referenced at a given
+    * position.
+    *
+    * @param operations
+    *           the postfix program.
+    * @param k
+    *           the position of a reference.
+    * @return the position of the last operation of the referenced subexpression.
+    */
+   static int target(final short[] operations, final int k)
+   {
+
+      return k - ((operations[k] & 0xFFF0) << 12 | operations[k + 1] & 0xFFFF);
+   }
+
+   /**
+    * Returns the number of references in a given postfix program.
+    *
+    * @param operations
+    *           the postfix program.
+    * @return the number of references in the postfix program.
+    */
+   static int noOfReferences(final short[] operations)
+   {
+
+      int noOfReferences = 0;
+      for (int k = 0; k < operations.length; k++)
+      {
+         if (isReference(operations[k]))
+         {
+            noOfReferences++;
+            k++;
+         }
+      }
+      return noOfReferences;
+   }
+
+   /**
+    * Returns the hash code of the {@link ConciseNumber} with a given postfix program.
+    *
+    * @param operations
+    *           the postfix program.
+    * @param operands
+    *           the operands of the postfix program.
+    * @return the hash code of the {@link ConciseNumber} with the given postfix program.
+    */
+   static int hashCode(final short[] operations, final double[] operands)
+   {
+
+      return new ConciseEncoder(operations, operands).hash[operations.length - 1];
+   }
+
+   /**
+    * Returns whether two postfix programs represent the same abstract syntax tree.
+    *
+    * @param operations1
+    *           the first postfix program.
+    * @param operands1
+    *           the operands of the first postfix program.
+    * @param operations2
+    *           the second postfix program.
+    * @param operands2
+    *           the operands of the second postfix program.
+    * @return whether the postfix programs represent the same abstract syntax tree.
+    */
+   static boolean equal(final short[] operations1, final double[] operands1,
+         final short[] operations2, final double[] operands2)
+   {
+
+      final ConciseEncoder a = new ConciseEncoder(operations1, operands1);
+      final ConciseEncoder b = new ConciseEncoder(operations2, operands2);
+      return equal(a, operations1.length - 1, b, operations2.length - 1);
+   }
+
+   /**
+    * Creates a new instance, whose output starts with a given postfix program.
+    *
+    * @param operations
+    *           the postfix program.
+    * @param operands
+    *           the operands of the postfix program.
+    */
+   ConciseEncoder(final short[] operations, final double[] operands)
+   {
+
+      final int n = operations.length;
+      this.operations = operations;
+      this.operands = operands;
+      this.left = new int[n];
+      this.right = new int[n];
+      this.operand = new int[n];
+      this.hash = new int[n];
+      final int[] stack = new int[n];
+      int top = -1;
+      for (int k = 0, kOperand = 0; k < n; k++)
+      {
+         final int op = operations[k];
+         if (isReference(op))
+         {
+            final int target = target(operations, k);
+            this.references = true;
+            this.left[k] = target;
+            this.hash[k] = this.hash[target];
+            stack[++top] = k++;
+         }
+         else
+         {
+            switch (Type.values()[op & 0xF])
+            {
+               case TERMINAL ->
+               {
+                  this.operand[k] = kOperand;
+                  this.hash[k] = 31 * (31 + TERMINAL_OPERATIONS_HASHCODE)
+                        + Double.hashCode(operands[kOperand++]);
+                  stack[++top] = k;
+               }
+               case NEG, ABS, POW, ROOT ->
+               {
+                  this.left[k] = stack[top];
+                  this.hash[k] = 31 * this.hash[stack[top]] + op;
+                  stack[top] = k;
+               }
+               case ADD, SUB, MUL, DIV ->
+               {
+                  final int right = stack[top--];
+                  final int left = stack[top];
+                  this.left[k] = left;
+                  this.right[k] = right;
+                  this.hash[k] = 31 * (31 * this.hash[left] + this.hash[right]) + op;
+                  stack[top] = k;
+               }
+            }
+         }
+      }
+      this.output = Arrays.copyOf(operations, n);
+      this.outputOperands = operands.clone();
+      this.length = n;
+      this.noOfOperands = operands.length;
+   }
+
+   /**
+    * Appends a given postfix program to the output, replacing its subexpressions, which occur in
+    * the postfix program of this instance, by references.
+    *
+    * @param operations
+    *           the postfix program.
+    * @param operands
+    *           the operands of the postfix program.
+    */
+   void append(final short[] operations, final double[] operands)
+   {
+
+      final ConciseEncoder that = new ConciseEncoder(operations, operands);
+      ensureCapacity(operations.length, operands.length);
+      final int[] position = new int[operations.length];
+      Arrays.fill(position, -1);
+      final Deque<Integer> pending = new ArrayDeque<>();
+      pending.push(operations.length - 1);
+      while (!pending.isEmpty())
+      {
+         final int entry = pending.pop();
+         final int k = that.resolve(entry & Integer.MAX_VALUE);
+         final Type type = Type.values()[operations[k] & 0xF];
+         if (entry < 0)
+         {
+            position[k] = this.length;
+            this.output[this.length++] = operations[k];
+         }
+         else if (position[k] >= 0 && referable(position[k]))
+         {
+            appendReference(position[k]);
+         }
+         else if (type == Type.TERMINAL)
+         {
+            this.output[this.length++] = operations[k];
+            this.outputOperands[this.noOfOperands++] = operands[that.operand[k]];
+         }
+         else
+         {
+            final int found = find(that, k);
+            if (found >= 0)
+            {
+               position[k] = found;
+               appendReference(found);
+            }
+            else
+            {
+               // the operation follows its operands, the left one of which comes first
+               pending.push(k | Integer.MIN_VALUE);
+               if (isBinary(type))
+               {
+                  pending.push(that.right[k]);
+               }
+               pending.push(that.left[k]);
+            }
+         }
+      }
+   }
+
+   /**
+    * Appends a given operation to the output.
+    *
+    * @param op
+    *           the operation.
+    */
+   void append(final short op)
+   {
+
+      ensureCapacity(1, 0);
+      this.output[this.length++] = op;
+   }
+
+   /**
+    * Returns whether the output contains references.
+    * 
+    * @return whether the output contains references.
+    */
+   boolean hasReferences()
+   {
+
+      return this.references;
+   }
+
+   /**
+    * Returns the postfix program of the output.
+    *
+    * @return the postfix program of the output.
+    */
+   short[] operations()
+   {
+
+      return Arrays.copyOf(this.output, this.length);
+   }
+
+   /**
+    * Returns the operands of the output.
+    *
+    * @return the operands of the output.
+    */
+   double[] operands()
+   {
+
+      return Arrays.copyOf(this.outputOperands, this.noOfOperands);
+   }
+
+   /**
+    * Returns the position of the last operation of a subexpression of the analysed postfix program,
+    * which equals a given subexpression of another one, or {@code -1}.
+    */
+   private int find(final ConciseEncoder that, final int k)
+   {
+
+      if (this.index == null)
+      {
+         // hash codes of self similar expressions collide, hence positions are chained
+         this.index = new HashMap<>();
+         this.chain = new int[this.operations.length];
+         for (int j = 0; j < this.operations.length; j++)
+         {
+            final int op = this.operations[j];
+            if (isReference(op))
+            {
+               j++;
+            }
+            else if ((op & 0xF) != Type.TERMINAL.ordinal())
+            {
+               final Integer previous = this.index.put(this.hash[j], j);
+               this.chain[j] = previous != null ? previous : -1;
+            }
+         }
+      }
+      final Integer first = this.index.get(that.hash[k]);
+      for (int j = first != null ? first : -1; j >= 0 && referable(j); j = this.chain[j])
+      {
+         if (this.operations[j] == that.operations[k] && equal(this, j, that, k))
+         {
+            return j;
+         }
+      }
+      return -1;
+   }
+
+   private static boolean isBinary(final Type type)
+   {
+
+      return type == Type.ADD || type == Type.SUB || type == Type.MUL || type == Type.DIV;
+   }
+
+   private boolean referable(final int target)
+   {
+
+      return this.length - target <= MAX_DISTANCE;
+   }
+
+   private void appendReference(final int target)
+   {
+
+      final int distance = this.length - target;
+      this.references = true;
+      this.output[this.length++] = (short) (REFERENCE | distance >>> 16 << 4);
+      this.output[this.length++] = (short) distance;
+   }
+
+   private void ensureCapacity(final int noOfOperations, final int noOfOperands)
+   {
+
+      if (this.length + noOfOperations > this.output.length)
+      {
+         this.output = Arrays.copyOf(this.output, this.length + noOfOperations);
+      }
+      if (this.noOfOperands + noOfOperands > this.outputOperands.length)
+      {
+         this.outputOperands = Arrays.copyOf(this.outputOperands, this.noOfOperands + noOfOperands);
+      }
+   }
+
+   /**
+    * Returns the position of the last operation of the subexpression at a given position,
+    * following a reference.
+    */
+   private int resolve(final int k)
+   {
+
+      return isReference(this.operations[k]) ? this.left[k] : k;
+   }
+
+   /**
+    * Returns whether two subexpressions of two analysed postfix programs are equal.
+    */
+   private static boolean equal(final ConciseEncoder a, final int ka, final ConciseEncoder b,
+         final int kb)
+   {
+
+      final Set<Long> visited = new HashSet<>();
+      final Deque<Long> pending = new ArrayDeque<>();
+      pending.push((long) ka << 32 | kb);
+      while (!pending.isEmpty())
+      {
+         final long pair = pending.pop();
+         final int i = a.resolve((int) (pair >>> 32));
+         final int j = b.resolve((int) pair);
+         if (visited.add((long) i << 32 | j))
+         {
+            final int op = a.operations[i];
+            if (a.hash[i] != b.hash[j] || op != b.operations[j])
+            {
+               return false;
+            }
+            switch (Type.values()[op & 0xF])
+            {
+               case TERMINAL ->
+               {
+                  final long x = Double.doubleToLongBits(a.operands[a.operand[i]]);
+                  if (x != Double.doubleToLongBits(b.operands[b.operand[j]]))
+                  {
+                     return false;
+                  }
+               }
+               case NEG, ABS, POW, ROOT -> pending.push((long) a.left[i] << 32 | b.left[j]);
+               case ADD, SUB, MUL, DIV ->
+               {
+                  pending.push((long) a.left[i] << 32 | b.left[j]);
+                  pending.push((long) a.right[i] << 32 | b.right[j]);
+               }
+            }
+         }
+      }
+      return true;
+   }
+
+   /** The low four bits of a reference, which are no {@link Type}. */
+   static final int REFERENCE = 0xF;
+
+   /** The maximum distance of a reference. */
+   private static final int MAX_DISTANCE = (1 << 28) - 1;
+
+   /** The analysed postfix program. */
+   private final short[] operations;
+
+   /** The operands of the analysed postfix program. */
+   private final double[] operands;
+
+   /** The left or only operand of an operation, or the target of a reference, by position. */
+   private final int[] left;
+
+   /** The right operand of a binary operation, by position. */
+   private final int[] right;
+
+   /** The index of the operand of a terminal, by position. */
+   private final int[] operand;
+
+   /** The hash code of the subexpression, by position. */
+   private final int[] hash;
+
+   /** The last position of a non-terminal subexpression, by hash code, computed on demand. */
+   private Map<Integer, Integer> index;
+
+   /** The previous position of a non-terminal subexpression with the same hash code, or -1. */
+   private int[] chain;
+
+   private short[] output;
+
+   private double[] outputOperands;
+
+   private int length;
+
+   private int noOfOperands;
+
+   /** Whether the output contains references. */
+   private boolean references;
+}
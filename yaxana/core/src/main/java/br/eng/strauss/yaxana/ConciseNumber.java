@@ -3,14 +3,21 @@ package br.eng.strauss.yaxana;
 import static br.eng.strauss.yaxana.Type.TERMINAL;
 import static java.lang.System.arraycopy;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 
 import br.eng.strauss.yaxana.big.BigFloat;
 import br.eng.strauss.yaxana.epu.Algebraic;
+import br.eng.strauss.yaxana.epu.AlgebraicFactory;
 import br.eng.strauss.yaxana.epu.Cache;
 
 /**
  * Immutable expression with {@code double} terminals concisely stored in reverse polish notation.
+ * <p>
+ * Large expressions are stored as directed acyclic graphs, in which repeated subexpressions are
+ * references to their first occurrence (see {@link ConciseEncoder}), so that memory and the cost
+ * of {@link #toAlgebraic()} scale with the number of distinct subexpressions.
  * 
  * @author Burkhard Strau
  * @since 2023-09
@@ -18,16 +25,19 @@ import br.eng.strauss.yaxana.epu.Cache;
 public abstract sealed class ConciseNumber extends Number permits Robust
 {
 
-   protected ConciseNumber(final short[] operations, final double[] operands, final int hashCode)
+   protected ConciseNumber(final short[] operations, final double[] operands, final int hashCode,
+         final boolean shared)
    {
 
       this.operations = operations;
       this.operands = operands;
       this.hashCode = hashCode;
+      this.shared = shared;
    }
 
    /**
-    * Returns the number of nodes in the abstract syntax tree.
+    * Returns the number of nodes in the abstract syntax tree, in which a shared subexpression
+    * counts as two nodes at each but its first occurrence.
     * 
     * @return the number of nodes in the abstract syntax tree.
     */
@@ -38,7 +48,8 @@ public abstract sealed class ConciseNumber extends Number permits Robust
    }
 
    /**
-    * Returns the number of non-terminal nodes in the abstract syntax tree.
+    * Returns the number of non-terminal nodes in the abstract syntax tree, in which a shared
+    * subexpression counts as two non-terminal nodes at each but its first occurrence.
     * 
     * @return the number of non-terminal nodes in the abstract syntax tree.
     */
@@ -49,7 +60,8 @@ public abstract sealed class ConciseNumber extends Number permits Robust
    }
 
    /**
-    * Returns the number of terminal nodes in the abstract syntax tree.
+    * Returns the number of terminal nodes in the abstract syntax tree, in which the terminal nodes
+    * of a shared subexpression count at its first occurrence only.
     * 
     * @return the number of terminal nodes in the abstract syntax tree.
     */
@@ -67,10 +79,16 @@ public abstract sealed class ConciseNumber extends Number permits Robust
       {
          if (other instanceof final ConciseNumber that)
          {
-            if (this.hashCode == that.hashCode && Arrays.equals(this.operations, that.operations)
-                  && Arrays.equals(this.operands, that.operands))
+            if (this.hashCode == that.hashCode)
             {
-               return true;
+               if (Arrays.equals(this.operations, that.operations)
+                     && Arrays.equals(this.operands, that.operands))
+               {
+                  return true;
+               }
+               // the same abstract syntax tree may be encoded with different references
+               return (this.isShared() || that.isShared()) && ConciseEncoder
+                     .equal(this.operations, this.operands, that.operations, that.operands);
             }
          }
          return false;
@@ -98,12 +116,29 @@ public abstract sealed class ConciseNumber extends Number permits Robust
          final boolean mayBeZero, final boolean simplify)
    {
 
-      final Cache cache = Cache.getInstance();
-      final Robust key = new Robust(operations, operands, hashCode, 0d, 0d, 0d, false);
+      final boolean shared = ConciseEncoder.noOfReferences(operations) > 0;
+      return valueOf(operations, operands, hashCode, value, lo, hi, mayBeZero, simplify, shared,
+                     null, null);
+   }
+
+   protected static Robust valueOf(final short[] operations, final double[] operands,
+         final int hashCode, final double value, final double lo, final double hi,
+         final boolean mayBeZero, final boolean simplify, final boolean shared,
+         final Robust left, final Robust right)
+   {
+
+      if (simplify && Robust.simplification && lo == hi && value == lo)
+      {
+         // the result would be simplified to a terminal anyway, which needs no cache lookup
+         return Robust.valueOf(value == 0d ? 0d : value);
+      }
+      final Cache cache = Cache.current();
+      final Robust key = new Robust(operations, operands, hashCode, 0d, 0d, 0d, false, shared);
       Robust robust = cache.get(key);
       if (robust == null)
       {
-         cache.put(robust = new Robust(operations, operands, hashCode, value, lo, hi, mayBeZero));
+         cache.put(robust = new Robust(operations, operands, hashCode, value, lo, hi, mayBeZero,
+                                       Robust.lazySignDetermination, shared, left, right));
       }
       return simplify ? robust.simplified() : robust;
    }
@@ -117,7 +152,7 @@ public abstract sealed class ConciseNumber extends Number permits Robust
       operations[k] = (short) (type.ordinal() + (exponent << 4));
       final int hashCode = 31 * this.hashCode() + operations[k];
       return Robust.valueOf(operations, this.operands.clone(), hashCode, value, lo, hi, false,
-                            true);
+                            true, this.shared, (Robust) this, null);
    }
 
    protected Robust newBinary(final Type type, final Robust that, final double value,
@@ -125,23 +160,41 @@ public abstract sealed class ConciseNumber extends Number permits Robust
    {
 
       final int lenU = this.operations.length + that.operations.length;
+      final int hashCode = 31 * (31 * this.hashCode() + that.hashCode()) + type.ordinal();
+      if (lenU >= SHARING_THRESHOLD)
+      {
+         final ConciseEncoder encoder = new ConciseEncoder(this.operations, this.operands);
+         encoder.append(that.operations, that.operands);
+         encoder.append((short) type.ordinal());
+         return Robust.valueOf(encoder.operations(), encoder.operands(), hashCode, value, lo, hi,
+                               mayBeZero, true, encoder.hasReferences(), (Robust) this, that);
+      }
       final int lenT = this.operands.length + that.operands.length;
       final short[] operations = Arrays.copyOf(this.operations, lenU + 1);
       final double[] operands = Arrays.copyOf(this.operands, lenT);
       arraycopy(that.operations, 0, operations, this.operations.length, that.operations.length);
       arraycopy(that.operands, 0, operands, this.operands.length, that.operands.length);
       operations[lenU] = (short) type.ordinal();
-      final int hashCode = 31 * (31 * this.hashCode() + that.hashCode()) + type.ordinal();
-      return Robust.valueOf(operations, operands, hashCode, value, lo, hi, mayBeZero, true);
+      return Robust.valueOf(operations, operands, hashCode, value, lo, hi, mayBeZero, true,
+                            this.shared || that.isShared(), (Robust) this, that);
    }
 
    protected Algebraic toAlgebraic()
    {
 
-      final CachedStack<Algebraic> stack = new CachedStack<>();
+      // equal subexpressions are shared by the instances of the factory
+      final AlgebraicFactory factory = Cache.current().getFactory();
+      final Deque<Algebraic> stack = new ArrayDeque<>();
+      // the values by position, needed for references only
+      final Algebraic[] values = isShared() ? new Algebraic[this.operations.length] : null;
       for (int kOperation = 0, kOperand = 0; kOperation < this.operations.length; kOperation++)
       {
          final int op = this.operations[kOperation];
+         if (ConciseEncoder.isReference(op))
+         {
+            stack.push(values[ConciseEncoder.target(this.operations, kOperation++)]);
+            continue;
+         }
          final Type type = Type.values()[op & 0xF];
          switch (type)
          {
@@ -157,10 +210,26 @@ public abstract sealed class ConciseNumber extends Number permits Robust
             case DIV  -> { final Algebraic b = stack.pop(); stack.push(stack.pop().div(b)); }
             // @formatter:on
          }
+         stack.push(factory.intern(stack.pop()));
+         if (values != null)
+         {
+            values[kOperation] = stack.peek();
+         }
       }
       return stack.pop();
    }
 
+   /**
+    * Returns whether the postfix program contains references to shared subexpressions.
+    * 
+    * @return whether the postfix program contains references to shared subexpressions.
+    */
+   protected final boolean isShared()
+   {
+
+      return this.shared;
+   }
+
    protected static double root(final double x, final int n)
    {
 
@@ -180,6 +249,12 @@ public abstract sealed class ConciseNumber extends Number permits Robust
    /** The maximum exponent for pow and root operations. */
    public static final int MAX_EXPONENT = 0x07FF;
 
+   /**
+    * The minimum number of operations of the operands of a binary operation, from which on shared
+    * subexpressions are replaced by references.
+    */
+   static final int SHARING_THRESHOLD = 64;
+
    protected static final short[] TERMINAL_OPERATIONS = new short[] { (short) TERMINAL.ordinal() };
 
    protected static final int TERMINAL_OPERATIONS_HASHCODE = Arrays.hashCode(TERMINAL_OPERATIONS);
@@ -192,4 +267,7 @@ public abstract sealed class ConciseNumber extends Number permits Robust
 
    /** The precalculated hash code. */
    private final int hashCode;
+
+   /** Whether the postfix program contains references to shared subexpressions. */
+   private final boolean shared;
 }
@@ -0,0 +1,472 @@
+package br.eng.strauss.yaxana;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.fma;
+
+/**
+ * Filter, which determines the sign of a {@link ConciseNumber} by error bounded double-double
+ * arithmetic.
+ * <p>
+ * The postfix program of the {@link ConciseNumber} is evaluated on a stack of double-double
+ * numbers {@code hi+lo}, each with an upper bound {@code err} of its absolute error. The
+ * double-double operations are those of Joldes, Muller and Popescu: Tight and rigorous error
+ * bounds for basic building blocks of double-word arithmetic (2017). Their relative error bounds
+ * are applied with a safety margin, and all error bounds are rounded upwards by a relative
+ * margin, too. Roots are computed by a Newton step on a {@code double} approximation and bounded a
+ * posteriori. The error bounds of products and quotients include an absolute term for underflow,
+ * as a product or quotient may underflow to zero, which passes the range check.
+ * <p>
+ * References to shared subexpressions push the saved values of the referenced subexpressions.
+ * <p>
+ * The filter works with about 106 bits and never proves a value to be zero. It gives up, if the
+ * error bound does not exclude zero, or if intermediate values come close to overflow or
+ * underflow, where the error bounds do not hold.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+final class DoubleDoubleFilter
+{
+
+   /**
+    * Returns the sign of a given expression, or {@code 0}, if this filter cannot determine the
+    * sign.
+    *
+    * @param operations
+    *           the operations of the expression in reverse polish notation.
+    * @param operands
+    *           the operands of the expression.
+    * @return the sign of the expression, or {@code 0}, if this filter cannot determine the sign.
+    */
+   static int signum(final short[] operations, final double[] operands)
+   {
+
+      final int noOfReferences = ConciseEncoder.noOfReferences(operations);
+      final DoubleDoubleFilter filter = new DoubleDoubleFilter(operands.length + noOfReferences,
+            noOfReferences > 0 ? operations.length : 0);
+      return filter.evaluate(operations, operands) ? filter.signum() : 0;
+   }
+
+   private DoubleDoubleFilter(final int maxDepth, final int noOfSaved)
+   {
+
+      this.hi = new double[maxDepth + 1];
+      this.lo = new double[maxDepth + 1];
+      this.err = new double[maxDepth + 1];
+      this.savedHi = noOfSaved > 0 ? new double[noOfSaved] : null;
+      this.savedLo = noOfSaved > 0 ? new double[noOfSaved] : null;
+      this.savedErr = noOfSaved > 0 ? new double[noOfSaved] : null;
+   }
+
+   /**
+    * Evaluates a given expression and returns whether evaluation succeeded.
+    */
+   private boolean evaluate(final short[] operations, final double[] operands)
+   {
+
+      for (int kOperation = 0, kOperand = 0; kOperation < operations.length; kOperation++)
+      {
+         final int op = operations[kOperation];
+         if (ConciseEncoder.isReference(op))
+         {
+            final int target = ConciseEncoder.target(operations, kOperation++);
+            push(savedHi[target], savedLo[target], savedErr[target]);
+            continue;
+         }
+         final Type type = Type.values()[op & 0xF];
+         final boolean success;
+         switch (type)
+         {
+            // @formatter:off
+            case TERMINAL -> { push(operands[kOperand++], 0d, 0d); success = true; }
+            case NEG      -> { hi[top] = -hi[top]; lo[top] = -lo[top]; success = true; }
+            case ABS      -> { success = absolute(); }
+            case POW      -> { success = pow(op >> 4); }
+            case ROOT     -> { success = root(op >> 4); }
+            case ADD      -> { success = add(false); }
+            case SUB      -> { success = add(true); }
+            case MUL      -> { success = mul(); }
+            case DIV      -> { success = div(); }
+            default       -> { success = false; }
+            // @formatter:on
+         }
+         if (!success || !isSafe(hi[top], err[top]))
+         {
+            return false;
+         }
+         if (savedHi != null)
+         {
+            savedHi[kOperation] = hi[top];
+            savedLo[kOperation] = lo[top];
+            savedErr[kOperation] = err[top];
+         }
+      }
+      return top == 0;
+   }
+
+   /**
+    * Returns the sign of the value on top of the stack, or {@code 0}, if the error bound does not
+    * exclude zero.
+    */
+   private int signum()
+   {
+
+      final double h = this.hi[top];
+      return abs(h) * (1d - 0x1p-50) > this.err[top] ? (h > 0d ? 1 : -1) : 0;
+   }
+
+   private boolean absolute()
+   {
+
+      final double h = hi[top];
+      if (abs(h) * (1d - 0x1p-50) <= err[top])
+      {
+         return false;
+      }
+      if (h < 0d)
+      {
+         hi[top] = -h;
+         lo[top] = -lo[top];
+      }
+      return true;
+   }
+
+   private boolean add(final boolean negate)
+   {
+
+      final double yh = negate ? -hi[top] : hi[top];
+      final double yl = negate ? -lo[top] : lo[top];
+      final double ye = err[top--];
+      final double xh = hi[top];
+      final double xl = lo[top];
+      final double xe = err[top];
+      add(xh, xl, yh, yl);
+      err[top] = up(xe + ye + abs(rh) * ADD_ERROR);
+      hi[top] = rh;
+      lo[top] = rl;
+      return true;
+   }
+
+   private boolean mul()
+   {
+
+      final double yh = hi[top];
+      final double yl = lo[top];
+      final double ye = err[top--];
+      final double xh = hi[top];
+      final double xl = lo[top];
+      final double xe = err[top];
+      mul(xh, xl, yh, yl);
+      err[top] = mulError(xh, xe, yh, ye);
+      hi[top] = rh;
+      lo[top] = rl;
+      return true;
+   }
+
+   private boolean div()
+   {
+
+      final double yh = hi[top];
+      final double yl = lo[top];
+      final double ye = err[top--];
+      final double xh = hi[top];
+      final double xl = lo[top];
+      final double xe = err[top];
+      final double yLower = abs(yh) * (1d - 0x1p-50) - ye;
+      if (!(yLower > 0d))
+      {
+         return false;
+      }
+      div(xh, xl, yh, yl);
+      // |x/y - X/Y| <= (|x-X| + |X/Y|*|y-Y|)/|y|
+      err[top] = up(up(xe + up(abs(rh) * UP) * ye) / yLower + abs(rh) * DIV_ERROR
+            + UNDERFLOW_ERROR);
+      hi[top] = rh;
+      lo[top] = rl;
+      return true;
+   }
+
+   private boolean pow(final int n)
+   {
+
+      final double xh = hi[top];
+      final double xl = lo[top];
+      final double xe = err[top];
+      pow(xh, xl, xe, n);
+      hi[top] = rh;
+      lo[top] = rl;
+      err[top] = re;
+      return Double.isFinite(re);
+   }
+
+   private boolean root(final int n)
+   {
+
+      final double xh = hi[top];
+      final double xl = lo[top];
+      final double xe = err[top];
+      if (abs(xh) * (1d - 0x1p-50) <= xe)
+      {
+         return false;
+      }
+      final boolean negative = xh < 0d;
+      if (negative && (n & 1) == 0)
+      {
+         return false;
+      }
+      final double ah = negative ? -xh : xh;
+      final double al = negative ? -xl : xl;
+      // Newton step r = r0 + (a/r0^(n-1) - r0)/n on a double approximation r0
+      final double r0 = ConciseNumber.root(ah, n);
+      pow(r0, 0d, 0d, n - 1);
+      div(ah, al, rh, rl);
+      add(rh, rl, -r0, 0d);
+      divByDouble(rh, rl, n);
+      add(r0, 0d, rh, rl);
+      final double sh = rh;
+      final double sl = rl;
+      // a posteriori bound |r - root(a)| <= |r^n - a|/r^(n-1)
+      pow(sh, sl, 0d, n);
+      final double pe = re;
+      add(rh, rl, -ah, -al);
+      final double residual = up(up(abs(rh) + abs(rl)) + pe + xe);
+      final double rLower = sh * (1d - 0x1p-45);
+      final double denominator = n == 2 ? rLower : Math.pow(rLower, n - 1) * (1d - 0x1p-40);
+      if (!(denominator > 0d))
+      {
+         return false;
+      }
+      hi[top] = negative ? -sh : sh;
+      lo[top] = negative ? -sl : sl;
+      err[top] = up(residual / denominator);
+      return Double.isFinite(err[top]);
+   }
+
+   /**
+    * Sets {@code (rh, rl, re)} to {@code x^n} and its error bound, where {@code x = xh+xl} has
+    * error bound {@code xe}.
+    */
+   private void pow(final double xh, final double xl, final double xe, final int n)
+   {
+
+      double ph = 1d;
+      double pl = 0d;
+      double pe = 0d;
+      double bh = xh;
+      double bl = xl;
+      double be = xe;
+      for (int k = n; k > 0; k >>= 1)
+      {
+         if ((k & 1) != 0)
+         {
+            mul(ph, pl, bh, bl);
+            pe = mulError(ph, pe, bh, be);
+            ph = rh;
+            pl = rl;
+         }
+         if (k > 1)
+         {
+            mul(bh, bl, bh, bl);
+            be = mulError(bh, be, bh, be);
+            bh = rh;
+            bl = rl;
+         }
+         if (!isSafe(ph, pe) || !isSafe(bh, be))
+         {
+            re = Double.POSITIVE_INFINITY;
+            return;
+         }
+      }
+      rh = ph;
+      rl = pl;
+      re = pe;
+   }
+
+   /**
+    * Returns the error bound of the product of {@code x} and {@code y} computed by
+    * {@link #mul(double, double, double, double)}, where {@code x} and {@code y} have error bounds
+    * {@code xe} and {@code ye}.
+    */
+   private double mulError(final double xh, final double xe, final double yh, final double ye)
+   {
+
+      // |xy - XY| <= |x|*|y-Y| + |Y|*|x-X| + |x-X|*|y-Y|
+      final double x = up(abs(xh) * UP);
+      final double y = up(abs(yh) * UP);
+      return up(up(x * ye) + up(y * xe) + up(xe * ye) + abs(rh) * MUL_ERROR + UNDERFLOW_ERROR);
+   }
+
+   /**
+    * Sets {@code (rh, rl)} to {@code x+y} (AccurateDWPlusDW).
+    */
+   private void add(final double xh, final double xl, final double yh, final double yl)
+   {
+
+      final double sh = xh + yh;
+      final double sl = twoSumError(xh, yh, sh);
+      final double th = xl + yl;
+      final double tl = twoSumError(xl, yl, th);
+      final double c = sl + th;
+      final double vh = sh + c;
+      final double vl = c - (vh - sh);
+      final double w = tl + vl;
+      rh = vh + w;
+      rl = w - (rh - vh);
+   }
+
+   /**
+    * Sets {@code (rh, rl)} to {@code x*y} (DWTimesDW3).
+    */
+   private void mul(final double xh, final double xl, final double yh, final double yl)
+   {
+
+      final double ch = xh * yh;
+      final double cl1 = fma(xh, yh, -ch);
+      final double tl0 = xl * yl;
+      final double tl1 = fma(xh, yl, tl0);
+      final double cl2 = fma(xl, yh, tl1);
+      final double cl3 = cl1 + cl2;
+      rh = ch + cl3;
+      rl = cl3 - (rh - ch);
+   }
+
+   /**
+    * Sets {@code (rh, rl)} to {@code x/y} (DWDivDW2).
+    */
+   private void div(final double xh, final double xl, final double yh, final double yl)
+   {
+
+      final double th = xh / yh;
+      // r = y*th (DWTimesFP3)
+      final double ch = yh * th;
+      final double cl1 = fma(yh, th, -ch);
+      final double cl3 = fma(yl, th, cl1);
+      final double zh = ch + cl3;
+      final double zl = cl3 - (zh - ch);
+      final double ph = xh - zh;
+      final double dl = xl - zl;
+      final double d = ph + dl;
+      final double tl = d / yh;
+      rh = th + tl;
+      rl = tl - (rh - th);
+   }
+
+   /**
+    * Sets {@code (rh, rl)} to {@code x/y} (DWDivFP3).
+    */
+   private void divByDouble(final double xh, final double xl, final double y)
+   {
+
+      final double th = xh / y;
+      final double ph = y * th;
+      final double pl = fma(y, th, -ph);
+      final double dh = xh - ph;
+      final double dt = dh - pl;
+      final double d = dt + xl;
+      final double tl = d / y;
+      rh = th + tl;
+      rl = tl - (rh - th);
+   }
+
+   private void push(final double h, final double l, final double e)
+   {
+
+      top++;
+      hi[top] = h;
+      lo[top] = l;
+      err[top] = e;
+   }
+
+   /**
+    * Returns the rounding error of {@code s = a+b} (TwoSum).
+    */
+   private static double twoSumError(final double a, final double b, final double s)
+   {
+
+      final double bb = s - a;
+      return (a - (s - bb)) + (b - bb);
+   }
+
+   /**
+    * Returns an upper bound of a non-negative error bound computed in {@code double}.
+    */
+   private static double up(final double e)
+   {
+
+      return e * UP;
+   }
+
+   /**
+    * Returns whether a value and its error bound are in the range, where the error bounds of
+    * double-double arithmetic hold.
+    */
+   private static boolean isSafe(final double h, final double e)
+   {
+
+      final double a = abs(h);
+      return a < MAX_MAGNITUDE && (a > MIN_MAGNITUDE || a == 0d) && e < MAX_MAGNITUDE;
+   }
+
+   /**
+    * Relative error bound of {@link #add(double, double, double, double)}: {@code 16u^2}, where
+    * {@code u = 2^-53}, i.e. the bound {@code 3u^2+13u^3} with a safety margin, rounded up to a
+    * power of two.
+    */
+   private static final double ADD_ERROR = 0x1p-102;
+
+   /**
+    * Relative error bound of {@link #mul(double, double, double, double)}: {@code 32u^2}, i.e. the
+    * bound of at most {@code 5u^2} with a safety margin, rounded up to a power of two.
+    */
+   private static final double MUL_ERROR = 0x1p-101;
+
+   /**
+    * Relative error bound of {@link #div(double, double, double, double)}: {@code 128u^2}, i.e. the
+    * bound {@code 15u^2+56u^3} with a safety margin, rounded up to a power of two.
+    */
+   private static final double DIV_ERROR = 0x1p-99;
+
+   /**
+    * Absolute error bound of {@link #mul(double, double, double, double)} and
+    * {@link #div(double, double, double, double)} due to underflow: {@code 128} times the smallest
+    * subnormal, which exceeds the sum of the underflow errors of their at most eight roundings.
+    */
+   private static final double UNDERFLOW_ERROR = 0x1p-1067;
+
+   /** Factor to round error bounds upwards. */
+   private static final double UP = 1d + 0x1p-40;
+
+   private static final double MAX_MAGNITUDE = 0x1p+900;
+
+   private static final double MIN_MAGNITUDE = 0x1p-900;
+
+   /** The stack of high parts. */
+   private final double[] hi;
+
+   /** The stack of low parts. */
+   private final double[] lo;
+
+   /** The stack of error bounds. */
+   private final double[] err;
+
+   /** The high parts by position, needed for references only, or {@code null}. */
+   private final double[] savedHi;
+
+   /** The low parts by position, needed for references only, or {@code null}. */
+   private final double[] savedLo;
+
+   /** The error bounds by position, needed for references only, or {@code null}. */
+   private final double[] savedErr;
+
+   /** The index of the top of the stacks. */
+   private int top = -1;
+
+   /** The high part of the result of the last double-double operation. */
+   private double rh;
+
+   /** The low part of the result of the last double-double operation. */
+   private double rl;
+
+   /** The error bound of the result of the last {@link #pow(double, double, double, int)}. */
+   private double re;
+}
@@ -0,0 +1,155 @@
+package br.eng.strauss.yaxana;
+
+/**
+ * Operations of {@code double} interval arithmetic on arrays, used by {@link RobustBatch} to
+ * evaluate a postfix program for a chunk of tuples at once.
+ * <p>
+ * An interval is given by its lower bound {@code lo[n]} and upper bound {@code hi[n]}. Results are
+ * rounded outwards by at least one ulp, so that they contain the exact result. The interval of an
+ * exactly zero value is {@code [0, 0]}, as in {@link Robust}, and operations with such an operand
+ * yield exact results where possible. Intervals, which do not determine a value, for instance in
+ * case of division by an interval containing zero, are set to {@code [NaN, NaN]}.
+ * <p>
+ * Binary operations store their result in the arrays of the left operand. The arrays hold at least
+ * {@code length} elements rounded up to a multiple of {@value #ALIGNMENT}, and implementations may
+ * overwrite the elements beyond {@code length}, which is useful for vectorized implementations.
+ * <p>
+ * {@link #scalar()} returns the implementation in plain Java. Optional modules may provide faster
+ * implementations as a service, which {@link RobustBatch} then uses by default.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public interface IntervalKernel
+{
+
+   /**
+    * Returns the implementation in plain Java.
+    *
+    * @return the implementation in plain Java.
+    */
+   public static IntervalKernel scalar()
+   {
+
+      return ScalarIntervalKernel.INSTANCE;
+   }
+
+   /**
+    * Negates intervals.
+    *
+    * @param lo
+    *           the lower bounds.
+    * @param hi
+    *           the upper bounds.
+    * @param length
+    *           the number of intervals.
+    */
+   public void neg(double[] lo, double[] hi, int length);
+
+   /**
+    * Replaces intervals by their absolute values.
+    *
+    * @param lo
+    *           the lower bounds.
+    * @param hi
+    *           the upper bounds.
+    * @param length
+    *           the number of intervals.
+    */
+   public void abs(double[] lo, double[] hi, int length);
+
+   /**
+    * Adds intervals.
+    *
+    * @param aLo
+    *           the lower bounds of the left operands and results.
+    * @param aHi
+    *           the upper bounds of the left operands and results.
+    * @param bLo
+    *           the lower bounds of the right operands.
+    * @param bHi
+    *           the upper bounds of the right operands.
+    * @param length
+    *           the number of intervals.
+    */
+   public void add(double[] aLo, double[] aHi, double[] bLo, double[] bHi, int length);
+
+   /**
+    * Subtracts intervals.
+    *
+    * @param aLo
+    *           the lower bounds of the left operands and results.
+    * @param aHi
+    *           the upper bounds of the left operands and results.
+    * @param bLo
+    *           the lower bounds of the right operands.
+    * @param bHi
+    *           the upper bounds of the right operands.
+    * @param length
+    *           the number of intervals.
+    */
+   public void sub(double[] aLo, double[] aHi, double[] bLo, double[] bHi, int length);
+
+   /**
+    * Multiplies intervals.
+    *
+    * @param aLo
+    *           the lower bounds of the left operands and results.
+    * @param aHi
+    *           the upper bounds of the left operands and results.
+    * @param bLo
+    *           the lower bounds of the right operands.
+    * @param bHi
+    *           the upper bounds of the right operands.
+    * @param length
+    *           the number of intervals.
+    */
+   public void mul(double[] aLo, double[] aHi, double[] bLo, double[] bHi, int length);
+
+   /**
+    * Divides intervals.
+    *
+    * @param aLo
+    *           the lower bounds of the left operands and results.
+    * @param aHi
+    *           the upper bounds of the left operands and results.
+    * @param bLo
+    *           the lower bounds of the right operands.
+    * @param bHi
+    *           the upper bounds of the right operands.
+    * @param length
+    *           the number of intervals.
+    */
+   public void div(double[] aLo, double[] aHi, double[] bLo, double[] bHi, int length);
+
+   /**
+    * Raises intervals to a given power.
+    *
+    * @param lo
+    *           the lower bounds.
+    * @param hi
+    *           the upper bounds.
+    * @param length
+    *           the number of intervals.
+    * @param exponent
+    *           the exponent, a positive integer.
+    */
+   public void pow(double[] lo, double[] hi, int length, int exponent);
+
+   /**
+    * Replaces intervals by their roots of a given degree.
+    *
+    * @param lo
+    *           the lower bounds.
+    * @param hi
+    *           the upper bounds.
+    * @param length
+    *           the number of intervals.
+    * @param exponent
+    *           the degree of the root, a positive integer.
+    */
+   public void root(double[] lo, double[] hi, int length, int exponent);
+
+   /** The multiple, to which the lengths of the arrays are rounded up. */
+   public static final int ALIGNMENT = 64;
+}
@@ -0,0 +1,79 @@
+package br.eng.strauss.yaxana;
+
+/**
+ * Strategy to raise the precision of approximations during sign computation.
+ * <p>
+ * If the sign of a {@link Robust} value cannot be read from an approximation, the value is
+ * approximated again with a higher precision. A root bound yields a sufficient precision, i.e. a
+ * precision at which a vanishing approximation proves a zero value. The schedule decides which
+ * precision to try next, given the last precision and the sufficient precision.
+ * <p>
+ * Raising the precision in small steps wastes rounds, if the value is zero or close to zero.
+ * Raising the precision in large steps wastes time on overly precise approximations, if the sign
+ * could have been read at a lower precision.
+ * 
+ * @author Burkhard Strauss
+ * @since 2026-10
+ * @see Robusts#setPrecisionSchedule(PrecisionSchedule)
+ */
+@FunctionalInterface
+public interface PrecisionSchedule
+{
+
+   /**
+    * Returns the next precision to try.
+    * 
+    * @param precision
+    *           the last precision tried, which did not suffice to determine the sign.
+    * @param sufficientPrecision
+    *           the precision which suffices to determine the sign. This is greater than
+    *           {@code precision}.
+    * @return the next precision to try, which must be greater than {@code precision}.
+    */
+   public abstract int next(int precision, int sufficientPrecision);
+
+   /**
+    * Returns the default schedule, which doubles the precision regardless of the sufficient
+    * precision.
+    * 
+    * @return the default schedule.
+    */
+   public static PrecisionSchedule doubling()
+   {
+
+      return (precision, sufficientPrecision) -> (int) Math.min(Integer.MAX_VALUE,
+            2L * precision);
+   }
+
+   /**
+    * Returns a schedule, which multiplies the precision by a given factor, but never exceeds the
+    * sufficient precision.
+    * 
+    * @param factor
+    *           the factor, which must be greater than {@code 1}.
+    * @return a schedule, which multiplies the precision by a given factor.
+    * @throws IllegalArgumentException
+    *            if the factor is not greater than {@code 1}.
+    */
+   public static PrecisionSchedule geometric(final double factor) throws IllegalArgumentException
+   {
+
+      if (!(factor > 1d))
+      {
+         throw new IllegalArgumentException("factor=" + factor);
+      }
+      return (precision, sufficientPrecision) -> (int) Math.min(sufficientPrecision,
+            Math.max(precision + 1L, (long) Math.ceil(factor * precision)));
+   }
+
+   /**
+    * Returns a schedule, which jumps straight to the sufficient precision.
+    * 
+    * @return a schedule, which jumps straight to the sufficient precision.
+    */
+   public static PrecisionSchedule sufficient()
+   {
+
+      return (precision, sufficientPrecision) -> sufficientPrecision;
+   }
+}
@@ -6,9 +6,13 @@ import static java.lang.Math.nextDown;
 import static java.lang.Math.nextUp;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import br.eng.strauss.yaxana.big.BigFloat;
+import br.eng.strauss.yaxana.epu.Algebraic;
+import br.eng.strauss.yaxana.epu.Cache;
 import br.eng.strauss.yaxana.epu.EPUStats;
+import br.eng.strauss.yaxana.epu.RootBoundParameters;
 import br.eng.strauss.yaxana.exc.DivisionByZeroException;
 import br.eng.strauss.yaxana.exc.IllegalExponentException;
 import br.eng.strauss.yaxana.exc.NotRepresentableAsADoubleException;
@@ -34,7 +38,7 @@ import br.eng.strauss.yaxana.pdc.SafeDoubleOps;
  * <li>one {@code short} per node of the abstract syntax tree of the expression ({@code pow}- and
  * {@code root}- exponents don't need extra storage),
  * <li>plus one {@code double} per terminal node in the abstract syntax tree of the expression,
- * <li>plus three {@code double}s,
+ * <li>plus three {@code double}s, a {@code boolean} and a pointer for lazy sign determination,
  * <li>plus two pointers to the arrays, plus class-pointer, plus memory allocation and alignment
  * overhead.
  * </ul>
@@ -126,18 +130,31 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    }
 
    /**
-    * Returns a new {@link Robust} instance, which is a terminal with a given rational value.
+    * Returns a {@link Robust} instance, which is a terminal with a given rational value.
+    * <p>
+    * Terminals bypass the cache. Recently used terminals are kept in a small direct mapped table
+    * instead, so that no instance is created, if the table already holds the terminal.
     * 
     * @param value
     *           the rational value.
-    * @return a new instance, which is a terminal with the given rational value.
+    * @return an instance, which is a terminal with the given rational value.
     */
    public static Robust valueOf(final double value)
    {
 
       final int hashCode = 31 * (31 + TERMINAL_OPERATIONS_HASHCODE) + Double.hashCode(value);
-      return valueOf(TERMINAL_OPERATIONS, new double[] { value }, hashCode, value, value, value,
-                     value == 0d, false);
+      final int index = (hashCode ^ hashCode >>> 16) & TERMINALS.length - 1;
+      final Robust terminal = TERMINALS[index];
+      if (terminal != null
+            && Double.doubleToLongBits(terminal.operands[0]) == Double.doubleToLongBits(value))
+      {
+         return terminal;
+      }
+      final Robust robust = new Robust(TERMINAL_OPERATIONS, new double[] { value }, hashCode,
+                                       value, value, value, value == 0d, false);
+      // benign race: instances are immutable, and a lost update just costs a miss later on
+      TERMINALS[index] = robust;
+      return robust;
    }
 
    /**
@@ -171,6 +188,10 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public int signum()
    {
 
+      if (this.lazy)
+      {
+         return resolve().signum();
+      }
       return this.value > 0d ? 1 : this.value < 0d ? -1 : 0;
    }
 
@@ -241,6 +262,10 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public Robust mul(final Robust that)
    {
 
+      if (this.lazy || that.lazy)
+      {
+         return resolve().mul(that.resolve());
+      }
       if (this.value == 0d || that.value == 0d)
       {
          return ZERO;
@@ -269,6 +294,10 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public Robust div(final Robust that)
    {
 
+      if (this.lazy || that.lazy)
+      {
+         return resolve().div(that.resolve());
+      }
       if (that.value == 0d)
       {
          throw new DivisionByZeroException();
@@ -301,6 +330,10 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public Robust neg()
    {
 
+      if (this.lazy)
+      {
+         return resolve().neg();
+      }
       if (this.value == 0d)
       {
          return ZERO;
@@ -315,6 +348,10 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public Robust abs()
    {
 
+      if (this.lazy)
+      {
+         return resolve().abs();
+      }
       if (this.value == 0d)
       {
          return ZERO;
@@ -333,6 +370,10 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public Robust pow(final int n)
    {
 
+      if (this.lazy)
+      {
+         return resolve().pow(n);
+      }
       if (this.value == 0d)
       {
          return n == 0 ? ONE : ZERO;
@@ -377,6 +418,10 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public Robust root(final int n)
    {
 
+      if (this.lazy)
+      {
+         return resolve().root(n);
+      }
       if (n == 0)
       {
          throw new DivisionByZeroException();
@@ -477,7 +522,7 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public int intValue()
    {
 
-      return (int) this.value;
+      return (int) resolve().value;
    }
 
    /**
@@ -489,7 +534,7 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public long longValue()
    {
 
-      return (long) this.value;
+      return (long) resolve().value;
    }
 
    /**
@@ -501,7 +546,7 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public float floatValue()
    {
 
-      return (float) this.value;
+      return (float) resolve().value;
    }
 
    /**
@@ -515,7 +560,7 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public double doubleValue()
    {
 
-      return this.value;
+      return resolve().value;
    }
 
    /**
@@ -529,7 +574,7 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public double lowerBound()
    {
 
-      return lo;
+      return resolve().lo;
    }
 
    /**
@@ -543,7 +588,7 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    public double upperBound()
    {
 
-      return hi;
+      return resolve().hi;
    }
 
    @Override
@@ -554,16 +599,37 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    }
 
    protected Robust(final short[] operations, final double[] operands, final int hashCode,
-         final double value, final double lo, final double hi, final boolean mayBeZero)
+         final double value, final double lo, final double hi, final boolean mayBeZero,
+         final boolean shared)
    {
 
-      super(operations, operands, hashCode);
+      this(operations, operands, hashCode, value, lo, hi, mayBeZero, false, shared, null, null);
+   }
+
+   protected Robust(final short[] operations, final double[] operands, final int hashCode,
+         final double value, final double lo, final double hi, final boolean mayBeZero,
+         final boolean lazy, final boolean shared, final Robust left, final Robust right)
+   {
+
+      super(operations, operands, hashCode, shared);
+      this.lazy = lazy && mayBeZero && lo <= 0d && hi >= 0d && lo != hi;
+      if (this.lazy)
+      {
+         // the sign is determined by resolve() on demand, until then the value just must not be
+         // zero, which would signal a true value of zero
+         this.value = value != 0d ? value : hi > 0d ? nextUp(0d) : nextDown(0d);
+         this.lo = lo;
+         this.hi = hi;
+         return;
+      }
       final int signum;
       if (mayBeZero)
       {
          if (lo <= 0d && hi >= 0d && lo != hi)
          {
-            signum = EPUStats.getInstance().signum(this.noOfNodes(), () -> toAlgebraic().signum());
+            final int filtered = DoubleDoubleFilter.signum(operations, operands);
+            signum = filtered != 0 ? EPUStats.getInstance().filtered(filtered)
+                  : computeSignum(left, right);
          }
          else
          {
@@ -594,6 +660,124 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
       }
    }
 
+   /**
+    * Returns the sign computed by arbitrary precision arithmetic, or recorded by the installed
+    * {@link SignStore}.
+    * 
+    * @param left
+    *           the left or the only operand of the operation of this, or {@code null}.
+    * @param right
+    *           the right operand of the operation of this, or {@code null}.
+    * @return the sign.
+    */
+   private int computeSignum(final Robust left, final Robust right)
+   {
+
+      final SignStore store = SignStore.installed;
+      final int stored = store != null ? store.get(this) : SignStore.ABSENT;
+      if (stored != SignStore.ABSENT)
+      {
+         return stored;
+      }
+      final int signum = EPUStats.getInstance().signum(this.noOfNodes(),
+            () -> signum(toAlgebraic(), left, right));
+      if (store != null)
+      {
+         store.put(this, signum);
+      }
+      return signum;
+   }
+
+   /**
+    * Returns the sign of a given expression equal to this, whose sign computation starts from the
+    * root bound parameters carried along with the operands, and which carries the root bound
+    * parameters, which are known afterwards, along with this and the operands.
+    * 
+    * @param a
+    *           the expression.
+    * @param left
+    *           the left or the only operand of the operation of this, or {@code null}.
+    * @param right
+    *           the right operand of the operation of this, or {@code null}.
+    * @return the sign.
+    */
+   private int signum(final Algebraic a, final Robust left, final Robust right)
+   {
+
+      if (left != null)
+      {
+         a.left().attachRootBoundParameters(left.rootBoundParameters);
+      }
+      if (right != null)
+      {
+         a.right().attachRootBoundParameters(right.rootBoundParameters);
+      }
+      final int signum = a.signum();
+      if (Cache.current().getMaximumSize() > 0)
+      {
+         // canonical instances are referenced weakly by their factory, so the refined
+         // subexpressions are reused by later sign computations, as long as this is cached
+         this.algebraic = a;
+      }
+      this.rootBoundParameters = a.knownRootBoundParameters();
+      if (left != null && left.rootBoundParameters == null)
+      {
+         left.rootBoundParameters = a.left().knownRootBoundParameters();
+      }
+      if (right != null && right.rootBoundParameters == null)
+      {
+         right.rootBoundParameters = a.right().knownRootBoundParameters();
+      }
+      return signum;
+   }
+
+   /**
+    * Returns the root bound parameters carried along with this, or {@code null}.
+    * 
+    * @return the root bound parameters carried along with this, or {@code null}.
+    */
+   RootBoundParameters rootBoundParameters()
+   {
+
+      return this.rootBoundParameters;
+   }
+
+   /**
+    * Returns {@code this}, or in case of an instance, whose sign is determined lazily, an
+    * equivalent instance, whose sign has been determined.
+    * 
+    * @return {@code this} or an equivalent instance, whose sign has been determined.
+    */
+   private Robust resolve()
+   {
+
+      if (!this.lazy)
+      {
+         return this;
+      }
+      final Robust resolved = this.resolved;
+      if (resolved != null)
+      {
+         return resolved;
+      }
+      final Robust robust = new Robust(operations, operands, hashCode(), value, lo, hi, true,
+                                       isShared());
+      return RESOLVED.compareAndSet(this, null, robust) ? robust : this.resolved;
+   }
+
+   /**
+    * Replaces an instance, whose sign is determined lazily, by an equivalent instance, whose sign
+    * has been determined, so that the serialized form is the same as without lazy sign
+    * determination.
+    * 
+    * @return {@code this} or an equivalent instance, whose sign has been determined.
+    */
+   private Object writeReplace()
+   {
+
+      return resolve();
+   }
+
    protected Robust simplified()
    {
 
@@ -612,6 +796,28 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    /** Whether simplification is done. */
    protected static boolean simplification = true;
 
+   /** Whether signs of sums and differences are determined lazily. */
+   static volatile boolean lazySignDetermination;
+
+   /**
+    * Whether the sign of this is determined lazily, see {@link #resolve()}. Such instances are
+    * never serialized, see {@link #writeReplace()}.
+    */
+   private final transient boolean lazy;
+
+   /** The equivalent instance, whose sign has been determined, see {@link #resolve()}. */
+   private transient volatile Robust resolved;
+
+   /** The root bound parameters, which are known from sign computations, or {@code null}. */
+   private transient volatile RootBoundParameters rootBoundParameters;
+
+   /**
+    * The canonical expression, whose sign has been computed, which keeps its approximations and
+    * those of its subexpressions alive as long as this, or {@code null}. Its memory may exceed that
+    * of this by far, see {@link Robusts#setMaximumCacheSize(int)}.
+    */
+   private transient volatile Algebraic algebraic;
+
    /** See {@link #lowerBound()}. */
    private final double lo;
 
@@ -621,6 +827,12 @@ public final class Robust extends ConciseNumber implements Expression<Robust>
    /** See {@link #doubleValue()}. */
    private final double value;
 
+   /** Direct mapped table of recently used terminals. See {@link #valueOf(double)}. */
+   private static final Robust[] TERMINALS = new Robust[1 << 12];
+
+   private static final AtomicReferenceFieldUpdater<Robust, Robust> RESOLVED =
+         AtomicReferenceFieldUpdater.newUpdater(Robust.class, Robust.class, "resolved");
+
    /** The number zero. */
    public static final Robust ZERO = staticValueOf(0d);
 
@@ -0,0 +1,229 @@
+package br.eng.strauss.yaxana;
+
+import static java.lang.Math.max;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Off-heap archive of large populations of {@link Robust} values in serialized form.
+ * <p>
+ * The postfix programs, operands and intervals of the values are stored in direct
+ * {@link ByteBuffer} chunks in the record format of {@link RobustCodec}, so that values, which
+ * are kept for later use but not computed with, neither occupy the heap nor have to be visited by
+ * the garbage collector. A value is identified by a {@code long} handle. Equal values are stored
+ * once and get the same handle, and shared subexpressions within a value are stored as
+ * references, so that storage scales with the number of distinct values and subexpressions.
+ * <p>
+ * The arena is no alternative representation of {@link Robust} values: values and the cache keep
+ * their postfix programs on the heap, and {@link #get(long)} materializes a value on the heap and
+ * interns it into the cache of the current thread, without any sign computation.
+ * <p>
+ * Memory is released, when the instance becomes unreachable. Instances are thread safe.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class RobustArena
+{
+
+   /**
+    * Creates a new instance with chunks of 1 MiB.
+    */
+   public RobustArena()
+   {
+
+      this(DEFAULT_CHUNK_SIZE);
+   }
+
+   /**
+    * Creates a new instance with chunks of a given size. Values, whose records exceed the size,
+    * get chunks of their own.
+    *
+    * @param chunkSize
+    *           the size of the chunks in bytes.
+    * @throws IllegalArgumentException
+    *            If the size is less than {@code 64}.
+    */
+   public RobustArena(final int chunkSize) throws IllegalArgumentException
+   {
+
+      if (chunkSize < 64)
+      {
+         throw new IllegalArgumentException("bad chunk size %d".formatted(chunkSize));
+      }
+      this.chunkSize = chunkSize;
+      this.chunks = new ArrayList<>();
+      this.handles = new long[16];
+      this.hashCodes = new int[16];
+      this.starts = new long[16];
+      this.record = ByteBuffer.allocate(64);
+   }
+
+   /**
+    * Stores a given value, unless an equal value is stored already, and returns its handle.
+    *
+    * @param value
+    *           the value.
+    * @return the handle of the value.
+    */
+   public synchronized long add(final Robust value)
+   {
+
+      // the record is encoded on the heap, so that no chunk is allocated for a duplicate
+      final int length = RobustCodec.encodedLength(value);
+      if (this.record.capacity() < length)
+      {
+         this.record = ByteBuffer.allocate(max(2 * this.record.capacity(), length));
+      }
+      RobustCodec.encodeRecord(value, this.record.clear());
+      // the record is compared with the records of equal hash code, but without the intervals
+      final int identifyingLength = RobustCodec.identifyingLength(value);
+      final ByteBuffer identifying = this.record.slice(0, identifyingLength);
+      final int hashCode = value.hashCode();
+      final int mask = this.handles.length - 1;
+      int k = mix(hashCode) & mask;
+      for (; this.handles[k] != 0L; k = k + 1 & mask)
+      {
+         final long other = this.handles[k] - 1;
+         if (this.hashCodes[k] == hashCode)
+         {
+            final ByteBuffer otherChunk = this.chunks.get((int) (other >>> 32));
+            final int otherOffset = (int) other;
+            if (otherOffset + identifyingLength <= otherChunk.capacity()
+                  && identifying.equals(otherChunk.slice(otherOffset, identifyingLength)))
+            {
+               return other;
+            }
+         }
+      }
+      ByteBuffer chunk = this.chunks.isEmpty() ? null : this.chunks.get(this.chunks.size() - 1);
+      if (chunk == null || chunk.remaining() < length)
+      {
+         chunk = ByteBuffer.allocateDirect(max(this.chunkSize, length));
+         this.chunks.add(chunk);
+      }
+      final long handle = (long) (this.chunks.size() - 1) << 32 | chunk.position();
+      chunk.put(this.record.flip());
+      this.handles[k] = handle + 1;
+      this.hashCodes[k] = hashCode;
+      if (this.size == this.starts.length)
+      {
+         this.starts = Arrays.copyOf(this.starts, 2 * this.size);
+      }
+      // handles are increasing in the order of addition
+      this.starts[this.size] = handle;
+      if (2 * ++this.size > this.handles.length)
+      {
+         rehash();
+      }
+      return handle;
+   }
+
+   /**
+    * Returns the value with a given handle.
+    *
+    * @param handle
+    *           the handle.
+    * @return the value with the handle.
+    * @throws IllegalArgumentException
+    *            If the handle has not been returned by {@link #add(Robust)}.
+    */
+   public synchronized Robust get(final long handle) throws IllegalArgumentException
+   {
+
+      // the record is decoded as trusted, so the handle must be the start of a record
+      if (Arrays.binarySearch(this.starts, 0, this.size, handle) < 0)
+      {
+         throw new IllegalArgumentException("bad handle 0x%016X".formatted(handle));
+      }
+      final ByteBuffer chunk = this.chunks.get((int) (handle >>> 32));
+      return RobustCodec.decodeRecord(chunk.duplicate().position((int) handle), true);
+   }
+
+   /**
+    * Returns the number of distinct values stored.
+    *
+    * @return the number of distinct values stored.
+    */
+   public synchronized int size()
+   {
+
+      return this.size;
+   }
+
+   /**
+    * Returns the number of bytes used by the stored values.
+    *
+    * @return the number of bytes used by the stored values.
+    */
+   public synchronized long noOfBytes()
+   {
+
+      long noOfBytes = 0;
+      for (final ByteBuffer chunk : this.chunks)
+      {
+         noOfBytes += chunk.position();
+      }
+      return noOfBytes;
+   }
+
+   private void rehash()
+   {
+
+      final long[] handles = this.handles;
+      final int[] hashCodes = this.hashCodes;
+      this.handles = new long[2 * handles.length];
+      this.hashCodes = new int[2 * hashCodes.length];
+      final int mask = this.handles.length - 1;
+      for (int j = 0; j < handles.length; j++)
+      {
+         if (handles[j] != 0L)
+         {
+            int k = mix(hashCodes[j]) & mask;
+            while (this.handles[k] != 0L)
+            {
+               k = k + 1 & mask;
+            }
+            this.handles[k] = handles[j];
+            this.hashCodes[k] = hashCodes[j];
+         }
+      }
+   }
+
+   /**
+    * Returns a hash code with well distributed low bits, as the low bits of the hash codes of
+    * {@link ConciseNumber} instances are not.
+    */
+   private static int mix(final int hashCode)
+   {
+
+      final int h = hashCode * 0x9E3779B9;
+      return h ^ h >>> 16;
+   }
+
+   private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+   /** The size of the chunks. */
+   private final int chunkSize;
+
+   /** The direct buffers holding the records, the last one being filled. */
+   private final List<ByteBuffer> chunks;
+
+   /** The open addressing index of the handles plus one, {@code 0} being empty. */
+   private long[] handles;
+
+   /** The hash codes of the values by index. */
+   private int[] hashCodes;
+
+   /** The handles of the values in the order of addition, which is increasing. */
+   private long[] starts;
+
+   /** The number of distinct values stored. */
+   private int size;
+
+   /** The buffer, in which the record of a value is encoded before it is looked up. */
+   private ByteBuffer record;
+}
@@ -0,0 +1,450 @@
+package br.eng.strauss.yaxana;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import br.eng.strauss.yaxana.epu.Algebraic;
+
+/**
+ * Evaluates the sign of one expression for many tuples of operands.
+ * <p>
+ * The expression is given as a template, whose terminals are placeholders for the operands: the
+ * {@code k}-th terminal in the order, in which terminals appear in the expression, is replaced by
+ * the {@code k}-th operand. The template is either an expression {@link String} like
+ * {@code (0-0)*(0-0)-(0-0)*(0-0)}, where the values of the terminals do not matter, or a
+ * {@link Robust}. Note that {@link Robust} simplifies operations with exact {@code double} results
+ * to terminals, so that a {@link Robust} template should be built from sample values, for which no
+ * operation is exact.
+ * <p>
+ * The postfix program of the template is evaluated with {@code double} interval arithmetic on
+ * primitive arrays holding a chunk of tuples each, without creating any {@link Robust} instances.
+ * Only tuples, whose interval does not determine the sign, are escalated to a double-double
+ * filter, and, if that fails too, to {@link Robust} arithmetic.
+ * <p>
+ * The interval arithmetic is performed by an {@link IntervalKernel}. By default, this is the first
+ * one provided as a service by an optional module like {@code br.eng.strauss.yaxana.vector}, or
+ * else {@link IntervalKernel#scalar()}.
+ * <p>
+ * Instances are immutable and thread safe.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class RobustBatch
+{
+
+   /**
+    * Returns the signs of a given template expression for given tuples of operands.
+    *
+    * @param template
+    *           the template expression.
+    * @param inputs
+    *           the operands, {@code inputs[k][n]} being the value of the {@code k}-th terminal of
+    *           the template for the {@code n}-th tuple.
+    * @return the signs, the {@code n}-th one being the sign of the template expression for the
+    *         {@code n}-th tuple.
+    * @throws IllegalArgumentException
+    *            In case the number of operands does not match the number of terminals of the
+    *            template, or in case the arrays of operands differ in length.
+    * @throws ArithmeticException
+    *            In case of division by zero and other illegal operations for some tuple.
+    */
+   public static int[] evaluate(final Robust template, final double[][] inputs)
+         throws IllegalArgumentException, ArithmeticException
+   {
+
+      return new RobustBatch(template).evaluate(inputs);
+   }
+
+   /**
+    * Creates a new instance.
+    *
+    * @param template
+    *           the template expression.
+    */
+   public RobustBatch(final Robust template)
+   {
+
+      this(template.operations, template.noOfOperands(), DEFAULT_KERNEL);
+   }
+
+   /**
+    * Creates a new instance.
+    * <p>
+    * The template is parsed like {@link Robust#valueOf(String)}, but without any simplification.
+    *
+    * @param template
+    *           the template expression, whose terminals are placeholders.
+    * @throws NumberFormatException
+    *            in case of syntax errors.
+    * @throws IllegalArgumentException
+    *            in case of {@code pow} or {@code root} with a non-positive exponent.
+    */
+   public RobustBatch(final String template) throws NumberFormatException, IllegalArgumentException
+   {
+
+      this(compile(new Algebraic(template)));
+   }
+
+   private RobustBatch(final short[] operations)
+   {
+
+      this(operations, noOfTerminals(operations), DEFAULT_KERNEL);
+   }
+
+   private RobustBatch(final short[] operations, final int noOfOperands,
+         final IntervalKernel kernel)
+   {
+
+      this.operations = operations;
+      this.noOfOperands = noOfOperands;
+      this.kernel = kernel;
+      final int[] slots = new int[operations.length];
+      Arrays.fill(slots, -1);
+      int noOfSlots = 0;
+      int depth = 0;
+      int maxDepth = 0;
+      for (int k = 0; k < operations.length; k++)
+      {
+         final int op = operations[k];
+         if (ConciseEncoder.isReference(op))
+         {
+            final int target = ConciseEncoder.target(operations, k++);
+            if (slots[target] < 0)
+            {
+               slots[target] = noOfSlots++;
+            }
+            depth++;
+         }
+         else
+         {
+            final Type type = Type.values()[op & 0xF];
+            // @formatter:off
+            switch (type)
+            {
+               case TERMINAL                -> depth++;
+               case ADD, SUB, MUL, DIV      -> depth--;
+               case NEG, ABS, POW, ROOT     -> {}
+            }
+            // @formatter:on
+         }
+         maxDepth = max(maxDepth, depth);
+      }
+      this.maxDepth = maxDepth;
+      this.slots = noOfSlots > 0 ? slots : null;
+      this.noOfSlots = noOfSlots;
+   }
+
+   /**
+    * Returns the number of operands per tuple, which is the number of terminals of the template.
+    *
+    * @return the number of operands per tuple.
+    */
+   public int noOfOperands()
+   {
+
+      return this.noOfOperands;
+   }
+
+   /**
+    * Returns the kernel performing the interval arithmetic.
+    *
+    * @return the kernel performing the interval arithmetic.
+    */
+   public IntervalKernel kernel()
+   {
+
+      return this.kernel;
+   }
+
+   /**
+    * Returns an instance evaluating the same template with a given kernel.
+    *
+    * @param kernel
+    *           the kernel performing the interval arithmetic.
+    * @return an instance evaluating the same template with the given kernel.
+    */
+   public RobustBatch withKernel(final IntervalKernel kernel)
+   {
+
+      return new RobustBatch(this.operations, this.noOfOperands, kernel);
+   }
+
+   /**
+    * Returns the signs of the template expression for given tuples of operands.
+    *
+    * @param inputs
+    *           the operands, {@code inputs[k][n]} being the value of the {@code k}-th terminal of
+    *           the template for the {@code n}-th tuple.
+    * @return the signs, the {@code n}-th one being the sign of the template expression for the
+    *         {@code n}-th tuple.
+    * @throws IllegalArgumentException
+    *            In case the number of operands does not match the number of terminals of the
+    *            template, or in case the arrays of operands differ in length.
+    * @throws ArithmeticException
+    *            In case of division by zero and other illegal operations for some tuple.
+    */
+   public int[] evaluate(final double[][] inputs)
+         throws IllegalArgumentException, ArithmeticException
+   {
+
+      if (inputs.length != this.noOfOperands)
+      {
+         throw new IllegalArgumentException("%d operands expected, but got %d".formatted(
+               this.noOfOperands, inputs.length));
+      }
+      final int noOfTuples = inputs[0].length;
+      for (final double[] input : inputs)
+      {
+         if (input.length != noOfTuples)
+         {
+            throw new IllegalArgumentException("arrays of operands differ in length");
+         }
+      }
+      final int[] signs = new int[noOfTuples];
+      // CHUNK_SIZE is a multiple of IntervalKernel.ALIGNMENT
+      final double[][] lo = new double[this.maxDepth][CHUNK_SIZE];
+      final double[][] hi = new double[this.maxDepth][CHUNK_SIZE];
+      final double[][] slotLo = new double[this.noOfSlots][CHUNK_SIZE];
+      final double[][] slotHi = new double[this.noOfSlots][CHUNK_SIZE];
+      for (int start = 0; start < noOfTuples; start += CHUNK_SIZE)
+      {
+         final int length = min(CHUNK_SIZE, noOfTuples - start);
+         evaluate(inputs, start, length, lo, hi, slotLo, slotHi);
+         final double[] resultLo = lo[0];
+         final double[] resultHi = hi[0];
+         for (int n = 0; n < length; n++)
+         {
+            final double l = resultLo[n];
+            final double h = resultHi[n];
+            if (l > 0d)
+            {
+               signs[start + n] = 1;
+            }
+            else if (h < 0d)
+            {
+               signs[start + n] = -1;
+            }
+            else if (l != 0d || h != 0d)
+            {
+               signs[start + n] = escalate(inputs, start + n);
+            }
+         }
+      }
+      return signs;
+   }
+
+   /**
+    * Evaluates the postfix program with {@code double} interval arithmetic for a chunk of tuples,
+    * leaving the result in {@code lo[0]} and {@code hi[0]}, and the results of referenced
+    * subexpressions in their slots.
+    */
+   private void evaluate(final double[][] inputs, final int start, final int length,
+         final double[][] lo, final double[][] hi, final double[][] slotLo,
+         final double[][] slotHi)
+   {
+
+      final IntervalKernel kernel = this.kernel;
+      int top = -1;
+      int kOperand = 0;
+      for (int k = 0; k < this.operations.length; k++)
+      {
+         final int op = this.operations[k];
+         if (ConciseEncoder.isReference(op))
+         {
+            final int slot = this.slots[ConciseEncoder.target(this.operations, k++)];
+            top++;
+            System.arraycopy(slotLo[slot], 0, lo[top], 0, length);
+            System.arraycopy(slotHi[slot], 0, hi[top], 0, length);
+            continue;
+         }
+         final Type type = Type.values()[op & 0xF];
+         switch (type)
+         {
+            case TERMINAL ->
+            {
+               top++;
+               System.arraycopy(inputs[kOperand], start, lo[top], 0, length);
+               System.arraycopy(inputs[kOperand], start, hi[top], 0, length);
+               kOperand++;
+            }
+            case NEG -> kernel.neg(lo[top], hi[top], length);
+            case ABS -> kernel.abs(lo[top], hi[top], length);
+            case POW -> kernel.pow(lo[top], hi[top], length, op >> 4);
+            case ROOT -> kernel.root(lo[top], hi[top], length, op >> 4);
+            case ADD, SUB, MUL, DIV ->
+            {
+               top--;
+               final double[] aLo = lo[top];
+               final double[] aHi = hi[top];
+               final double[] bLo = lo[top + 1];
+               final double[] bHi = hi[top + 1];
+               // @formatter:off
+               switch (type)
+               {
+                  case ADD -> kernel.add(aLo, aHi, bLo, bHi, length);
+                  case SUB -> kernel.sub(aLo, aHi, bLo, bHi, length);
+                  case MUL -> kernel.mul(aLo, aHi, bLo, bHi, length);
+                  default  -> kernel.div(aLo, aHi, bLo, bHi, length);
+               }
+               // @formatter:on
+            }
+         }
+         if (this.slots != null && this.slots[k] >= 0)
+         {
+            System.arraycopy(lo[top], 0, slotLo[this.slots[k]], 0, length);
+            System.arraycopy(hi[top], 0, slotHi[this.slots[k]], 0, length);
+         }
+      }
+   }
+
+   /**
+    * Returns the sign of the template expression for a tuple, whose interval does not determine
+    * the sign.
+    */
+   private int escalate(final double[][] inputs, final int n)
+   {
+
+      final double[] operands = new double[this.noOfOperands];
+      for (int k = 0; k < operands.length; k++)
+      {
+         operands[k] = inputs[k][n];
+      }
+      final int signum = DoubleDoubleFilter.signum(this.operations, operands);
+      return signum != 0 ? signum : toRobust(operands).signum();
+   }
+
+   /**
+    * Returns the template expression with given operands as a {@link Robust}.
+    */
+   Robust toRobust(final double[] operands)
+   {
+
+      final Robust[] stack = new Robust[this.maxDepth];
+      final Robust[] shared = new Robust[this.noOfSlots];
+      int top = -1;
+      int kOperand = 0;
+      for (int k = 0; k < this.operations.length; k++)
+      {
+         final int op = this.operations[k];
+         if (ConciseEncoder.isReference(op))
+         {
+            stack[++top] = shared[this.slots[ConciseEncoder.target(this.operations, k++)]];
+            continue;
+         }
+         final Type type = Type.values()[op & 0xF];
+         switch (type)
+         {
+            // @formatter:off
+            case TERMINAL -> stack[++top] = Robust.valueOf(operands[kOperand++]);
+            case NEG  -> stack[top] = stack[top].neg();
+            case ABS  -> stack[top] = stack[top].abs();
+            case POW  -> stack[top] = stack[top].pow (op >> 4);
+            case ROOT -> stack[top] = stack[top].root(op >> 4);
+            case ADD  -> { top--; stack[top] = stack[top].add(stack[top + 1]); }
+            case SUB  -> { top--; stack[top] = stack[top].sub(stack[top + 1]); }
+            case MUL  -> { top--; stack[top] = stack[top].mul(stack[top + 1]); }
+            case DIV  -> { top--; stack[top] = stack[top].div(stack[top + 1]); }
+            // @formatter:on
+         }
+         if (this.slots != null && this.slots[k] >= 0)
+         {
+            shared[this.slots[k]] = stack[top];
+         }
+      }
+      return stack[0];
+   }
+
+   /**
+    * Returns the operations of a given abstract syntax tree in reverse polish notation.
+    */
+   private static short[] compile(final SyntaxTree<?> st)
+   {
+
+      final List<Short> operations = new ArrayList<>();
+      compile(st, operations);
+      final short[] array = new short[operations.size()];
+      for (int k = 0; k < array.length; k++)
+      {
+         array[k] = operations.get(k);
+      }
+      return array;
+   }
+
+   private static void compile(final SyntaxTree<?> st, final List<Short> operations)
+   {
+
+      final Type type = st.type();
+      int exponent = 0;
+      switch (type)
+      {
+         case TERMINAL ->
+         {
+         }
+         case NEG, ABS -> compile(st.left(), operations);
+         case POW, ROOT ->
+         {
+            compile(st.left(), operations);
+            exponent = st.index();
+            if (exponent < 1 || exponent > Robust.MAX_EXPONENT)
+            {
+               throw new IllegalArgumentException("exponent %d not supported".formatted(exponent));
+            }
+         }
+         case ADD, SUB, MUL, DIV ->
+         {
+            compile(st.left(), operations);
+            compile(st.right(), operations);
+         }
+      }
+      operations.add((short) (type.ordinal() + (exponent << 4)));
+   }
+
+   private static int noOfTerminals(final short[] operations)
+   {
+
+      int noOfTerminals = 0;
+      for (int k = 0; k < operations.length; k++)
+      {
+         if (ConciseEncoder.isReference(operations[k]))
+         {
+            k++;
+         }
+         else if ((operations[k] & 0xF) == Type.TERMINAL.ordinal())
+         {
+            noOfTerminals++;
+         }
+      }
+      return noOfTerminals;
+   }
+
+   /** The number of tuples evaluated together. */
+   private static final int CHUNK_SIZE = 256;
+
+   /** The kernel provided by an optional module, or else the scalar one. */
+   private static final IntervalKernel DEFAULT_KERNEL = ServiceLoader
+         .load(IntervalKernel.class).findFirst().orElse(IntervalKernel.scalar());
+
+   /** The operations of the template in reverse polish notation. */
+   private final short[] operations;
+
+   /** The number of terminals of the template. */
+   private final int noOfOperands;
+
+   /** The maximum depth of the evaluation stack. */
+   private final int maxDepth;
+
+   /** The slot of a referenced subexpression by position, or {@code null} without references. */
+   private final int[] slots;
+
+   /** The number of referenced subexpressions. */
+   private final int noOfSlots;
+
+   /** The kernel performing the interval arithmetic. */
+   private final IntervalKernel kernel;
+}
@@ -0,0 +1,466 @@
+package br.eng.strauss.yaxana;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.eng.strauss.yaxana.exc.DivisionByZeroException;
+import br.eng.strauss.yaxana.exc.NegativeRadicandException;
+
+/**
+ * Compact versioned binary format of sequences of {@link Robust} values.
+ * <p>
+ * The format is big endian and starts with a header of the magic number {@link #MAGIC}, the
+ * {@link #VERSION} byte and the number of values. Each value follows as a record, which is
+ * <ul>
+ * <li>a terminal: the tag {@code 0} and the {@code double} value,</li>
+ * <li>a back-reference to an equal value written before: the tag {@code 1} and the {@code int}
+ * position of the first occurrence of that value in the sequence, or</li>
+ * <li>an expression: the tag {@code 2}, the {@code int} numbers of operations and operands, the
+ * {@code short} operations in reverse polish notation including references to shared
+ * subexpressions, the {@code double} operands, and the {@code double} value, lower and upper
+ * bound of the decided interval.</li>
+ * </ul>
+ * <p>
+ * Decoding reads the primitive arrays directly from the buffer and checks the postfix programs
+ * and the intervals. By default, the encoding is untrusted: the expressions are rebuilt by
+ * arithmetic on their terminals, which computes their intervals and signs. Only an encoding
+ * decoded as trusted is interned with its intervals into the cache of the current thread,
+ * without any sign computation. The signs of lazily determined values (see
+ * {@link Robusts#setLazySignDetermination(boolean)}) are determined on encoding.
+ * <p>
+ * The byte order of the buffers does not matter and is preserved.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class RobustCodec
+{
+
+   /**
+    * Returns the number of bytes of the encoding of given values.
+    *
+    * @param values
+    *           the values.
+    * @return the number of bytes of the encoding of the values.
+    */
+   public static int encodedLength(final Collection<? extends Robust> values)
+   {
+
+      long length = HEADER_LENGTH;
+      final Map<Robust, Integer> indices = new HashMap<>();
+      for (final Robust value : values)
+      {
+         if (indices.putIfAbsent(value, indices.size()) != null)
+         {
+            length += 1 + Integer.BYTES;
+         }
+         else
+         {
+            length += encodedLength(value);
+         }
+      }
+      if (length > Integer.MAX_VALUE)
+      {
+         throw new IllegalArgumentException("encoding exceeds 2 GiB");
+      }
+      return (int) length;
+   }
+
+   /**
+    * Returns a new buffer holding the encoding of given values, ready to be read.
+    *
+    * @param values
+    *           the values.
+    * @return a new buffer holding the encoding of the values.
+    */
+   public static ByteBuffer encode(final Collection<? extends Robust> values)
+   {
+
+      final ByteBuffer buffer = ByteBuffer.allocate(encodedLength(values));
+      encode(values, buffer);
+      return buffer.flip();
+   }
+
+   /**
+    * Writes the encoding of given values to a given buffer, starting at its position, and
+    * advances its position.
+    *
+    * @param values
+    *           the values.
+    * @param buffer
+    *           the buffer.
+    * @throws BufferOverflowException
+    *            If the buffer has less than {@link #encodedLength(Collection)} bytes remaining.
+    */
+   public static void encode(final Collection<? extends Robust> values, final ByteBuffer buffer)
+         throws BufferOverflowException
+   {
+
+      final ByteOrder order = buffer.order();
+      buffer.order(ByteOrder.BIG_ENDIAN);
+      try
+      {
+         buffer.putInt(MAGIC);
+         buffer.put(VERSION);
+         buffer.putInt(values.size());
+         // back-references are positions in the sequence, as which they are resolved on decoding
+         final Map<Robust, Integer> indices = new HashMap<>();
+         int position = 0;
+         for (final Robust value : values)
+         {
+            final Integer index = indices.putIfAbsent(value, position++);
+            if (index != null)
+            {
+               buffer.put(BACK_REFERENCE);
+               buffer.putInt(index);
+            }
+            else
+            {
+               encodeRecord(value, buffer);
+            }
+         }
+      }
+      finally
+      {
+         buffer.order(order);
+      }
+   }
+
+   /**
+    * Reads values from a given untrusted buffer, starting at its position, and advances its
+    * position.
+    *
+    * @param buffer
+    *           the buffer.
+    * @return the values.
+    * @throws IllegalArgumentException
+    *            If the buffer does not hold a valid encoding.
+    * @throws BufferUnderflowException
+    *            If the encoding is truncated.
+    * @see #decode(ByteBuffer, boolean)
+    */
+   public static List<Robust> decode(final ByteBuffer buffer)
+         throws IllegalArgumentException, BufferUnderflowException
+   {
+
+      return decode(buffer, false);
+   }
+
+   /**
+    * Reads values from a given buffer, starting at its position, and advances its position.
+    *
+    * @param buffer
+    *           the buffer.
+    * @param trusted
+    *           Whether the buffer holds an encoding by {@link #encode(Collection, ByteBuffer)},
+    *           which has not been modified since. The intervals of a trusted encoding decide the
+    *           signs of the values, otherwise the signs are computed.
+    * @return the values.
+    * @throws IllegalArgumentException
+    *            If the buffer does not hold a valid encoding.
+    * @throws BufferUnderflowException
+    *            If the encoding is truncated.
+    */
+   public static List<Robust> decode(final ByteBuffer buffer, final boolean trusted)
+         throws IllegalArgumentException, BufferUnderflowException
+   {
+
+      final ByteOrder order = buffer.order();
+      buffer.order(ByteOrder.BIG_ENDIAN);
+      try
+      {
+         final int magic = buffer.getInt();
+         if (magic != MAGIC)
+         {
+            throw new IllegalArgumentException("bad magic number 0x%08X".formatted(magic));
+         }
+         final byte version = buffer.get();
+         if (version != VERSION)
+         {
+            throw new IllegalArgumentException("unsupported version %d".formatted(version));
+         }
+         final int noOfValues = buffer.getInt();
+         if (noOfValues < 0)
+         {
+            throw new IllegalArgumentException("bad number of values %d".formatted(noOfValues));
+         }
+         final List<Robust> values = new ArrayList<>(Math.min(noOfValues, buffer.remaining()));
+         for (int k = 0; k < noOfValues; k++)
+         {
+            if (buffer.get(buffer.position()) == BACK_REFERENCE)
+            {
+               buffer.get();
+               final int index = buffer.getInt();
+               if (index < 0 || index >= k)
+               {
+                  throw new IllegalArgumentException("bad back-reference %d".formatted(index));
+               }
+               values.add(values.get(index));
+            }
+            else
+            {
+               values.add(decodeRecord(buffer, trusted));
+            }
+         }
+         return values;
+      }
+      finally
+      {
+         buffer.order(order);
+      }
+   }
+
+   /**
+    * Returns the number of bytes of the record of a given value.
+    *
+    * @param value
+    *           the value.
+    * @return the number of bytes of the record of the value.
+    */
+   static int encodedLength(final Robust value)
+   {
+
+      if (value.type() == Type.TERMINAL)
+      {
+         return 1 + Double.BYTES;
+      }
+      return 1 + 2 * Integer.BYTES + Short.BYTES * value.operations.length
+            + Double.BYTES * (value.operands.length + 3);
+   }
+
+   /**
+    * Returns the number of bytes of the record of a given value, which identify the value, i.e.
+    * without its interval.
+    *
+    * @param value
+    *           the value.
+    * @return the number of bytes of the record of the value, which identify the value.
+    */
+   static int identifyingLength(final Robust value)
+   {
+
+      return encodedLength(value) - (value.type() == Type.TERMINAL ? 0 : 3 * Double.BYTES);
+   }
+
+   /**
+    * Writes the record of a given value to a given big endian buffer.
+    *
+    * @param value
+    *           the value.
+    * @param buffer
+    *           the buffer.
+    * @throws BufferOverflowException
+    *            If the buffer has less than {@link #encodedLength(Robust)} bytes remaining.
+    */
+   static void encodeRecord(final Robust value, final ByteBuffer buffer)
+         throws BufferOverflowException
+   {
+
+      if (value.type() == Type.TERMINAL)
+      {
+         buffer.put(TERMINAL);
+         buffer.putDouble(value.operands[0]);
+      }
+      else
+      {
+         buffer.put(EXPRESSION);
+         buffer.putInt(value.operations.length);
+         buffer.putInt(value.operands.length);
+         buffer.asShortBuffer().put(value.operations);
+         buffer.position(buffer.position() + Short.BYTES * value.operations.length);
+         buffer.asDoubleBuffer().put(value.operands);
+         buffer.position(buffer.position() + Double.BYTES * value.operands.length);
+         buffer.putDouble(value.doubleValue());
+         buffer.putDouble(value.lowerBound());
+         buffer.putDouble(value.upperBound());
+      }
+   }
+
+   /**
+    * Reads the record of a value from a given big endian buffer.
+    *
+    * @param buffer
+    *           the buffer.
+    * @param trusted
+    *           whether the interval of the record decides the sign of the value.
+    * @return the value.
+    * @throws IllegalArgumentException
+    *            If the buffer does not hold a valid record.
+    * @throws BufferUnderflowException
+    *            If the record is truncated.
+    */
+   static Robust decodeRecord(final ByteBuffer buffer, final boolean trusted)
+         throws IllegalArgumentException, BufferUnderflowException
+   {
+
+      final byte tag = buffer.get();
+      return switch (tag)
+      {
+         case TERMINAL -> Robust.valueOf(buffer.getDouble());
+         case EXPRESSION -> decodeExpression(buffer, trusted);
+         default -> throw new IllegalArgumentException("bad tag %d".formatted(tag));
+      };
+   }
+
+   private static Robust decodeExpression(final ByteBuffer buffer, final boolean trusted)
+   {
+
+      final int noOfOperations = buffer.getInt();
+      final int noOfOperands = buffer.getInt();
+      if (noOfOperations <= 0 || noOfOperands <= 0 || noOfOperands > noOfOperations
+            || noOfOperations > buffer.remaining() / Short.BYTES)
+      {
+         throw new IllegalArgumentException("bad expression size %d/%d".formatted(noOfOperations,
+               noOfOperands));
+      }
+      final short[] operations = new short[noOfOperations];
+      buffer.asShortBuffer().get(operations);
+      buffer.position(buffer.position() + Short.BYTES * noOfOperations);
+      final double[] operands = new double[noOfOperands];
+      buffer.asDoubleBuffer().get(operands);
+      buffer.position(buffer.position() + Double.BYTES * noOfOperands);
+      final double value = buffer.getDouble();
+      final double lo = buffer.getDouble();
+      final double hi = buffer.getDouble();
+      check(operations, noOfOperands);
+      // a decided interval does not contain values of the opposite sign of the value, and only
+      // the interval of zero contains zero and a value of zero
+      final boolean decided = value > 0d ? lo >= 0d : value < 0d ? hi <= 0d : lo == 0d && hi == 0d;
+      if (!(lo <= value && value <= hi && decided))
+      {
+         throw new IllegalArgumentException("bad interval [%s;%s] of %s".formatted(lo, hi, value));
+      }
+      if (!trusted)
+      {
+         return evaluate(operations, operands);
+      }
+      final int hashCode = ConciseEncoder.hashCode(operations, operands);
+      // the interval is decided, hence the sign is the sign of the value
+      return Robust.valueOf(operations, operands, hashCode, value, lo, hi, false, false);
+   }
+
+   /**
+    * Returns the value of a given valid postfix program, rebuilt by arithmetic on its terminals,
+    * so that its interval and its sign are computed rather than read.
+    */
+   private static Robust evaluate(final short[] operations, final double[] operands)
+         throws IllegalArgumentException
+   {
+
+      final Robust[] values = new Robust[operations.length];
+      final Deque<Robust> stack = new ArrayDeque<>();
+      try
+      {
+         for (int k = 0, kOperand = 0; k < operations.length; k++)
+         {
+            final int op = operations[k];
+            if (ConciseEncoder.isReference(op))
+            {
+               stack.push(values[ConciseEncoder.target(operations, k++)]);
+               continue;
+            }
+            switch (Type.values()[op & 0xF])
+            {
+               // @formatter:off
+               case TERMINAL -> { stack.push(Robust.valueOf(operands[kOperand++])); }
+               case NEG  -> { stack.push(stack.pop().neg()); }
+               case ABS  -> { stack.push(stack.pop().abs()); }
+               case POW  -> { stack.push(stack.pop().pow (op >> 4)); }
+               case ROOT -> { stack.push(stack.pop().root(op >> 4)); }
+               case ADD  -> { final Robust b = stack.pop(); stack.push(stack.pop().add(b)); }
+               case SUB  -> { final Robust b = stack.pop(); stack.push(stack.pop().sub(b)); }
+               case MUL  -> { final Robust b = stack.pop(); stack.push(stack.pop().mul(b)); }
+               case DIV  -> { final Robust b = stack.pop(); stack.push(stack.pop().div(b)); }
+               // @formatter:on
+            }
+            values[k] = stack.peek();
+         }
+      }
+      catch (final DivisionByZeroException | NegativeRadicandException e)
+      {
+         throw new IllegalArgumentException("bad expression", e);
+      }
+      return stack.pop();
+   }
+
+   /**
+    * Checks, whether a given postfix program is valid, with references to previous non-terminal
+    * operations only.
+    */
+   private static void check(final short[] operations, final int noOfOperands)
+         throws IllegalArgumentException
+   {
+
+      final boolean[] referable = new boolean[operations.length];
+      int depth = 0;
+      int noOfTerminals = 0;
+      for (int k = 0; k < operations.length; k++)
+      {
+         final int op = operations[k];
+         if (ConciseEncoder.isReference(op))
+         {
+            final int target = k + 1 < operations.length ? ConciseEncoder.target(operations, k)
+                  : -1;
+            if (target < 0 || target >= k || !referable[target])
+            {
+               throw new IllegalArgumentException("bad reference at %d".formatted(k));
+            }
+            depth++;
+            k++;
+            continue;
+         }
+         if ((op & 0xF) >= Type.values().length)
+         {
+            throw new IllegalArgumentException("bad operation 0x%04X at %d".formatted(op, k));
+         }
+         final Type type = Type.values()[op & 0xF];
+         final int exponent = op >> 4 & 0xFFF;
+         // @formatter:off
+         final boolean valid = switch (type)
+         {
+            case TERMINAL            -> { noOfTerminals++; depth++; yield exponent == 0; }
+            case NEG, ABS            -> depth >= 1 && exponent == 0;
+            case POW, ROOT           -> depth >= 1 && exponent >= 1
+                                           && exponent <= ConciseNumber.MAX_EXPONENT;
+            case ADD, SUB, MUL, DIV  -> depth-- >= 2 && exponent == 0;
+         };
+         // @formatter:on
+         if (!valid)
+         {
+            throw new IllegalArgumentException("bad operation 0x%04X at %d".formatted(op, k));
+         }
+         referable[k] = type != Type.TERMINAL;
+      }
+      if (depth != 1 || noOfTerminals != noOfOperands || !referable[operations.length - 1])
+      {
+         throw new IllegalArgumentException("bad postfix program");
+      }
+   }
+
+   private RobustCodec()
+   {
+   }
+
+   /** The magic number at the start of an encoding. */
+   public static final int MAGIC = 0x59584E52;
+
+   /** The version of the format. */
+   public static final byte VERSION = 1;
+
+   private static final int HEADER_LENGTH = Integer.BYTES + 1 + Integer.BYTES;
+
+   private static final byte TERMINAL = 0;
+
+   private static final byte BACK_REFERENCE = 1;
+
+   private static final byte EXPRESSION = 2;
+}
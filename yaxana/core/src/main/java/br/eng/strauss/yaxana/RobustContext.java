@@ -0,0 +1,219 @@
+package br.eng.strauss.yaxana;
+
+import java.util.function.Supplier;
+
+import br.eng.strauss.yaxana.epu.Cache;
+
+/**
+ * Scope with its own cache for {@link Robust} instances.
+ * <p>
+ * By default all threads share one process wide cache (see
+ * {@link Robusts#setMaximumCacheSize(int)}). A context binds a cache of its own to the thread,
+ * which opens it, until it is closed. Hence, independent jobs do not evict each other's entries,
+ * and {@link Robusts#clearCache()} within a context only clears the cache of the context. Closing
+ * a context drops its cache in constant time.
+ * <p>
+ * Typical use:
+ * 
+ * <pre>
+ * try (RobustContext context = RobustContext.open(100_000))
+ * {
+ *    ...
+ * }
+ * </pre>
+ * <p>
+ * Other threads, e.g. workers of the job, may use the cache of a context via
+ * {@link #run(Runnable)} or {@link #call(Supplier)}. Contexts may be nested, and must be closed in
+ * reverse order then.
+ * <p>
+ * Note, that {@link Robust} instances created in different contexts are equal, but not necessarily
+ * identical, if they represent the same expression.
+ * 
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class RobustContext implements AutoCloseable
+{
+
+   /**
+    * Eviction policies of the cache of a context.
+    */
+   public enum Eviction
+   {
+      /** Least recently used entries are evicted first. */
+      LEAST_RECENTLY_USED,
+      /** Least recently stored entries are evicted first. */
+      FIRST_IN_FIRST_OUT;
+   }
+
+   /**
+    * Opens a new context with {@link Eviction#LEAST_RECENTLY_USED least recently used} eviction and
+    * binds it to the current thread.
+    * 
+    * @param maximumCacheSize
+    *           the maximum size of the cache of the context (see
+    *           {@link Robusts#setMaximumCacheSize(int)}).
+    * @return the new context.
+    */
+   public static RobustContext open(final int maximumCacheSize)
+   {
+
+      return open(maximumCacheSize, Eviction.LEAST_RECENTLY_USED);
+   }
+
+   /**
+    * Opens a new context and binds it to the current thread.
+    * 
+    * @param maximumCacheSize
+    *           the maximum size of the cache of the context (see
+    *           {@link Robusts#setMaximumCacheSize(int)}).
+    * @param eviction
+    *           the eviction policy of the cache of the context.
+    * @return the new context.
+    */
+   public static RobustContext open(final int maximumCacheSize, final Eviction eviction)
+   {
+
+      final Cache cache = new Cache(maximumCacheSize, eviction == Eviction.LEAST_RECENTLY_USED);
+      return new RobustContext(cache, Cache.bind(cache));
+   }
+
+   /**
+    * Runs a given task on the current thread using the cache of this context.
+    * 
+    * @param task
+    *           the task.
+    * @throws IllegalStateException
+    *            If this context has been closed.
+    */
+   public void run(final Runnable task) throws IllegalStateException
+   {
+
+      call(() -> {
+         task.run();
+         return null;
+      });
+   }
+
+   /**
+    * Calls a given task on the current thread using the cache of this context.
+    * 
+    * @param <T>
+    *           the type of the result.
+    * @param task
+    *           the task.
+    * @return the result of the task.
+    * @throws IllegalStateException
+    *            If this context has been closed.
+    */
+   public <T> T call(final Supplier<T> task) throws IllegalStateException
+   {
+
+      final Cache previous = Cache.bind(cache());
+      try
+      {
+         return task.get();
+      }
+      finally
+      {
+         Cache.bind(previous);
+      }
+   }
+
+   /**
+    * Returns the maximum size of the cache of this context.
+    * 
+    * @return the maximum size of the cache of this context.
+    * @throws IllegalStateException
+    *            If this context has been closed.
+    */
+   public int getMaximumCacheSize() throws IllegalStateException
+   {
+
+      return cache().getMaximumSize();
+   }
+
+   /**
+    * Sets the maximum size of the cache of this context.
+    * 
+    * @param maximumCacheSize
+    *           the maximum size of the cache of this context.
+    * @throws IllegalStateException
+    *            If this context has been closed.
+    */
+   public void setMaximumCacheSize(final int maximumCacheSize) throws IllegalStateException
+   {
+
+      cache().setMaximumSize(maximumCacheSize);
+   }
+
+   /**
+    * Returns the number of entries in the cache of this context.
+    * 
+    * @return the number of entries in the cache of this context.
+    * @throws IllegalStateException
+    *            If this context has been closed.
+    */
+   public int noOfCacheEntries() throws IllegalStateException
+   {
+
+      return cache().noOfEntries();
+   }
+
+   /**
+    * Closes this context, drops its cache and rebinds the context, which has been bound to the
+    * current thread before this context has been opened.
+    * <p>
+    * Closing a closed context has no effect.
+    * 
+    * @throws IllegalStateException
+    *            If not called by the thread, which has opened this context, or if a context opened
+    *            after this context on that thread has not been closed yet.
+    */
+   @Override
+   public void close() throws IllegalStateException
+   {
+
+      if (this.cache != null)
+      {
+         if (Thread.currentThread() != this.owner)
+         {
+            throw new IllegalStateException(
+                  "context must be closed by the thread, which opened it");
+         }
+         if (Cache.current() != this.cache)
+         {
+            // rebinding the previous cache would resurrect it after a nested context is closed
+            throw new IllegalStateException("nested context must be closed first");
+         }
+         Cache.bind(this.previous);
+         this.cache = null;
+         this.previous = null;
+      }
+   }
+
+   private Cache cache()
+   {
+
+      final Cache cache = this.cache;
+      if (cache == null)
+      {
+         throw new IllegalStateException("context is closed");
+      }
+      return cache;
+   }
+
+   private RobustContext(final Cache cache, final Cache previous)
+   {
+
+      this.cache = cache;
+      this.previous = previous;
+      this.owner = Thread.currentThread();
+   }
+
+   private final Thread owner;
+
+   private volatile Cache cache;
+
+   private Cache previous;
+}
@@ -2,12 +2,27 @@ package br.eng.strauss.yaxana;
 
 import static java.lang.StackWalker.Option.RETAIN_CLASS_REFERENCE;
 
+import java.lang.management.ManagementFactory;
 import java.util.Formatter;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
 import br.eng.strauss.yaxana.big.BigFloat;
+import br.eng.strauss.yaxana.epu.Algebraic;
 import br.eng.strauss.yaxana.epu.Cache;
+import br.eng.strauss.yaxana.epu.EPUStats;
+import br.eng.strauss.yaxana.pdc.BudgetMeter;
+import br.eng.strauss.yaxana.pdc.PDCTools;
 import br.eng.strauss.yaxana.rnd.RandomRobust;
 
 /**
@@ -27,6 +42,15 @@ public final class Robusts
     * avoid cache overflow.
     * <p>
     * Lowering the maximum size of the cache may eject cached entries.
+    * <p>
+    * An instance, whose sign has been computed by arbitrary precision arithmetic while caching is
+    * switched on, keeps the expression of the sign computation alive, including the arbitrary
+    * precision approximations of all its subexpressions, so that later sign computations reuse
+    * them. These may take much more memory than the instance itself, in particular for signs,
+    * which needed high precision, and are released, when the instance has been evicted from the
+    * cache and is no more referenced by the application.
+    * <p>
+    * Within a {@link RobustContext} this applies to the cache of the context.
     * 
     * @param maximumCacheSize
     *           The maximum size of the cache. The size of the cache is the total number of nodes of
@@ -37,7 +61,7 @@ public final class Robusts
    public static void setMaximumCacheSize(final int maximumCacheSize)
    {
 
-      Cache.getInstance().setMaximumSize(maximumCacheSize);
+      Cache.current().setMaximumSize(maximumCacheSize);
    }
 
    /**
@@ -50,7 +74,7 @@ public final class Robusts
    public static int getMaximumCacheSize()
    {
 
-      return Cache.getInstance().getMaximumSize();
+      return Cache.current().getMaximumSize();
    }
 
    /**
@@ -66,13 +90,13 @@ public final class Robusts
 
       if (formatter != null)
       {
-         Cache.getInstance().print(indent, formatter);
+         Cache.current().print(indent, formatter);
       }
       else
       {
          try (final Formatter f = new Formatter(System.out))
          {
-            Cache.getInstance().print(indent, f);
+            Cache.current().print(indent, f);
          }
       }
    }
@@ -96,12 +120,14 @@ public final class Robusts
    /**
     * Clears the cache.
     * <p>
+    * Within a {@link RobustContext} only the cache of the context is cleared.
+    * <p>
     * For more relevant info about the cache see {@link #setMaximumCacheSize(int)}.
     */
    public static void clearCache()
    {
 
-      Cache.getInstance().clear();
+      Cache.current().clear();
    }
 
    /**
@@ -145,7 +171,279 @@ public final class Robusts
       }
    }
 
+   /**
+    * Switches the lazy sign determination of {@link Robust} sums and differences on or off.
+    * <p>
+    * By default the sign of a {@link Robust} value is determined, when the value is created. If
+    * {@code double} interval arithmetic cannot determine the sign of a sum or difference, this
+    * requires arbitrary precision arithmetic, which is wasted, if the sign is never needed, e.g.
+    * for intermediate terms of long sums.
+    * <p>
+    * With lazy sign determination such a sum or difference keeps its interval, and its sign is
+    * determined once, when first needed, i.e. by {@link Robust#signum()},
+    * {@link Robust#compareTo(Robust)}, {@link Robust#doubleValue()}, its bounds, or by any
+    * operation other than {@link Robust#add(Robust)} and {@link Robust#sub(Robust)}.
+    * <p>
+    * The setting applies to values created afterwards.
+    * 
+    * @param lazySignDetermination
+    *           whether to switch the lazy sign determination on or off. The default is
+    *           {@code false}.
+    */
+   public static void setLazySignDetermination(final boolean lazySignDetermination)
+   {
+
+      Robust.lazySignDetermination = lazySignDetermination;
+   }
+
+   /**
+    * Returns whether the lazy sign determination of {@link Robust} sums and differences is
+    * switched on.
+    * <p>
+    * For more relevant info see {@link #setLazySignDetermination(boolean)}.
+    * 
+    * @return whether the lazy sign determination is switched on.
+    */
+   public static boolean isLazySignDetermination()
+   {
+
+      return Robust.lazySignDetermination;
+   }
+
+   /**
+    * Installs a persistent store of signs, which is consulted before and records the result of
+    * each sign computation by arbitrary precision arithmetic.
+    * <p>
+    * Closing the store uninstalls it.
+    * 
+    * @param store
+    *           the store, or {@code null} to uninstall the installed one, which is the default.
+    */
+   public static void setSignStore(final SignStore store)
+   {
+
+      SignStore.installed = store;
+   }
+
+   /**
+    * Returns the installed persistent store of signs, or {@code null}.
+    * <p>
+    * For more relevant info see {@link #setSignStore(SignStore)}.
+    * 
+    * @return the installed persistent store of signs, or {@code null}.
+    */
+   public static SignStore getSignStore()
+   {
+
+      return SignStore.installed;
+   }
+
+   /**
+    * Sets the minimum precision, which triggers parallel evaluation.
+    * <p>
+    * If precision driven computation of a {@link Robust} value requires at least the given
+    * precision, the two operands of sums, differences and products are approximated in parallel on
+    * the common {@link java.util.concurrent.ForkJoinPool}. This may pay off for large expressions,
+    * which need high precisions. For small expressions the overhead of forking is likely to exceed
+    * the gain.
+    * 
+    * @param parallelThreshold
+    *           the minimum precision in bits. Use {@link Integer#MAX_VALUE} to switch off parallel
+    *           evaluation, which is the default.
+    */
+   public static void setParallelEvaluationThreshold(final int parallelThreshold)
+   {
+
+      PDCTools.setParallelThreshold(parallelThreshold);
+   }
+
+   /**
+    * Returns the minimum precision, which triggers parallel evaluation.
+    * <p>
+    * For more relevant info see {@link #setParallelEvaluationThreshold(int)}.
+    * 
+    * @return the minimum precision, which triggers parallel evaluation.
+    */
+   public static int getParallelEvaluationThreshold()
+   {
+
+      return PDCTools.getParallelThreshold();
+   }
+
+   /**
+    * Sets the strategy to raise the precision of approximations during sign computation.
+    * 
+    * @param schedule
+    *           the strategy. The default is {@link PrecisionSchedule#doubling()}.
+    * @throws NullPointerException
+    *            if {@code schedule} is {@code null}.
+    */
+   public static void setPrecisionSchedule(final PrecisionSchedule schedule)
+         throws NullPointerException
+   {
+
+      Algebraic.setPrecisionSchedule(Objects.requireNonNull(schedule));
+   }
+
+   /**
+    * Returns the strategy to raise the precision of approximations during sign computation.
+    * 
+    * @return the strategy to raise the precision of approximations during sign computation.
+    */
+   public static PrecisionSchedule getPrecisionSchedule()
+   {
+
+      return Algebraic.getPrecisionSchedule();
+   }
+
+   /**
+    * Returns the future sign of the value supplied by a given task, which is run on the common
+    * {@link ForkJoinPool}.
+    * <p>
+    * For more relevant info see {@link #signumAsync(Supplier, Executor)}.
+    * 
+    * @param expression
+    *           the task, which supplies the value.
+    * @return the future sign of the value.
+    * @throws NullPointerException
+    *            if {@code expression} is {@code null}.
+    */
+   public static CompletableFuture<Integer> signumAsync(final Supplier<Robust> expression)
+         throws NullPointerException
+   {
+
+      return signumAsync(expression, ForkJoinPool.commonPool());
+   }
+
+   /**
+    * Returns the future sign of the value supplied by a given task, which is run by a given
+    * executor.
+    * <p>
+    * The sign of a {@link Robust} value is computed, when the value is created, hence the task
+    * should create the value, e.g. {@code () -> a.mul(b).sub(c)}. The task runs with the cache of
+    * the {@link RobustContext} and within the {@link SignBudget} of the calling thread.
+    * <p>
+    * Completing the returned future in any way, e.g. by {@link CompletableFuture#cancel(boolean)}
+    * or {@link CompletableFuture#orTimeout(long, java.util.concurrent.TimeUnit)}, cancels the
+    * computation, which then stops at its next precision increment or approximation of a node.
+    * So does interrupting the thread, which runs the task. Either way the task ends with a
+    * {@link CancellationException}.
+    * 
+    * @param expression
+    *           the task, which supplies the value.
+    * @param executor
+    *           the executor to run the task.
+    * @return the future sign of the value.
+    * @throws NullPointerException
+    *            if {@code expression} or {@code executor} is {@code null}.
+    */
+   public static CompletableFuture<Integer> signumAsync(final Supplier<Robust> expression,
+         final Executor executor) throws NullPointerException
+   {
+
+      Objects.requireNonNull(expression);
+      Objects.requireNonNull(executor);
+      final Cache cache = Cache.current();
+      final BudgetMeter meter = new BudgetMeter(Integer.MAX_VALUE, Integer.MAX_VALUE,
+            Long.MAX_VALUE, Long.MAX_VALUE, BudgetMeter.current());
+      final CompletableFuture<Integer> future = new CompletableFuture<>();
+      future.whenComplete((signum, e) -> meter.cancel());
+      final Runnable task = () -> {
+         if (!future.isDone())
+         {
+            final Cache previousCache = Cache.bind(cache);
+            final BudgetMeter previousMeter = BudgetMeter.bind(meter);
+            try
+            {
+               future.complete(expression.get().signum());
+            }
+            catch (final RuntimeException | Error e)
+            {
+               future.completeExceptionally(e);
+            }
+            finally
+            {
+               BudgetMeter.bind(previousMeter);
+               Cache.bind(previousCache);
+            }
+         }
+      };
+      try
+      {
+         executor.execute(task);
+      }
+      catch (final RejectedExecutionException e)
+      {
+         future.completeExceptionally(e);
+      }
+      return future;
+   }
+
+   /**
+    * Returns the process wide metrics of sign computation and of the cache.
+    * 
+    * @return the process wide metrics of sign computation and of the cache.
+    */
+   public static SignMetricsMXBean getSignMetrics()
+   {
+
+      return EPUStats.getInstance();
+   }
+
+   /**
+    * Registers the metrics returned by {@link #getSignMetrics()} with the platform MBean server
+    * under the name {@value #SIGN_METRICS_NAME}, unless they are registered already.
+    * 
+    * @throws IllegalStateException
+    *            In case the registration fails.
+    */
+   public static void registerSignMetrics() throws IllegalStateException
+   {
+
+      try
+      {
+         final ObjectName name = new ObjectName(SIGN_METRICS_NAME);
+         ManagementFactory.getPlatformMBeanServer().registerMBean(getSignMetrics(), name);
+      }
+      catch (final InstanceAlreadyExistsException e)
+      {
+         // registered already
+      }
+      catch (final JMException e)
+      {
+         throw new IllegalStateException(e);
+      }
+   }
+
+   /**
+    * Adds a listener, which is notified of each sign of a {@link Robust} value, which
+    * {@code double} interval arithmetic does not determine.
+    * 
+    * @param listener
+    *           the listener.
+    */
+   public static void addSignListener(final SignListener listener)
+   {
+
+      EPUStats.getInstance().addListener(Objects.requireNonNull(listener));
+   }
+
+   /**
+    * Removes a listener added by {@link #addSignListener(SignListener)}.
+    * 
+    * @param listener
+    *           the listener.
+    */
+   public static void removeSignListener(final SignListener listener)
+   {
+
+      EPUStats.getInstance().removeListener(listener);
+   }
+
    private Robusts()
    {
    }
+
+   /** The JMX object name of the metrics of sign computation. */
+   public static final String SIGN_METRICS_NAME = "br.eng.strauss.yaxana:type=SignMetrics";
 }
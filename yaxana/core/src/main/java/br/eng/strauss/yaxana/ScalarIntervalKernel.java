@@ -0,0 +1,218 @@
+package br.eng.strauss.yaxana;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.nextDown;
+import static java.lang.Math.nextUp;
+
+/**
+ * The implementation of {@link IntervalKernel} in plain Java.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+final class ScalarIntervalKernel implements IntervalKernel
+{
+
+   private ScalarIntervalKernel()
+   {
+
+   }
+
+   @Override
+   public void neg(final double[] lo, final double[] hi, final int length)
+   {
+
+      for (int n = 0; n < length; n++)
+      {
+         final double l = lo[n];
+         lo[n] = -hi[n];
+         hi[n] = -l;
+      }
+   }
+
+   @Override
+   public void abs(final double[] lo, final double[] hi, final int length)
+   {
+
+      for (int n = 0; n < length; n++)
+      {
+         final double l = lo[n];
+         final double h = hi[n];
+         if (h < 0d)
+         {
+            lo[n] = -h;
+            hi[n] = -l;
+         }
+         else if (l < 0d)
+         {
+            lo[n] = 0d;
+            hi[n] = max(-l, h);
+         }
+      }
+   }
+
+   @Override
+   public void add(final double[] aLo, final double[] aHi, final double[] bLo,
+         final double[] bHi, final int length)
+   {
+
+      for (int n = 0; n < length; n++)
+      {
+         if (bLo[n] == 0d && bHi[n] == 0d)
+         {
+            continue;
+         }
+         if (aLo[n] == 0d && aHi[n] == 0d)
+         {
+            aLo[n] = bLo[n];
+            aHi[n] = bHi[n];
+            continue;
+         }
+         aLo[n] = nextDown(aLo[n] + bLo[n]);
+         aHi[n] = nextUp(aHi[n] + bHi[n]);
+      }
+   }
+
+   @Override
+   public void sub(final double[] aLo, final double[] aHi, final double[] bLo,
+         final double[] bHi, final int length)
+   {
+
+      for (int n = 0; n < length; n++)
+      {
+         if (bLo[n] == 0d && bHi[n] == 0d)
+         {
+            continue;
+         }
+         if (aLo[n] == 0d && aHi[n] == 0d)
+         {
+            aLo[n] = -bHi[n];
+            aHi[n] = -bLo[n];
+            continue;
+         }
+         final double l = aLo[n] - bHi[n];
+         final double h = aHi[n] - bLo[n];
+         aLo[n] = nextDown(l);
+         aHi[n] = nextUp(h);
+      }
+   }
+
+   @Override
+   public void mul(final double[] aLo, final double[] aHi, final double[] bLo,
+         final double[] bHi, final int length)
+   {
+
+      for (int n = 0; n < length; n++)
+      {
+         final double al = aLo[n];
+         final double ah = aHi[n];
+         final double bl = bLo[n];
+         final double bh = bHi[n];
+         if (al == 0d && ah == 0d || bl == 0d && bh == 0d)
+         {
+            aLo[n] = 0d;
+            aHi[n] = 0d;
+            continue;
+         }
+         final double p1 = al * bl;
+         final double p2 = al * bh;
+         final double p3 = ah * bl;
+         final double p4 = ah * bh;
+         aLo[n] = nextDown(min(min(p1, p2), min(p3, p4)));
+         aHi[n] = nextUp(max(max(p1, p2), max(p3, p4)));
+      }
+   }
+
+   @Override
+   public void div(final double[] aLo, final double[] aHi, final double[] bLo,
+         final double[] bHi, final int length)
+   {
+
+      for (int n = 0; n < length; n++)
+      {
+         final double al = aLo[n];
+         final double ah = aHi[n];
+         final double bl = bLo[n];
+         final double bh = bHi[n];
+         if (!(bl > 0d || bh < 0d))
+         {
+            aLo[n] = Double.NaN;
+            aHi[n] = Double.NaN;
+            continue;
+         }
+         if (al == 0d && ah == 0d)
+         {
+            continue;
+         }
+         final double q1 = al / bl;
+         final double q2 = al / bh;
+         final double q3 = ah / bl;
+         final double q4 = ah / bh;
+         aLo[n] = nextDown(min(min(q1, q2), min(q3, q4)));
+         aHi[n] = nextUp(max(max(q1, q2), max(q3, q4)));
+      }
+   }
+
+   @Override
+   public void pow(final double[] lo, final double[] hi, final int length,
+         final int exponent)
+   {
+
+      final boolean odd = (exponent & 1) != 0;
+      for (int n = 0; n < length; n++)
+      {
+         final double l = lo[n];
+         final double h = hi[n];
+         if (l == 0d && h == 0d)
+         {
+            continue;
+         }
+         if (odd || l >= 0d)
+         {
+            lo[n] = nextDown(Math.pow(l, exponent));
+            hi[n] = nextUp(Math.pow(h, exponent));
+         }
+         else if (h <= 0d)
+         {
+            lo[n] = nextDown(Math.pow(h, exponent));
+            hi[n] = nextUp(Math.pow(l, exponent));
+         }
+         else
+         {
+            lo[n] = 0d;
+            hi[n] = nextUp(Math.pow(max(-l, h), exponent));
+         }
+      }
+   }
+
+   @Override
+   public void root(final double[] lo, final double[] hi, final int length,
+         final int exponent)
+   {
+
+      final boolean odd = (exponent & 1) != 0;
+      for (int n = 0; n < length; n++)
+      {
+         final double l = lo[n];
+         final double h = hi[n];
+         if (l == 0d && h == 0d)
+         {
+            continue;
+         }
+         if (odd || l > 0d)
+         {
+            lo[n] = nextDown(ConciseNumber.root(l, exponent));
+            hi[n] = nextUp(ConciseNumber.root(h, exponent));
+         }
+         else
+         {
+            lo[n] = Double.NaN;
+            hi[n] = Double.NaN;
+         }
+      }
+   }
+
+   /** The instance. */
+   static final ScalarIntervalKernel INSTANCE = new ScalarIntervalKernel();
+}
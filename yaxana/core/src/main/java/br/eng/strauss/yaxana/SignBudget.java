@@ -0,0 +1,280 @@
+package br.eng.strauss.yaxana;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.function.Supplier;
+
+import br.eng.strauss.yaxana.exc.BudgetExceededException;
+import br.eng.strauss.yaxana.exc.PrecisionOverflowException;
+import br.eng.strauss.yaxana.pdc.BudgetMeter;
+
+/**
+ * Limits of the resources, which sign computations may consume.
+ * <p>
+ * Usually, the sign of a {@link Robust} value is computed, until the precision exceeds
+ * {@link PrecisionOverflowException#MAX_PRECISION}, which may take a long time and a lot of memory.
+ * A budget limits the maximum precision, the number of nodes of an expression, the wall time and
+ * the number of arbitrary precision operations of the sign computations of a task. The limits are
+ * checked cooperatively and a {@link BudgetExceededException} is thrown as soon as one of them is
+ * exceeded.
+ * <p>
+ * Typical use:
+ *
+ * <pre>
+ * final SignBudget budget = SignBudget.unlimited().withMaximumTime(Duration.ofMillis(10));
+ * final OptionalInt signum = budget.trySignum(() -&gt; a.mul(b).sub(c));
+ * </pre>
+ * <p>
+ * Instances are immutable. The wall time of a budget starts, when {@link #call(Supplier)},
+ * {@link #run(Runnable)} or {@link #trySignum(Supplier)} is called, and covers the whole task.
+ * Nested calls are limited by the enclosing budgets, too.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class SignBudget
+{
+
+   /**
+    * Returns the budget without any limits.
+    *
+    * @return the budget without any limits.
+    */
+   public static SignBudget unlimited()
+   {
+
+      return UNLIMITED;
+   }
+
+   /**
+    * Returns a copy of this budget with a given maximum precision.
+    *
+    * @param maximumPrecision
+    *           the maximum precision in bits of approximations computed to determine a sign.
+    * @return a copy of this budget with the given maximum precision.
+    * @throws IllegalArgumentException
+    *            if {@code maximumPrecision} is not positive.
+    */
+   public SignBudget withMaximumPrecision(final int maximumPrecision)
+         throws IllegalArgumentException
+   {
+
+      if (maximumPrecision <= 0)
+      {
+         throw new IllegalArgumentException("maximumPrecision=" + maximumPrecision);
+      }
+      return new SignBudget(maximumPrecision, maximumNoOfNodes, maximumTimeNs,
+            maximumNoOfOperations);
+   }
+
+   /**
+    * Returns a copy of this budget with a given maximum number of nodes.
+    *
+    * @param maximumNoOfNodes
+    *           the maximum number of nodes of an expression, whose sign is computed by arbitrary
+    *           precision arithmetic.
+    * @return a copy of this budget with the given maximum number of nodes.
+    * @throws IllegalArgumentException
+    *            if {@code maximumNoOfNodes} is not positive.
+    */
+   public SignBudget withMaximumNoOfNodes(final int maximumNoOfNodes)
+         throws IllegalArgumentException
+   {
+
+      if (maximumNoOfNodes <= 0)
+      {
+         throw new IllegalArgumentException("maximumNoOfNodes=" + maximumNoOfNodes);
+      }
+      return new SignBudget(maximumPrecision, maximumNoOfNodes, maximumTimeNs,
+            maximumNoOfOperations);
+   }
+
+   /**
+    * Returns a copy of this budget with a given maximum wall time.
+    *
+    * @param maximumTime
+    *           the maximum wall time of a task.
+    * @return a copy of this budget with the given maximum wall time.
+    * @throws IllegalArgumentException
+    *            if {@code maximumTime} is negative.
+    */
+   public SignBudget withMaximumTime(final Duration maximumTime) throws IllegalArgumentException
+   {
+
+      if (maximumTime.isNegative())
+      {
+         throw new IllegalArgumentException("maximumTime=" + maximumTime);
+      }
+      final long maximumTimeNs = maximumTime.compareTo(MAX_DURATION) < 0 ? maximumTime.toNanos()
+            : Long.MAX_VALUE;
+      return new SignBudget(maximumPrecision, maximumNoOfNodes, maximumTimeNs,
+            maximumNoOfOperations);
+   }
+
+   /**
+    * Returns a copy of this budget with a given maximum number of arbitrary precision operations.
+    *
+    * @param maximumNoOfOperations
+    *           the maximum number of arbitrary precision operations of a task. Each approximation
+    *           of a node of an expression with some precision counts as one operation.
+    * @return a copy of this budget with the given maximum number of operations.
+    * @throws IllegalArgumentException
+    *            if {@code maximumNoOfOperations} is negative.
+    */
+   public SignBudget withMaximumNoOfOperations(final long maximumNoOfOperations)
+         throws IllegalArgumentException
+   {
+
+      if (maximumNoOfOperations < 0)
+      {
+         throw new IllegalArgumentException("maximumNoOfOperations=" + maximumNoOfOperations);
+      }
+      return new SignBudget(maximumPrecision, maximumNoOfNodes, maximumTimeNs,
+            maximumNoOfOperations);
+   }
+
+   /**
+    * Returns the maximum precision in bits.
+    *
+    * @return the maximum precision in bits.
+    */
+   public int getMaximumPrecision()
+   {
+
+      return maximumPrecision;
+   }
+
+   /**
+    * Returns the maximum number of nodes.
+    *
+    * @return the maximum number of nodes.
+    */
+   public int getMaximumNoOfNodes()
+   {
+
+      return maximumNoOfNodes;
+   }
+
+   /**
+    * Returns the maximum wall time.
+    *
+    * @return the maximum wall time.
+    */
+   public Duration getMaximumTime()
+   {
+
+      return Duration.ofNanos(maximumTimeNs);
+   }
+
+   /**
+    * Returns the maximum number of arbitrary precision operations.
+    *
+    * @return the maximum number of arbitrary precision operations.
+    */
+   public long getMaximumNoOfOperations()
+   {
+
+      return maximumNoOfOperations;
+   }
+
+   /**
+    * Runs a given task on the current thread within this budget.
+    *
+    * @param task
+    *           the task.
+    * @throws BudgetExceededException
+    *            if a sign computation of the task exceeds this budget.
+    */
+   public void run(final Runnable task) throws BudgetExceededException
+   {
+
+      call(() -> {
+         task.run();
+         return null;
+      });
+   }
+
+   /**
+    * Calls a given task on the current thread within this budget.
+    *
+    * @param <T>
+    *           the type of the result.
+    * @param task
+    *           the task.
+    * @return the result of the task.
+    * @throws BudgetExceededException
+    *            if a sign computation of the task exceeds this budget.
+    */
+   public <T> T call(final Supplier<T> task) throws BudgetExceededException
+   {
+
+      final BudgetMeter previous = BudgetMeter.current();
+      BudgetMeter.bind(new BudgetMeter(maximumPrecision, maximumNoOfNodes, maximumTimeNs,
+            maximumNoOfOperations, previous));
+      try
+      {
+         return task.get();
+      }
+      finally
+      {
+         BudgetMeter.bind(previous);
+      }
+   }
+
+   /**
+    * Returns the sign of the value supplied by a given task, if it can be determined within this
+    * budget.
+    *
+    * @param expression
+    *           the task, which supplies the value.
+    * @return the sign of the value, or an empty result, if the sign is undecided within this
+    *         budget.
+    */
+   public OptionalInt trySignum(final Supplier<Robust> expression)
+   {
+
+      try
+      {
+         return OptionalInt.of(call(() -> expression.get().signum()));
+      }
+      catch (final BudgetExceededException e)
+      {
+         return OptionalInt.empty();
+      }
+   }
+
+   /**
+    * Returns a string representation for debugging purposes.
+    */
+   @Override
+   public String toString()
+   {
+
+      return ("SignBudget[maximumPrecision=%d, maximumNoOfNodes=%d, maximumTimeNs=%d, "
+            + "maximumNoOfOperations=%d]").formatted(maximumPrecision, maximumNoOfNodes,
+                  maximumTimeNs, maximumNoOfOperations);
+   }
+
+   private SignBudget(final int maximumPrecision, final int maximumNoOfNodes,
+         final long maximumTimeNs, final long maximumNoOfOperations)
+   {
+
+      this.maximumPrecision = maximumPrecision;
+      this.maximumNoOfNodes = maximumNoOfNodes;
+      this.maximumTimeNs = maximumTimeNs;
+      this.maximumNoOfOperations = maximumNoOfOperations;
+   }
+
+   private static final Duration MAX_DURATION = Duration.ofNanos(Long.MAX_VALUE);
+
+   private static final SignBudget UNLIMITED = new SignBudget(Integer.MAX_VALUE, Integer.MAX_VALUE,
+         Long.MAX_VALUE, Long.MAX_VALUE);
+
+   private final int maximumPrecision;
+
+   private final int maximumNoOfNodes;
+
+   private final long maximumTimeNs;
+
+   private final long maximumNoOfOperations;
+}
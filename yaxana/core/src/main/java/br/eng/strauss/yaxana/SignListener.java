@@ -0,0 +1,38 @@
+package br.eng.strauss.yaxana;
+
+/**
+ * Listener notified of the resolution of each sign of a {@link Robust} value, which
+ * {@code double} interval arithmetic does not determine.
+ * <p>
+ * Listeners are notified synchronously by the thread computing the sign, so they should return
+ * quickly and be thread safe. An exception thrown by a listener is logged and does not affect the
+ * sign computation.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ * @see Robusts#addSignListener(SignListener)
+ */
+@FunctionalInterface
+public interface SignListener
+{
+
+   /**
+    * Notifies this listener of a resolved sign.
+    *
+    * @param algorithm
+    *           the algorithm computing the sign.
+    * @param resolution
+    *           the way, in which the sign has been resolved.
+    * @param timeNs
+    *           the time in nanoseconds spent in arbitrary precision arithmetic, which is
+    *           {@code 0} for {@link SignResolution#DOUBLE_FILTER}.
+    * @param precision
+    *           the final precision in bits, which is {@code 0} for
+    *           {@link SignResolution#DOUBLE_FILTER}, and {@link Integer#MAX_VALUE} for an exact
+    *           approximation.
+    * @param noOfNodes
+    *           the number of nodes of the expression.
+    */
+   public void signResolved(Algorithm algorithm, SignResolution resolution, long timeNs,
+         int precision, int noOfNodes);
+}
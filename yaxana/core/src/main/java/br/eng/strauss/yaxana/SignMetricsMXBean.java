@@ -0,0 +1,126 @@
+package br.eng.strauss.yaxana;
+
+import java.util.Map;
+
+/**
+ * Process wide metrics of the sign computation of {@link Robust} values, which {@code double}
+ * interval arithmetic does not determine, and of the cache.
+ * <p>
+ * Counters are striped, so that concurrent updates are neither lost nor contended. Histograms
+ * count values in buckets of powers of two: bucket {@code k} counts values {@code v} with
+ * {@code 2^k <= v < 2^(k+1)}, bucket {@code 0} also counts {@code 0}.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ * @see Robusts#getSignMetrics()
+ * @see Robusts#registerSignMetrics()
+ */
+public interface SignMetricsMXBean
+{
+
+   /**
+    * Returns the number of signs computed by arbitrary precision arithmetic.
+    *
+    * @return the number of signs computed by arbitrary precision arithmetic.
+    */
+   public long getSignComputations();
+
+   /**
+    * Returns the number of sign computations, which failed with an exception.
+    *
+    * @return the number of sign computations, which failed with an exception.
+    */
+   public long getExceptions();
+
+   /**
+    * Returns the total time in nanoseconds spent in sign computations.
+    *
+    * @return the total time in nanoseconds spent in sign computations.
+    */
+   public long getTotalTimeNs();
+
+   /**
+    * Returns the maximum number of nodes of an expression, whose sign has been computed.
+    *
+    * @return the maximum number of nodes of an expression, whose sign has been computed.
+    */
+   public long getMaxNoOfNodes();
+
+   /**
+    * Returns the number of signs resolved by {@link SignResolution#DOUBLE_FILTER}.
+    *
+    * @return the number of signs resolved by {@link SignResolution#DOUBLE_FILTER}.
+    */
+   public long getDoubleFilterResolutions();
+
+   /**
+    * Returns the number of signs resolved by {@link SignResolution#FIRST_ROUND}.
+    *
+    * @return the number of signs resolved by {@link SignResolution#FIRST_ROUND}.
+    */
+   public long getFirstRoundResolutions();
+
+   /**
+    * Returns the number of signs resolved by {@link SignResolution#REFINEMENT}.
+    *
+    * @return the number of signs resolved by {@link SignResolution#REFINEMENT}.
+    */
+   public long getRefinementResolutions();
+
+   /**
+    * Returns the number of signs resolved by {@link SignResolution#ROOT_BOUND}.
+    *
+    * @return the number of signs resolved by {@link SignResolution#ROOT_BOUND}.
+    */
+   public long getRootBoundResolutions();
+
+   /**
+    * Returns the histograms of the times in nanoseconds spent in sign computations, by the name
+    * of the {@link Algorithm}.
+    *
+    * @return the histograms of the times of sign computations.
+    */
+   public Map<String, long[]> getLatencyHistograms();
+
+   /**
+    * Returns the histograms of the final precisions in bits of sign computations, by the name of
+    * the {@link Algorithm}. Exact approximations are counted in the last bucket.
+    *
+    * @return the histograms of the final precisions of sign computations.
+    */
+   public Map<String, long[]> getPrecisionHistograms();
+
+   /**
+    * Returns the number of lookups, which found an entry in the cache.
+    *
+    * @return the number of lookups, which found an entry in the cache.
+    */
+   public long getCacheHits();
+
+   /**
+    * Returns the number of lookups, which found no entry in the cache.
+    *
+    * @return the number of lookups, which found no entry in the cache.
+    */
+   public long getCacheMisses();
+
+   /**
+    * Returns the number of entries evicted from the cache to make room for new entries, or after
+    * lowering its maximum size.
+    *
+    * @return the number of entries evicted from the cache.
+    */
+   public long getCacheEvictions();
+
+   /**
+    * Returns the ratio of cache hits to cache lookups, or {@code 0} if there were no lookups.
+    *
+    * @return the ratio of cache hits to cache lookups.
+    */
+   public double getCacheHitRate();
+
+   /**
+    * Resets all metrics to zero.
+    */
+   public void reset();
+}
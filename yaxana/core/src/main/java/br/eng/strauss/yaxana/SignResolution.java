@@ -0,0 +1,26 @@
+package br.eng.strauss.yaxana;
+
+/**
+ * The ways, in which the sign of a {@link Robust} value, which {@code double} interval arithmetic
+ * does not determine, is resolved.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ * @see SignMetricsMXBean
+ * @see SignListener
+ */
+public enum SignResolution
+{
+
+   /** Resolved by the double-double filter, without any arbitrary precision arithmetic. */
+   DOUBLE_FILTER,
+
+   /** Resolved by the first approximation of precision driven computation. */
+   FIRST_ROUND,
+
+   /** Resolved by a refined approximation, before the precision required by the root bound. */
+   REFINEMENT,
+
+   /** Resolved by the root bound, which typically means the value is zero. */
+   ROOT_BOUND;
+}
@@ -0,0 +1,432 @@
+package br.eng.strauss.yaxana;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+
+/**
+ * Persistent store of the signs of {@link Robust} values, which have been determined by arbitrary
+ * precision arithmetic.
+ * <p>
+ * An installed store (see {@link Robusts#setSignStore(SignStore)}) is consulted, before the sign
+ * of a new {@link Robust} value is computed by arbitrary precision arithmetic, and records the
+ * computed sign afterwards. Thus batch jobs, which decide the signs of the same expressions again
+ * and again, skip the sign computations after a warm restart.
+ * <p>
+ * The store is a memory mapped file with a header, an open addressing index of hash codes and
+ * offsets, and an append-only log of entries, each of which holds the postfix program, the
+ * operands and the sign of a value. Entries are looked up by hash code and verified by their
+ * postfix program and operands. If the index or the log is full, no more entries are recorded.
+ * <p>
+ * The file is marked as consistent by {@link #close()} only. If the process terminates without
+ * closing the store, all entries are discarded when the file is opened again.
+ * <p>
+ * The file must not be opened by more than one store at a time. Instances are thread safe: entries
+ * are looked up without locking, and only appending entries is serialized.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class SignStore implements Closeable
+{
+
+   /**
+    * Opens the store in a given file, which is created with default capacities, if it does not
+    * exist.
+    * 
+    * @param file
+    *           the file.
+    * @return the store.
+    * @throws IOException
+    *            If the file cannot be opened or mapped, is no store, is corrupt, or is locked.
+    */
+   public static SignStore open(final Path file) throws IOException
+   {
+
+      return open(file, DEFAULT_MAXIMUM_NO_OF_ENTRIES, DEFAULT_MAXIMUM_LOG_SIZE);
+   }
+
+   /**
+    * Opens the store in a given file, which is created with given capacities, if it does not
+    * exist. The capacities of an existing file are not changed.
+    * 
+    * @param file
+    *           the file.
+    * @param maximumNoOfEntries
+    *           the maximum number of entries.
+    * @param maximumLogSize
+    *           the maximum size of the log of entries in bytes.
+    * @return the store.
+    * @throws IllegalArgumentException
+    *            If a capacity is not positive or too large.
+    * @throws IOException
+    *            If the file cannot be opened or mapped, is no store, is corrupt, or is locked.
+    */
+   public static SignStore open(final Path file, final int maximumNoOfEntries,
+         final int maximumLogSize) throws IllegalArgumentException, IOException
+   {
+
+      if (maximumNoOfEntries <= 0 || maximumNoOfEntries > MAXIMUM_NO_OF_ENTRIES)
+      {
+         throw new IllegalArgumentException("bad maximum number of entries %d"
+               .formatted(maximumNoOfEntries));
+      }
+      if (maximumLogSize <= 0)
+      {
+         throw new IllegalArgumentException("bad maximum log size %d".formatted(maximumLogSize));
+      }
+      final FileChannel channel = FileChannel.open(file, CREATE, READ, WRITE);
+      try
+      {
+         final FileLock lock = tryLock(channel);
+         if (lock == null)
+         {
+            throw new IOException("%s is locked".formatted(file));
+         }
+         final long fileSize = channel.size();
+         final int capacity;
+         final int logSize;
+         if (fileSize == 0)
+         {
+            // the index has a load factor of at most 1/2
+            capacity = Integer.highestOneBit(maximumNoOfEntries) << 2;
+            logSize = maximumLogSize & -8;
+         }
+         else
+         {
+            if (fileSize < HEADER_SIZE)
+            {
+               throw new IOException("%s is no sign store".formatted(file));
+            }
+            final MappedByteBuffer header = channel.map(READ_WRITE, 0, HEADER_SIZE);
+            if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION)
+            {
+               throw new IOException("%s is no sign store".formatted(file));
+            }
+            capacity = header.getInt(CAPACITY_OFFSET);
+            logSize = header.getInt(LOG_SIZE_OFFSET);
+            // the capacities are trusted by the index and log arithmetic, so they are validated
+            if (capacity <= 0 || (capacity & capacity - 1) != 0
+                  || capacity > MAXIMUM_NO_OF_ENTRIES << 2 || logSize < 0 || (logSize & 7) != 0
+                  || HEADER_SIZE + (long) Long.BYTES * capacity + logSize > fileSize)
+            {
+               throw new IOException("%s is corrupt".formatted(file));
+            }
+         }
+         final long indexSize = HEADER_SIZE + (long) Long.BYTES * capacity;
+         final MappedByteBuffer index = channel.map(READ_WRITE, 0, indexSize);
+         final MappedByteBuffer log = channel.map(READ_WRITE, indexSize, logSize);
+         if (index.getInt(MAGIC_OFFSET) == 0)
+         {
+            index.putInt(MAGIC_OFFSET, MAGIC);
+            index.putInt(VERSION_OFFSET, VERSION);
+            index.putInt(CAPACITY_OFFSET, capacity);
+            index.putInt(LOG_SIZE_OFFSET, logSize);
+            index.putInt(CLEAN_OFFSET, CLEAN);
+         }
+         if (index.getInt(CLEAN_OFFSET) != CLEAN)
+         {
+            // the store has not been closed, so entries may refer to records, which are missing
+            for (int k = 0; k < capacity; k++)
+            {
+               index.putLong(HEADER_SIZE + Long.BYTES * k, 0L);
+            }
+            index.putInt(NO_OF_ENTRIES_OFFSET, 0);
+            index.putLong(LOG_END_OFFSET, 0L);
+         }
+         final int noOfEntries = index.getInt(NO_OF_ENTRIES_OFFSET);
+         final long logEnd = index.getLong(LOG_END_OFFSET);
+         if (noOfEntries < 0 || 2L * noOfEntries > capacity || logEnd < 0 || logEnd > logSize
+               || (logEnd & 7) != 0)
+         {
+            throw new IOException("%s is corrupt".formatted(file));
+         }
+         index.putInt(CLEAN_OFFSET, 0);
+         index.force();
+         return new SignStore(channel, lock, index, log);
+      }
+      catch (final IOException | RuntimeException e)
+      {
+         channel.close();
+         throw e;
+      }
+   }
+
+   /**
+    * Returns an exclusive lock of the file of a given channel, or {@code null}, if the file is
+    * locked by another process or by another channel of this process.
+    */
+   private static FileLock tryLock(final FileChannel channel) throws IOException
+   {
+
+      try
+      {
+         return channel.tryLock();
+      }
+      catch (final OverlappingFileLockException e)
+      {
+         return null;
+      }
+   }
+
+   private SignStore(final FileChannel channel, final FileLock lock, final MappedByteBuffer index,
+         final MappedByteBuffer log)
+   {
+
+      this.channel = channel;
+      this.lock = lock;
+      this.index = index;
+      this.log = log;
+      this.capacity = index.getInt(CAPACITY_OFFSET);
+   }
+
+   /**
+    * Returns the number of entries.
+    * 
+    * @return the number of entries.
+    */
+   public int size()
+   {
+
+      return (int) INT.getAcquire(this.index, NO_OF_ENTRIES_OFFSET);
+   }
+
+   /**
+    * Writes all entries to the file, uninstalls this store, if installed, and closes the file.
+    * 
+    * @throws IOException
+    *            If an I/O error occurs.
+    */
+   @Override
+   public synchronized void close() throws IOException
+   {
+
+      if (!this.closed)
+      {
+         this.closed = true;
+         if (installed == this)
+         {
+            installed = null;
+         }
+         // the records are written before the index, which is written before it is marked clean
+         this.log.force();
+         this.index.force();
+         this.index.putInt(CLEAN_OFFSET, CLEAN);
+         this.index.force();
+         this.lock.release();
+         this.channel.close();
+      }
+   }
+
+   /**
+    * Returns the stored sign of a given value, or {@link #ABSENT}. Does not lock, as the records
+    * of the log are immutable once their slots have been published by {@link #put}.
+    */
+   int get(final ConciseNumber value)
+   {
+
+      if (!this.closed)
+      {
+         final int hashCode = value.hashCode();
+         final int mask = this.capacity - 1;
+         // the probes are bounded, as the index of a corrupt file may have no empty slot
+         for (int n = 0, k = mix(hashCode) & mask; n < this.capacity; n++, k = k + 1 & mask)
+         {
+            final long slot = (long) SLOT.getAcquire(this.index, HEADER_SIZE + Long.BYTES * k);
+            if (slot == 0L)
+            {
+               break;
+            }
+            final long offset = ((slot & 0xFFFFFFFFL) - 1) << 3;
+            if ((int) (slot >>> 32) == hashCode && matches(offset, value))
+            {
+               final int signum = this.log.getInt((int) offset + SIGNUM_OFFSET);
+               return signum >= -1 && signum <= 1 ? signum : ABSENT;
+            }
+         }
+      }
+      return ABSENT;
+   }
+
+   /**
+    * Stores the sign of a given value, if this store is not full.
+    */
+   synchronized void put(final ConciseNumber value, final int signum)
+   {
+
+      final int noOfEntries = this.index.getInt(NO_OF_ENTRIES_OFFSET);
+      final long logEnd = this.index.getLong(LOG_END_OFFSET);
+      final short[] operations = value.operations;
+      final double[] operands = value.operands;
+      final int operandsOffset = RECORD_HEADER_SIZE + (Short.BYTES * operations.length + 7 & -8);
+      final long size = operandsOffset + (long) Double.BYTES * operands.length;
+      if (this.closed || 2 * (noOfEntries + 1) > this.capacity
+            || logEnd + size > this.log.capacity())
+      {
+         return;
+      }
+      final int hashCode = value.hashCode();
+      final int mask = this.capacity - 1;
+      int k = mix(hashCode) & mask;
+      for (int n = 0; this.index.getLong(HEADER_SIZE + Long.BYTES * k) != 0L; n++)
+      {
+         if (n == this.capacity)
+         {
+            // the index of a corrupt file may have no empty slot
+            return;
+         }
+         k = k + 1 & mask;
+      }
+      // the record is complete before its slot is published to lock-free lookups
+      final int offset = (int) logEnd;
+      this.log.putInt(offset + HASHCODE_OFFSET, value.hashCode());
+      this.log.putInt(offset + NO_OF_OPERATIONS_OFFSET, operations.length);
+      this.log.putInt(offset + NO_OF_OPERANDS_OFFSET, operands.length);
+      this.log.putInt(offset + SIGNUM_OFFSET, signum);
+      for (int j = 0; j < operations.length; j++)
+      {
+         this.log.putShort(offset + RECORD_HEADER_SIZE + Short.BYTES * j, operations[j]);
+      }
+      for (int j = 0; j < operands.length; j++)
+      {
+         this.log.putDouble(offset + operandsOffset + Double.BYTES * j, operands[j]);
+      }
+      final long slot = (long) hashCode << 32 | (offset >>> 3) + 1;
+      SLOT.setRelease(this.index, HEADER_SIZE + Long.BYTES * k, slot);
+      this.index.putLong(LOG_END_OFFSET, logEnd + size);
+      INT.setRelease(this.index, NO_OF_ENTRIES_OFFSET, noOfEntries + 1);
+   }
+
+   /**
+    * Returns whether the record at a given offset of the log has the postfix program and the
+    * operands of a given value. Offsets of records, which exceed the log, do not match, as the
+    * slots of a corrupt file are not validated on opening.
+    */
+   private boolean matches(final long position, final ConciseNumber value)
+   {
+
+      final short[] operations = value.operations;
+      final double[] operands = value.operands;
+      final int operandsOffset = RECORD_HEADER_SIZE + (Short.BYTES * operations.length + 7 & -8);
+      if (position < 0
+            || position + operandsOffset + (long) Double.BYTES * operands.length > this.log
+                  .capacity())
+      {
+         return false;
+      }
+      final int offset = (int) position;
+      if (this.log.getInt(offset + NO_OF_OPERATIONS_OFFSET) != operations.length
+            || this.log.getInt(offset + NO_OF_OPERANDS_OFFSET) != operands.length)
+      {
+         return false;
+      }
+      for (int k = 0; k < operations.length; k++)
+      {
+         if (this.log.getShort(offset + RECORD_HEADER_SIZE + Short.BYTES * k) != operations[k])
+         {
+            return false;
+         }
+      }
+      for (int k = 0; k < operands.length; k++)
+      {
+         final double operand = this.log.getDouble(offset + operandsOffset + Double.BYTES * k);
+         if (Double.doubleToLongBits(operand) != Double.doubleToLongBits(operands[k]))
+         {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Returns a hash code with well distributed low bits, as the low bits of the hash codes of
+    * {@link ConciseNumber} instances are not.
+    */
+   private static int mix(final int hashCode)
+   {
+
+      final int h = hashCode * 0x9E3779B9;
+      return h ^ h >>> 16;
+   }
+
+   /** Returned by {@link #get(ConciseNumber)} for values, whose sign is not stored. */
+   static final int ABSENT = Integer.MIN_VALUE;
+
+   /** The installed store, see {@link Robusts#setSignStore(SignStore)}. */
+   static volatile SignStore installed;
+
+   private static final int MAGIC = 0x59585353;
+
+   private static final int VERSION = 1;
+
+   private static final int DEFAULT_MAXIMUM_NO_OF_ENTRIES = 1 << 20;
+
+   private static final int DEFAULT_MAXIMUM_LOG_SIZE = 1 << 28;
+
+   /** The maximum number of entries, which keeps the index below 2 GiB. */
+   private static final int MAXIMUM_NO_OF_ENTRIES = 1 << 25;
+
+   private static final int MAGIC_OFFSET = 0;
+
+   private static final int VERSION_OFFSET = 4;
+
+   private static final int CAPACITY_OFFSET = 8;
+
+   private static final int LOG_SIZE_OFFSET = 12;
+
+   private static final int NO_OF_ENTRIES_OFFSET = 16;
+
+   /** The offset of the mark, which is {@link #CLEAN} while the file is closed. */
+   private static final int CLEAN_OFFSET = 20;
+
+   private static final int CLEAN = 1;
+
+   private static final int LOG_END_OFFSET = 24;
+
+   private static final int HEADER_SIZE = 64;
+
+   private static final int HASHCODE_OFFSET = 0;
+
+   private static final int NO_OF_OPERATIONS_OFFSET = 4;
+
+   private static final int NO_OF_OPERANDS_OFFSET = 8;
+
+   private static final int SIGNUM_OFFSET = 12;
+
+   private static final int RECORD_HEADER_SIZE = 16;
+
+   /** Accesses the slots of the index with memory ordering effects. */
+   private static final VarHandle SLOT = MethodHandles.byteBufferViewVarHandle(long[].class,
+                                                                              ByteOrder.BIG_ENDIAN);
+
+   /** Accesses the header of the index with memory ordering effects. */
+   private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class,
+                                                                             ByteOrder.BIG_ENDIAN);
+
+   private final FileChannel channel;
+
+   private final FileLock lock;
+
+   /** The header followed by the index of slots, each with hash code and offset of an entry. */
+   private final MappedByteBuffer index;
+
+   /** The log of entries. */
+   private final MappedByteBuffer log;
+
+   /** The number of slots of the index, a power of two. */
+   private final int capacity;
+
+   private volatile boolean closed;
+}
@@ -2,7 +2,6 @@ package br.eng.strauss.yaxana.big;
 
 import java.math.BigInteger;
 import java.math.MathContext;
-import java.math.RoundingMode;
 import java.util.regex.Pattern;
 
 import br.eng.strauss.yaxana.Robusts;
@@ -168,13 +167,8 @@ public final class BigFloat extends Number implements Comparable<BigFloat>
       }
       else
       {
-         int sc = 0;
-         int k = 0;
-         while (!unscaledValue.testBit(k++))
-         {
-            sc++;
-         }
-         this.unscaledValue = unscaledValue.shiftRight(sc);
+         final int sc = unscaledValue.getLowestSetBit();
+         this.unscaledValue = sc > 0 ? unscaledValue.shiftRight(sc) : unscaledValue;
          this.scale = overflow((long) scale + sc);
       }
    }
@@ -287,50 +281,7 @@ public final class BigFloat extends Number implements Comparable<BigFloat>
    public BigFloat add(final BigFloat that, final Rounder rounder)
    {
 
-      final boolean thisIsZero = this.signum() == 0;
-      final boolean thatIsZero = that.signum() == 0;
-      if (thisIsZero && thatIsZero)
-      {
-         return BigFloat.ZERO;
-      }
-      if (thisIsZero)
-      {
-         return that.round(rounder);
-      }
-      if (thatIsZero)
-      {
-         return this.round(rounder);
-      }
-      final int thisScale = this.scale;
-      final int thatScale = that.scale;
-      BigInteger thisUnscaledValue = this.unscaledValue;
-      BigInteger thatUnscaledValue = that.unscaledValue;
-      int scale = thisScale < thatScale ? thisScale : thatScale;
-      if (thisScale != thatScale)
-      {
-         final int drop = overflow((long) thisScale - thatScale);
-         final int thisDropShiftLeft = drop > 0 ? drop : 0;
-         final int thatDropShiftLeft = drop > 0 ? 0 : -drop;
-         final int rndShiftLeft;
-         if (rounder != null)
-         {
-            final int thisPrecision = this.precision() + thisDropShiftLeft;
-            final int thatPrecision = that.precision() + thatDropShiftLeft;
-            final int precision = Math.max(thisPrecision, thatPrecision);
-            final int diffPrecision = rounder.precision + 2 - precision;
-            rndShiftLeft = diffPrecision > 0 ? diffPrecision : 0;
-         }
-         else
-         {
-            rndShiftLeft = 0;
-         }
-         final int thisShiftLeft = rndShiftLeft + thisDropShiftLeft;
-         final int thatShiftLeft = rndShiftLeft + thatDropShiftLeft;
-         thisUnscaledValue = thisUnscaledValue.shiftLeft(thisShiftLeft);
-         thatUnscaledValue = thatUnscaledValue.shiftLeft(thatShiftLeft);
-         scale -= rndShiftLeft;
-      }
-      return new BigFloat(thisUnscaledValue.add(thatUnscaledValue), scale).round(rounder);
+      return this.add(that, false, rounder);
    }
 
    /**
@@ -343,7 +294,7 @@ public final class BigFloat extends Number implements Comparable<BigFloat>
    public BigFloat sub(final BigFloat that)
    {
 
-      return this.add(that.neg(), null);
+      return this.add(that, true, null);
    }
 
    /**
@@ -358,7 +309,54 @@ public final class BigFloat extends Number implements Comparable<BigFloat>
    public BigFloat sub(final BigFloat that, final Rounder rounder)
    {
 
-      return this.add(that.neg(), rounder);
+      return this.add(that, true, rounder);
+   }
+
+   /**
+    * Implementation of {@link #add(BigFloat, Rounder)} and {@link #sub(BigFloat, Rounder)}.
+    * <p>
+    * The exact sum is computed on aligned unscaled values and rounded without an intermediate
+    * {@link BigFloat}.
+    */
+   private BigFloat add(final BigFloat that, final boolean negate, final Rounder rounder)
+   {
+
+      final boolean thisIsZero = this.signum() == 0;
+      final boolean thatIsZero = that.signum() == 0;
+      if (thisIsZero && thatIsZero)
+      {
+         return BigFloat.ZERO;
+      }
+      if (thisIsZero)
+      {
+         return (negate ? that.neg() : that).round(rounder);
+      }
+      if (thatIsZero)
+      {
+         return this.round(rounder);
+      }
+      final BigFloat sum = LongArithmetic.add(this, that, negate, rounder);
+      if (sum != null)
+      {
+         return sum;
+      }
+      final int thisScale = this.scale;
+      final int thatScale = that.scale;
+      BigInteger thisUnscaledValue = this.unscaledValue;
+      BigInteger thatUnscaledValue = that.unscaledValue;
+      if (thisScale > thatScale)
+      {
+         thisUnscaledValue = thisUnscaledValue.shiftLeft(overflow((long) thisScale - thatScale));
+      }
+      else if (thisScale < thatScale)
+      {
+         thatUnscaledValue = thatUnscaledValue.shiftLeft(overflow((long) thatScale - thisScale));
+      }
+      final int scale = thisScale < thatScale ? thisScale : thatScale;
+      final BigInteger unscaledValue = negate ? thisUnscaledValue.subtract(thatUnscaledValue)
+            : thisUnscaledValue.add(thatUnscaledValue);
+      return rounder != null ? rounder.round(unscaledValue, scale)
+            : new BigFloat(unscaledValue, scale);
    }
 
    /**
@@ -406,16 +404,27 @@ public final class BigFloat extends Number implements Comparable<BigFloat>
       {
          return this.neg().round(rounder);
       }
-      if (rounder != null)
+      final BigFloat a;
+      final BigFloat b;
+      if (rounder != null && rounder.precision > 0)
+      {
+         a = Rounder.truncate(this, rounder.precision + 2);
+         b = Rounder.truncate(that, rounder.precision + 2);
+      }
+      else
       {
-         final Rounder r = new Rounder(rounder.precision + 2, RoundingMode.DOWN);
-         final BigFloat a = this.round(r);
-         final BigFloat b = that.round(r);
-         return a.mul(b, null).round(rounder);
+         a = this;
+         b = that;
       }
-      final int scale = overflow((long) this.scale + that.scale);
-      final BigInteger unscaledValue = this.unscaledValue.multiply(that.unscaledValue);
-      return new BigFloat(unscaledValue, scale).round(rounder);
+      final BigFloat product = LongArithmetic.mul(a, b, rounder);
+      if (product != null)
+      {
+         return product;
+      }
+      final int scale = overflow((long) a.scale + b.scale);
+      final BigInteger unscaledValue = a.unscaledValue.multiply(b.unscaledValue);
+      return rounder != null ? rounder.round(unscaledValue, scale)
+            : new BigFloat(unscaledValue, scale);
    }
 
    /**
@@ -532,6 +541,24 @@ public final class BigFloat extends Number implements Comparable<BigFloat>
       return Root.sqrt(this, rounder);
    }
 
+   /**
+    * Returns a new instance {@code sqrt(this)} rounded, refining a given approximation.
+    * <p>
+    * Newton's iteration starts with the given approximation instead of from scratch. This pays
+    * off, when an approximation with a lower precision is known.
+    * 
+    * @param rounder
+    *           the rounder.
+    * @param seed
+    *           an approximation of the result, or {@code null}.
+    * @return a new instance.
+    */
+   public BigFloat sqrt(final Rounder rounder, final BigFloat seed)
+   {
+
+      return Root.sqrt(this, rounder, seed);
+   }
+
    /**
     * Returns a new instance {@code n-th root(this)} rounded.
     * 
@@ -547,6 +574,26 @@ public final class BigFloat extends Number implements Comparable<BigFloat>
       return Root.root(this, n, rounder);
    }
 
+   /**
+    * Returns a new instance {@code n-th root(this)} rounded, refining a given approximation.
+    * <p>
+    * Newton's iteration starts with the given approximation instead of from scratch. This pays
+    * off, when an approximation with a lower precision is known.
+    * 
+    * @param n
+    *           the index.
+    * @param rounder
+    *           the rounder.
+    * @param seed
+    *           an approximation of the result, or {@code null}.
+    * @return a new instance.
+    */
+   public BigFloat root(final int n, final Rounder rounder, final BigFloat seed)
+   {
+
+      return Root.root(this, n, rounder, seed);
+   }
+
    /**
     * Returns a new immutable number {@code this^n}.
     * 
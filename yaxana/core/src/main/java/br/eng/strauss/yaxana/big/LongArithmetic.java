@@ -0,0 +1,233 @@
+package br.eng.strauss.yaxana.big;
+
+import static br.eng.strauss.yaxana.big.BigFloat.overflow;
+
+import java.math.BigInteger;
+
+/**
+ * Fast path for the add/sub/mul operations of {@link BigFloat} with small unscaled values.
+ * <p>
+ * If the unscaled values of both operands fit in {@code 62} bits, the exact result fits in an
+ * unsigned {@code 128} bit magnitude of two {@code long}s. The result is computed and rounded on
+ * the magnitude, using {@link Math#multiplyHigh(long, long)} for products, and only the rounded
+ * result is converted to a {@link BigInteger}. Operations, which do not qualify, return
+ * {@code null}, and the caller falls back on {@link BigInteger} arithmetic.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+final class LongArithmetic
+{
+
+   /**
+    * Returns {@code thiz + that} or {@code thiz - that} rounded, or {@code null}, if the operands
+    * do not qualify for the fast path.
+    *
+    * @param thiz
+    *           the one operand, which must not be zero.
+    * @param that
+    *           the other operand, which must not be zero.
+    * @param negate
+    *           whether to subtract {@code that}.
+    * @param rounder
+    *           the rounder or {@code null}.
+    * @return {@code thiz + that} or {@code thiz - that} rounded, or {@code null}.
+    */
+   static BigFloat add(final BigFloat thiz, final BigFloat that, final boolean negate,
+         final Rounder rounder)
+   {
+
+      final BigInteger thisUnscaledValue = thiz.unscaledValue;
+      final BigInteger thatUnscaledValue = that.unscaledValue;
+      if (thisUnscaledValue.bitLength() > MAX_BITS || thatUnscaledValue.bitLength() > MAX_BITS)
+      {
+         return null;
+      }
+      final long shift = (long) thiz.scale - that.scale;
+      if (shift > MAX_BITS || -shift > MAX_BITS)
+      {
+         return null;
+      }
+      final long x = thisUnscaledValue.longValue();
+      final long y = thatUnscaledValue.longValue();
+      final boolean xNegative = x < 0L;
+      final boolean yNegative = y < 0L != negate;
+      final long absX = Math.abs(x);
+      final long absY = Math.abs(y);
+      // align the magnitudes to the smaller scale
+      final int xShift = shift > 0L ? (int) shift : 0;
+      final int yShift = shift < 0L ? (int) -shift : 0;
+      final long xHi = xShift != 0 ? absX >>> 64 - xShift : 0L;
+      final long xLo = absX << xShift;
+      final long yHi = yShift != 0 ? absY >>> 64 - yShift : 0L;
+      final long yLo = absY << yShift;
+      final int scale = shift > 0L ? that.scale : thiz.scale;
+      if (xNegative == yNegative)
+      {
+         final long lo = xLo + yLo;
+         final long hi = xHi + yHi + (Long.compareUnsigned(lo, xLo) < 0 ? 1L : 0L);
+         return round(xNegative, hi, lo, scale, rounder);
+      }
+      final int cmp = xHi != yHi ? Long.compare(xHi, yHi) : Long.compareUnsigned(xLo, yLo);
+      if (cmp == 0)
+      {
+         return BigFloat.ZERO;
+      }
+      final long lo = cmp > 0 ? xLo - yLo : yLo - xLo;
+      final long hi = cmp > 0 ? xHi - yHi - (Long.compareUnsigned(xLo, yLo) < 0 ? 1L : 0L)
+            : yHi - xHi - (Long.compareUnsigned(yLo, xLo) < 0 ? 1L : 0L);
+      return round(cmp > 0 ? xNegative : yNegative, hi, lo, scale, rounder);
+   }
+
+   /**
+    * Returns {@code thiz * that} rounded, or {@code null}, if the operands do not qualify for the
+    * fast path.
+    *
+    * @param thiz
+    *           the one operand, which must not be zero.
+    * @param that
+    *           the other operand, which must not be zero.
+    * @param rounder
+    *           the rounder or {@code null}.
+    * @return {@code thiz * that} rounded, or {@code null}.
+    */
+   static BigFloat mul(final BigFloat thiz, final BigFloat that, final Rounder rounder)
+   {
+
+      final BigInteger thisUnscaledValue = thiz.unscaledValue;
+      final BigInteger thatUnscaledValue = that.unscaledValue;
+      if (thisUnscaledValue.bitLength() > MAX_BITS || thatUnscaledValue.bitLength() > MAX_BITS)
+      {
+         return null;
+      }
+      final long x = thisUnscaledValue.longValue();
+      final long y = thatUnscaledValue.longValue();
+      final long absX = Math.abs(x);
+      final long absY = Math.abs(y);
+      final long hi = Math.multiplyHigh(absX, absY);
+      if (hi != 0L && (rounder == null || rounder.precision <= 0 || rounder.precision >= 63))
+      {
+         // the result would not fit in a long, and BigInteger multiplies small values fast
+         return null;
+      }
+      final long lo = absX * absY;
+      final int scale = overflow((long) thiz.scale + that.scale);
+      return round((x ^ y) < 0L, hi, lo, scale, rounder);
+   }
+
+   /**
+    * Returns the number {@code (negative ? -1 : 1)*(hi*2^64+lo)*2^scale} rounded.
+    *
+    * @param negative
+    *           the sign.
+    * @param hi
+    *           the upper {@code 64} bits of the unsigned magnitude.
+    * @param lo
+    *           the lower {@code 64} bits of the unsigned magnitude.
+    * @param scale
+    *           the scale.
+    * @param rounder
+    *           the rounder or {@code null}.
+    * @return the rounded number.
+    */
+   private static BigFloat round(final boolean negative, final long hi, final long lo,
+         final int scale, final Rounder rounder)
+   {
+
+      final int bitLength = hi != 0L ? 128 - Long.numberOfLeadingZeros(hi)
+            : 64 - Long.numberOfLeadingZeros(lo);
+      final int drop = rounder != null && rounder.precision > 0 ? bitLength - rounder.precision
+            : 0;
+      if (drop <= 0)
+      {
+         return new BigFloat(bigInteger(negative, hi, lo), scale);
+      }
+      // the kept bits, the highest dropped bit and whether any lower dropped bit is set
+      long keptHi;
+      long keptLo;
+      final boolean half;
+      final boolean sticky;
+      if (drop < 64)
+      {
+         keptHi = hi >>> drop;
+         keptLo = lo >>> drop | hi << 64 - drop;
+         half = (lo >>> drop - 1 & 1L) != 0L;
+         sticky = drop > 1 && lo << 65 - drop != 0L;
+      }
+      else if (drop == 64)
+      {
+         keptHi = 0L;
+         keptLo = hi;
+         half = lo < 0L;
+         sticky = lo << 1 != 0L;
+      }
+      else
+      {
+         keptHi = 0L;
+         keptLo = hi >>> drop - 64;
+         half = (hi >>> drop - 65 & 1L) != 0L;
+         sticky = lo != 0L || drop > 65 && hi << 129 - drop != 0L;
+      }
+      if (increment(rounder, negative, half, sticky, (keptLo & 1L) != 0L))
+      {
+         keptLo++;
+         if (keptLo == 0L)
+         {
+            keptHi++;
+         }
+      }
+      return new BigFloat(bigInteger(negative, keptHi, keptLo), overflow((long) scale + drop));
+   }
+
+   /**
+    * Returns whether to increment the magnitude of a rounded number.
+    */
+   private static boolean increment(final Rounder rounder, final boolean negative,
+         final boolean half, final boolean sticky, final boolean odd)
+   {
+
+      // @formatter:off
+      return switch (rounder.roundingMode)
+      {
+         case UP -> half || sticky;
+         case DOWN, UNNECESSARY -> false;
+         case CEILING -> !negative && (half || sticky);
+         case FLOOR -> negative && (half || sticky);
+         case HALF_UP -> half;
+         case HALF_DOWN -> half && sticky;
+         case HALF_EVEN -> half && (sticky || odd);
+      };
+      // @formatter:on
+   }
+
+   /**
+    * Returns the {@link BigInteger} {@code (negative ? -1 : 1)*(hi*2^64+lo)}.
+    */
+   private static BigInteger bigInteger(final boolean negative, final long hi, final long lo)
+   {
+
+      final BigInteger magnitude;
+      if (hi == 0L && lo >= 0L)
+      {
+         magnitude = BigInteger.valueOf(lo);
+      }
+      else
+      {
+         final int noOfBytes = hi != 0L ? 16 - Long.numberOfLeadingZeros(hi) / 8 : 8;
+         final byte[] bytes = new byte[noOfBytes];
+         for (int k = 0; k < noOfBytes; k++)
+         {
+            bytes[noOfBytes - 1 - k] = (byte) (k < 8 ? lo >>> 8 * k : hi >>> 8 * (k - 8));
+         }
+         magnitude = new BigInteger(1, bytes);
+      }
+      return negative ? magnitude.negate() : magnitude;
+   }
+
+   private LongArithmetic()
+   {
+   }
+
+   /** The maximum bit length of unscaled values qualifying for the fast path. */
+   private static final int MAX_BITS = 62;
+}
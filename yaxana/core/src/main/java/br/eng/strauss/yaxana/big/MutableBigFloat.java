@@ -0,0 +1,222 @@
+package br.eng.strauss.yaxana.big;
+
+import java.math.BigInteger;
+
+/**
+ * Mutable binary floating point number {@code unscaledValue*2^scale} to accumulate the results of
+ * a sequence of operations.
+ * <p>
+ * Unlike {@link BigFloat}, the unscaled value is not normed, and no intermediate {@link BigFloat}
+ * is created by the operations. Rounding is explicit, see {@link #round(Rounder)}, and norming is
+ * deferred to {@link #toBigFloat()}. Operations on {@link MutableBigFloat}s are exact unless
+ * explicitly rounded.
+ * <p>
+ * Instances are not thread safe.
+ * 
+ * @author Burkhard Strauss
+ * @since 2026-10
+ * @see BigFloat
+ */
+public final class MutableBigFloat
+{
+
+   /**
+    * Returns a new instance with value {@code 0}.
+    */
+   public MutableBigFloat()
+   {
+
+      this.unscaledValue = BigInteger.ZERO;
+      this.scale = 0;
+   }
+
+   /**
+    * Returns a new instance with a given value.
+    * 
+    * @param value
+    *           the value.
+    */
+   public MutableBigFloat(final BigFloat value)
+   {
+
+      this.unscaledValue = value.unscaledValue;
+      this.scale = value.scale;
+   }
+
+   /**
+    * Sets the value of this number.
+    * 
+    * @param value
+    *           the value.
+    * @return this number.
+    */
+   public MutableBigFloat set(final BigFloat value)
+   {
+
+      this.unscaledValue = value.unscaledValue;
+      this.scale = value.scale;
+      return this;
+   }
+
+   /**
+    * Sets the value of this number to {@code this + that}.
+    * 
+    * @param that
+    *           that number.
+    * @return this number.
+    */
+   public MutableBigFloat add(final BigFloat that)
+   {
+
+      return add(that.unscaledValue, that.scale);
+   }
+
+   /**
+    * Sets the value of this number to {@code this - that}.
+    * 
+    * @param that
+    *           that number.
+    * @return this number.
+    */
+   public MutableBigFloat sub(final BigFloat that)
+   {
+
+      return add(that.unscaledValue.negate(), that.scale);
+   }
+
+   /**
+    * Sets the value of this number to {@code this * that}.
+    * 
+    * @param that
+    *           that number.
+    * @return this number.
+    */
+   public MutableBigFloat mul(final BigFloat that)
+   {
+
+      this.unscaledValue = this.unscaledValue.multiply(that.unscaledValue);
+      this.scale = BigFloat.overflow((long) this.scale + that.scale);
+      return this;
+   }
+
+   /**
+    * Sets the value of this number to {@code this*2^n}.
+    * 
+    * @param n
+    *           the exponent.
+    * @return this number.
+    */
+   public MutableBigFloat mulTwoTo(final int n)
+   {
+
+      this.scale = BigFloat.overflow((long) this.scale + n);
+      return this;
+   }
+
+   /**
+    * Sets the value of this number to {@code -this}.
+    * 
+    * @return this number.
+    */
+   public MutableBigFloat neg()
+   {
+
+      this.unscaledValue = this.unscaledValue.negate();
+      return this;
+   }
+
+   /**
+    * Rounds this number.
+    * 
+    * @param rounder
+    *           the rounder or {@code null}.
+    * @return this number.
+    */
+   public MutableBigFloat round(final Rounder rounder)
+   {
+
+      if (rounder != null)
+      {
+         set(rounder.round(this.unscaledValue, this.scale));
+      }
+      return this;
+   }
+
+   /**
+    * Returns {@code -1, 0, 1} in case this number is negative, zero, positive.
+    * 
+    * @return {@code -1, 0, 1} in case this number is negative, zero, positive.
+    */
+   public int signum()
+   {
+
+      return this.unscaledValue.signum();
+   }
+
+   /**
+    * Returns a new immutable number with the value of this number.
+    * 
+    * @return a new immutable number with the value of this number.
+    */
+   public BigFloat toBigFloat()
+   {
+
+      return new BigFloat(this.unscaledValue, this.scale);
+   }
+
+   /**
+    * Returns a new immutable number with the value of this number rounded.
+    * 
+    * @param rounder
+    *           the rounder or {@code null}.
+    * @return a new immutable number with the value of this number rounded.
+    */
+   public BigFloat toBigFloat(final Rounder rounder)
+   {
+
+      return rounder != null ? rounder.round(this.unscaledValue, this.scale) : toBigFloat();
+   }
+
+   @Override
+   public String toString()
+   {
+
+      return toBigFloat().toString();
+   }
+
+   /**
+    * Helper for {@link #add(BigFloat)} and {@link #sub(BigFloat)}.
+    */
+   private MutableBigFloat add(final BigInteger thatUnscaledValue, final int thatScale)
+   {
+
+      if (thatUnscaledValue.signum() == 0)
+      {
+         return this;
+      }
+      if (this.unscaledValue.signum() == 0)
+      {
+         this.unscaledValue = thatUnscaledValue;
+         this.scale = thatScale;
+         return this;
+      }
+      if (this.scale > thatScale)
+      {
+         final int shift = BigFloat.overflow((long) this.scale - thatScale);
+         this.unscaledValue = this.unscaledValue.shiftLeft(shift).add(thatUnscaledValue);
+         this.scale = thatScale;
+      }
+      else
+      {
+         final int shift = BigFloat.overflow((long) thatScale - this.scale);
+         this.unscaledValue = this.unscaledValue.add(thatUnscaledValue.shiftLeft(shift));
+      }
+      return this;
+   }
+
+   /** The unscaled value {@code this = unscaledValue*2^scale}. */
+   private BigInteger unscaledValue;
+
+   /** The scale {@code this = unscaledValue*2^scale}. */
+   private int scale;
+}
@@ -10,6 +10,12 @@ import br.eng.strauss.yaxana.exc.NegativeRadicandException;
 
 /**
  * Implementation of the sqrt/root operations of {@link BigFloat}.
+ * <p>
+ * Roots are computed by Newton's iteration. If a seed, i.e. a previous approximation of the root,
+ * is given, the iteration starts with the seed at the seed's precision instead of starting from
+ * scratch, and stops as soon as the quadratic convergence ensures the required precision. Hence,
+ * refining a known approximation to twice its precision typically takes a single iteration at the
+ * target precision.
  * 
  * @author Burkhard Strauss
  * @since August 2017
@@ -27,6 +33,23 @@ final class Root
     * @return a new instance.
     */
    public static BigFloat sqrt(final BigFloat thiz, final Rounder rounder)
+   {
+
+      return sqrt(thiz, rounder, null);
+   }
+
+   /**
+    * Returns a new instance {@code sqrt(thiz)} rounded.
+    * 
+    * @param thiz
+    *           the value.
+    * @param rounder
+    *           the rounder.
+    * @param seed
+    *           an approximation of the result to start with, or {@code null}.
+    * @return a new instance.
+    */
+   public static BigFloat sqrt(final BigFloat thiz, final Rounder rounder, final BigFloat seed)
    {
 
       switch (thiz.signum())
@@ -47,29 +70,32 @@ final class Root
          {
             final int oomRoot = oom / n;
             final int oomRadi = n * oomRoot;
-            return thiz.mulTwoTo(-oomRadi).sqrt(rounder).mulTwoTo(oomRoot);
+            return Root.sqrt(thiz.mulTwoTo(-oomRadi), rounder, scaled(seed, -oomRoot))
+                  .mulTwoTo(oomRoot);
          }
       }
       final int prec = rounder.getPrecision();
       final BigFloat HALF = new BigFloat(BigInteger.ONE, -1);
       final int maxPrecision = prec + 4 + thiz.precision();
-      final BigFloat acceptableError = BigFloat.twoTo(-(prec + 2));
-      BigFloat sqrt = thiz.mul(HALF, Rounder.SINGLE);
-      int adaptivePrecision = 2;
+      final boolean seeded = isUsable(seed);
+      final BigFloat acceptableError = acceptableError(prec + 2, 2, seeded);
+      BigFloat sqrt = seeded ? seed : thiz.mul(HALF, Rounder.SINGLE);
+      int adaptivePrecision = seeded ? initialPrecision(seed, maxPrecision) : 2;
+      final MutableBigFloat accumulator = new MutableBigFloat();
       BigFloat previousSqrt;
       do
       {
          if (adaptivePrecision < maxPrecision)
          {
-            adaptivePrecision *= 3;
+            adaptivePrecision *= seeded ? 2 : 3;
             if (adaptivePrecision > maxPrecision)
             {
                adaptivePrecision = maxPrecision;
             }
          }
-         final Rounder ctx = new Rounder(adaptivePrecision);
+         final Rounder ctx = Rounder.valueOf(adaptivePrecision, null);
          previousSqrt = sqrt;
-         sqrt = thiz.div(sqrt, ctx).add(sqrt, ctx).mul(HALF, ctx);
+         sqrt = accumulator.set(thiz.div(sqrt, ctx)).add(sqrt).mulTwoTo(-1).toBigFloat(ctx);
       }
       while (adaptivePrecision < maxPrecision
             || sqrt.sub(previousSqrt).abs().compareTo(acceptableError) > 0);
@@ -90,6 +116,26 @@ final class Root
    public static BigFloat root(final BigFloat thiz, final int n, final Rounder rounder)
    {
 
+      return root(thiz, n, rounder, null);
+   }
+
+   /**
+    * Returns a new instance {@code n-th root(this)} rounded.
+    * 
+    * @param thiz
+    *           the value.
+    * @param n
+    *           the index.
+    * @param rounder
+    *           the rounder.
+    * @param seed
+    *           an approximation of the result to start with, or {@code null}.
+    * @return a new instance.
+    */
+   public static BigFloat root(final BigFloat thiz, final int n, final Rounder rounder,
+         final BigFloat seed)
+   {
+
       if (n == 0)
       {
          throw new DivisionByZeroException();
@@ -104,7 +150,7 @@ final class Root
       }
       if (n == 2)
       {
-         return thiz.sqrt(rounder);
+         return Root.sqrt(thiz, rounder, seed);
       }
       switch (thiz.signum())
       {
@@ -117,7 +163,7 @@ final class Root
             }
             else
             {
-               return thiz.neg().root(n, rounder).neg();
+               return Root.root(thiz.neg(), n, rounder, seed != null ? seed.neg() : null).neg();
             }
       }
       if (thiz.isOne())
@@ -130,32 +176,91 @@ final class Root
          {
             final int oomRoot = oom / n;
             final int oomRadi = n * oomRoot;
-            return thiz.mulTwoTo(-oomRadi).root(n, rounder).mulTwoTo(oomRoot);
+            return Root.root(thiz.mulTwoTo(-oomRadi), n, rounder, scaled(seed, -oomRoot))
+                  .mulTwoTo(oomRoot);
          }
       }
       final int prec = rounder.getPrecision();
       final int maxPrecision = prec + 4 + thiz.precision();
-      final BigFloat acceptableError = BigFloat.twoTo(-(prec + 1));
+      final boolean seeded = isUsable(seed);
+      final BigFloat acceptableError = acceptableError(prec + 1, n, seeded);
       final BigFloat bn = new BigFloat(n);
       final int nMinus1 = n - 1;
-      BigFloat result = thiz.div(TWO, Rounder.SINGLE);
-      int adaptivePrecision = 2;
+      BigFloat result = seeded ? seed : thiz.div(TWO, Rounder.SINGLE);
+      int adaptivePrecision = seeded ? initialPrecision(seed, maxPrecision) : 2;
+      final MutableBigFloat accumulator = new MutableBigFloat();
       BigFloat step;
       do
       {
-         adaptivePrecision = adaptivePrecision * 3;
+         adaptivePrecision = adaptivePrecision * (seeded ? 2 : 3);
          if (adaptivePrecision > maxPrecision)
          {
             adaptivePrecision = maxPrecision;
          }
-         final Rounder ctx = new Rounder(adaptivePrecision);
-         step = thiz.div(result.pow(nMinus1, ctx), ctx).sub(result, ctx).div(bn, ctx);
+         final Rounder ctx = Rounder.valueOf(adaptivePrecision, null);
+         final BigFloat quotient = thiz.div(result.pow(nMinus1, ctx), ctx);
+         step = accumulator.set(quotient).sub(result).toBigFloat(ctx).div(bn, ctx);
          result = result.add(step, ctx);
       }
       while (adaptivePrecision < maxPrecision || step.abs().compareTo(acceptableError) > 0);
       return result.round(rounder);
    }
 
+   /**
+    * Returns a given seed scaled by a power of two, or {@code null}, if the seed is {@code null}.
+    */
+   private static BigFloat scaled(final BigFloat seed, final int n)
+   {
+
+      return seed != null ? seed.mulTwoTo(n) : null;
+   }
+
+   /**
+    * Returns whether a given seed for a root of a normalized radicand is usable. The root of a
+    * normalized radicand is within {@code [1/2,2)}.
+    */
+   private static boolean isUsable(final BigFloat seed)
+   {
+
+      return seed != null && seed.signum() > 0 && Math.abs(seed.msb()) <= 1;
+   }
+
+   /**
+    * Returns the precision of the first iteration starting with a given seed.
+    */
+   private static int initialPrecision(final BigFloat seed, final int maxPrecision)
+   {
+
+      return Math.max(2, Math.min(seed.precision(), maxPrecision));
+   }
+
+   /**
+    * Returns the acceptable absolute value of the last Newton step.
+    * <p>
+    * Without a seed, iteration stops, if the last step is below the required precision. With a
+    * seed, iteration stops, if the error remaining after the last step, which is about
+    * {@code (n-1)/(2*root)*step^2}, is below the required precision. Here {@code root} is within
+    * {@code [1/2,2)}.
+    * 
+    * @param prec
+    *           the required precision, i.e. the acceptable error is {@code 2^-prec}.
+    * @param n
+    *           the index of the root.
+    * @param seeded
+    *           whether iteration started with a seed.
+    * @return the acceptable absolute value of the last Newton step.
+    */
+   private static BigFloat acceptableError(final int prec, final int n, final boolean seeded)
+   {
+
+      if (seeded)
+      {
+         final int ldN = 32 - Integer.numberOfLeadingZeros(n - 1);
+         return BigFloat.twoTo(-((prec + ldN + 1) / 2 + 1));
+      }
+      return BigFloat.twoTo(-prec);
+   }
+
    private Root()
    {
    }
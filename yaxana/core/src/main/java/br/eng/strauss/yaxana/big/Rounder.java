@@ -28,6 +28,12 @@ public final class Rounder
    /** A minmal precision (1bit) rounder with default rounding mode. */
    public static final Rounder MINIMAL = new Rounder(1);
 
+   /** The number of precisions cached by {@link #valueOf(int, RoundingMode)}. */
+   private static final int CACHED_PRECISIONS = 1 << 12;
+
+   /** The cached instances by rounding mode and precision, created on demand. */
+   private static final Rounder[][] CACHE = new Rounder[RoundingMode.values().length][];
+
    /** The binary precision. */
    final int precision;
 
@@ -64,6 +70,42 @@ public final class Rounder
       this.roundingMode = roundingMode != null ? roundingMode : HALF_UP;
    }
 
+   /**
+    * Returns an instance, which is shared for small precisions.
+    * <p>
+    * Precision driven computation rounds every node of an expression at a precision, which
+    * depends on the requested precision only, so the instances are reused instead of being
+    * allocated per node and refinement step.
+    *
+    * @param precision
+    *           The precision, see {@link #Rounder(int, RoundingMode)}.
+    * @param roundingMode
+    *           The rounding mode or {@code null} for default ({@link RoundingMode#HALF_UP}).
+    * @return an instance.
+    */
+   public static Rounder valueOf(final int precision, final RoundingMode roundingMode)
+   {
+
+      final int p = precision >= 0 ? precision : 0;
+      final RoundingMode mode = roundingMode != null ? roundingMode : HALF_UP;
+      if (p >= CACHED_PRECISIONS)
+      {
+         return new Rounder(p, mode);
+      }
+      // instances are immutable, so racy initialization at worst creates duplicates
+      Rounder[] rounders = CACHE[mode.ordinal()];
+      if (rounders == null)
+      {
+         CACHE[mode.ordinal()] = rounders = new Rounder[CACHED_PRECISIONS];
+      }
+      Rounder rounder = rounders[p];
+      if (rounder == null)
+      {
+         rounders[p] = rounder = new Rounder(p, mode);
+      }
+      return rounder;
+   }
+
    /**
     * Returns the binary precision.
     * <p>
@@ -91,6 +133,60 @@ public final class Rounder
       return roundingMode;
    }
 
+   /**
+    * Returns a new {@link BigFloat} {@code unscaledValue*2^scale} rounded.
+    * <p>
+    * This fuses normalization and rounding of the unrounded result of an operation, avoiding the
+    * intermediate {@link BigFloat}.
+    * 
+    * @param unscaledValue
+    *           the unscaled value, which need not be normalized.
+    * @param scale
+    *           the scale.
+    * @return a new {@link BigFloat} {@code unscaledValue*2^scale} rounded.
+    */
+   BigFloat round(final BigInteger unscaledValue, final int scale)
+   {
+
+      if (precision > 0 && unscaledValue.signum() != 0)
+      {
+         final int lowestSetBit = unscaledValue.getLowestSetBit();
+         final int bitLength = unscaledValue.bitLength();
+         // the bit length of a negative power of two excludes its only set bit
+         final int absBitLength = lowestSetBit == bitLength ? bitLength + 1 : bitLength;
+         final int drop = absBitLength - precision;
+         if (drop > 0 && lowestSetBit < drop)
+         {
+            final BigInteger rounded = shiftRightAndRound(unscaledValue, drop);
+            return new BigFloat(rounded, overflow((long) scale + drop));
+         }
+      }
+      return new BigFloat(unscaledValue, scale);
+   }
+
+   /**
+    * Returns a given number truncated to a given precision, i.e. rounded towards zero.
+    * 
+    * @param number
+    *           the number.
+    * @param precision
+    *           the precision.
+    * @return the number truncated to the precision.
+    */
+   static BigFloat truncate(final BigFloat number, final int precision)
+   {
+
+      final int drop = number.precision() - precision;
+      if (drop > 0)
+      {
+         final BigInteger unscaledValue = number.unscaledValue;
+         final BigInteger truncated = unscaledValue.signum() > 0 ? unscaledValue.shiftRight(drop)
+               : unscaledValue.negate().shiftRight(drop).negate();
+         return new BigFloat(truncated, overflow((long) number.scale + drop));
+      }
+      return number;
+   }
+
    /**
     * Implementation of {@link BigFloat#round(Rounder)}.
     */
@@ -197,6 +293,6 @@ public final class Rounder
    {
 
       final boolean bit = value.testBit(drop - 1);
-      return drop > 1 && bit ? BigInteger.ONE : null;
+      return bit && value.getLowestSetBit() < drop - 1 ? BigInteger.ONE : null;
    }
 }
@@ -44,7 +44,8 @@ public abstract class AbstractEPU implements EPU
       }
       if (this.operand != operand)
       {
-         operand.setApproximation(this.operand.approximation(), this.operand.precision());
+         final int precision = this.operand.precision();
+         operand.setApproximation(this.operand.approximation(), precision);
       }
       return this.signum;
    }
@@ -2,10 +2,17 @@ package br.eng.strauss.yaxana.epu;
 
 import static br.eng.strauss.yaxana.Type.TERMINAL;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Supplier;
 
 import br.eng.strauss.yaxana.Algorithm;
+import br.eng.strauss.yaxana.PrecisionSchedule;
 import br.eng.strauss.yaxana.Expression;
 import br.eng.strauss.yaxana.SyntaxTree;
 import br.eng.strauss.yaxana.Type;
@@ -26,7 +33,10 @@ import br.eng.strauss.yaxana.pdc.Approximable;
  * decisions based on the exact value of the expression in finite time, although their exact decimal
  * or binary or whatever numeral representation may have an infinite number of digits.
  * <p>
- * Instances are not thread-safe.
+ * Sign computation is thread-safe, also for expressions sharing subexpressions: Approximations are
+ * immutable snapshots, which are only ever replaced by snapshots of a higher precision using
+ * compare-and-set, so concurrent computations reuse each other's refined approximations. Root bound
+ * parameters and signs are immutable once computed.
  * 
  * @author Burkhard Strauss
  * @since July 2017
@@ -112,11 +122,11 @@ public final class Algebraic
    {
 
       this.type = Type.TERMINAL;
-      this.approximation = approximation;
-      this.precision = precision;
+      this.snapshot = new Approximation(approximation, precision);
       this.left = null;
       this.right = null;
-      this.hashCode = Objects.hash(this.approximation, this.precision);
+      this.hashCode = Objects.hash(approximation, precision);
+      this.factory = null;
    }
 
    /**
@@ -133,11 +143,39 @@ public final class Algebraic
    {
 
       this.type = type;
-      this.approximation = null;
-      this.precision = 0;
+      this.snapshot = null;
       this.left = left;
       this.right = right;
-      this.hashCode = Objects.hash(this.type, this.left, this.right);
+      this.hashCode = hashCode(type, left, right);
+      this.factory = null;
+   }
+
+   /**
+    * Returns a copy of a given expression with given equal subexpressions, which keeps the
+    * approximation, root bound parameters and sign of the expression.
+    *
+    * @param that
+    *           the expression.
+    * @param left
+    *           the left or the unary subexpression, equal to the one of the expression, or
+    *           {@code null}.
+    * @param right
+    *           the right subexpression, equal to the one of the expression, or {@code null}.
+    * @param factory
+    *           the factory, whose canonical instance the copy is, or {@code null}.
+    */
+   Algebraic(final Algebraic that, final Algebraic left, final Algebraic right,
+         final AlgebraicFactory factory)
+   {
+
+      this.type = that.type;
+      this.left = left;
+      this.right = right;
+      this.snapshot = that.snapshot;
+      this.rootBoundParameters = that.rootBoundParameters;
+      this.signum = that.signum;
+      this.hashCode = that.hashCode;
+      this.factory = factory;
    }
 
    /**
@@ -152,9 +190,9 @@ public final class Algebraic
       this.type = that.type;
       this.left = that.left != null ? new Algebraic(that.left) : null;
       this.right = that.right != null ? new Algebraic(that.right) : null;
-      this.approximation = that.type == Type.TERMINAL ? that.approximation : null;
-      this.precision = that.type == Type.TERMINAL ? Integer.MAX_VALUE : 0;
+      this.snapshot = that.type == Type.TERMINAL ? that.snapshot : null;
       this.hashCode = that.hashCode;
+      this.factory = null;
    }
 
    @Override
@@ -188,9 +226,9 @@ public final class Algebraic
 
       if (type == Type.POW || type == Type.ROOT)
       {
-         return right.approximation.intValue();
+         return right.approximation().intValue();
       }
-      return this.approximation.intValue();
+      return approximation().intValue();
    }
 
    @Override
@@ -207,6 +245,36 @@ public final class Algebraic
       return right;
    }
 
+   /**
+    * Returns the number of distinct nodes of the tree of this expression, where subexpressions
+    * shared by identity count once.
+    * 
+    * @return the number of distinct nodes of the tree of this expression.
+    */
+   public int noOfNodes()
+   {
+
+      final Set<Algebraic> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+      final Deque<Algebraic> pending = new ArrayDeque<>();
+      pending.push(this);
+      while (!pending.isEmpty())
+      {
+         final Algebraic a = pending.pop();
+         if (visited.add(a))
+         {
+            if (a.left != null)
+            {
+               pending.push(a.left);
+            }
+            if (a.right != null)
+            {
+               pending.push(a.right);
+            }
+         }
+      }
+      return visited.size();
+   }
+
    @Override
    public Algebraic add(final Algebraic that)
    {
@@ -289,6 +357,11 @@ public final class Algebraic
    public int signum()
    {
 
+      final Integer signum = this.signum;
+      if (signum != null)
+      {
+         return signum;
+      }
       final Algorithm algorithm;
       synchronized (Algebraic.class)
       {
@@ -300,8 +373,7 @@ public final class Algebraic
          case ZVAA -> () -> new ZvaaEPU();
          case MOSC -> () -> new MoscEPU();
       };
-      Approximable.super.ensureSignum(epu);
-      return this.approximation.signum();
+      return this.signum = Approximable.super.ensureSignum(epu);
    }
 
    @Override
@@ -310,7 +382,7 @@ public final class Algebraic
 
       if (this.type == TERMINAL && that.type == TERMINAL)
       {
-         return this.approximation.compareTo(that.approximation);
+         return this.approximation().compareTo(that.approximation());
       }
       return this.sub(that).signum();
    }
@@ -359,6 +431,15 @@ public final class Algebraic
    public boolean astEquals(final Algebraic that)
    {
 
+      if (this == that)
+      {
+         return true;
+      }
+      if (this.factory != null && this.factory == that.factory)
+      {
+         // canonical instances are unique
+         return false;
+      }
       if (this.hashCode == that.hashCode && this.type == that.type)
       {
          if (this.left != null && !this.left.astEquals(that.left))
@@ -371,7 +452,7 @@ public final class Algebraic
          }
          if (this.type == Type.TERMINAL)
          {
-            return this.approximation.equals(that.approximation);
+            return this.approximation().equals(that.approximation());
          }
          return true;
       }
@@ -385,6 +466,27 @@ public final class Algebraic
       return this.hashCode;
    }
 
+   /**
+    * Returns the factory, whose canonical instance this is, or {@code null}.
+    *
+    * @return the factory, whose canonical instance this is, or {@code null}.
+    */
+   AlgebraicFactory factory()
+   {
+
+      return this.factory;
+   }
+
+   /**
+    * Returns {@code Objects.hash(type, left, right)} without boxing into an array.
+    */
+   private static int hashCode(final Type type, final Algebraic left, final Algebraic right)
+   {
+
+      final int h = 31 * (31 + type.hashCode()) + (left != null ? left.hashCode : 0);
+      return 31 * h + (right != null ? right.hashCode : 0);
+   }
+
    /**
     * Returns a representation accepted by the {@link Parser}.
     * 
@@ -409,7 +511,7 @@ public final class Algebraic
    public double doubleValue()
    {
 
-      return this.approximation.doubleValue();
+      return approximation().doubleValue();
    }
 
    @Override
@@ -423,22 +525,102 @@ public final class Algebraic
    public int precision()
    {
 
-      return precision;
+      final Approximation snapshot = this.snapshot;
+      return snapshot != null ? snapshot.precision : 0;
    }
 
    @Override
    public BigFloat approximation()
    {
 
-      return approximation;
+      final Approximation snapshot = this.snapshot;
+      return snapshot != null ? snapshot.value : null;
    }
 
    @Override
    public void setApproximation(final BigFloat approximation, final int precision)
    {
 
-      this.approximation = approximation;
-      this.precision = precision;
+      final Approximation update = new Approximation(approximation, precision);
+      Approximation current = this.snapshot;
+      while (current == null || current.precision < precision)
+      {
+         if (SNAPSHOT.compareAndSet(this, current, update))
+         {
+            return;
+         }
+         current = this.snapshot;
+      }
+   }
+
+   /**
+    * Returns the root bound parameters or {@code null}, if not yet computed.
+    * 
+    * @return the root bound parameters or {@code null}.
+    */
+   RootBoundParameters rootBoundParameters()
+   {
+
+      return this.rootBoundParameters;
+   }
+
+   /**
+    * Sets the root bound parameters.
+    * 
+    * @param rootBoundParameters
+    *           the root bound parameters.
+    */
+   void setRootBoundParameters(final RootBoundParameters rootBoundParameters)
+   {
+
+      this.rootBoundParameters = rootBoundParameters;
+   }
+
+   /**
+    * Returns the root bound parameters, if they are known or can be computed from the known ones
+    * of the subexpressions, or else {@code null}.
+    * 
+    * @return the root bound parameters or {@code null}.
+    */
+   public RootBoundParameters knownRootBoundParameters()
+   {
+
+      RootBoundParameters parameters = this.rootBoundParameters;
+      if (parameters == null)
+      {
+         final RootBoundParameters l = this.left != null ? this.left.rootBoundParameters : null;
+         final RootBoundParameters r = this.right != null ? this.right.rootBoundParameters : null;
+         // @formatter:off
+         final boolean known = switch (this.type)
+         {
+            case TERMINAL            -> true;
+            case ADD, SUB, MUL, DIV  -> l != null && r != null;
+            case NEG, ABS, POW, ROOT -> l != null;
+         };
+         // @formatter:on
+         if (known)
+         {
+            parameters = RootBoundEPU.rootBoundParameters(this, l, r);
+            this.rootBoundParameters = parameters;
+         }
+      }
+      return parameters;
+   }
+
+   /**
+    * Attaches given root bound parameters, which have been computed for an expression equal to
+    * this, unless the root bound parameters of this are known already.
+    * 
+    * @param rootBoundParameters
+    *           the root bound parameters or {@code null}.
+    */
+   public void attachRootBoundParameters(final RootBoundParameters rootBoundParameters)
+   {
+
+      if (this.rootBoundParameters == null)
+      {
+         this.rootBoundParameters = rootBoundParameters;
+      }
    }
 
    /**
@@ -472,6 +654,31 @@ public final class Algebraic
       }
    }
 
+   /**
+    * Returns the strategy to raise the precision of approximations during sign computation.
+    * 
+    * @return the strategy to raise the precision of approximations during sign computation.
+    * @see #setPrecisionSchedule(PrecisionSchedule)
+    */
+   public static PrecisionSchedule getPrecisionSchedule()
+   {
+
+      return precisionSchedule;
+   }
+
+   /**
+    * Sets the strategy to raise the precision of approximations during sign computation.
+    * 
+    * @param precisionSchedule
+    *           the strategy to raise the precision of approximations during sign computation.
+    * @see #getPrecisionSchedule()
+    */
+   public static void setPrecisionSchedule(final PrecisionSchedule precisionSchedule)
+   {
+
+      Algebraic.precisionSchedule = precisionSchedule;
+   }
+
    /**
     * Returns an expression for the conjugate root of the structural polynomial with the greatest
     * absolute value.
@@ -487,7 +694,7 @@ public final class Algebraic
       // @formatter:off
       return switch (type)
       {
-         case TERMINAL -> new Algebraic(approximation.abs());
+         case TERMINAL -> new Algebraic(approximation().abs());
          case ADD      -> left.maxConjugate().add(right.maxConjugate()); 
          case SUB      -> left.maxConjugate().add(right.maxConjugate()); 
          case MUL      -> left.maxConjugate().mul(right.maxConjugate()); 
@@ -531,6 +738,7 @@ public final class Algebraic
       {
          case TERMINAL ->
          {
+            final BigFloat approximation = approximation();
             final int scale = approximation.scale();
             return scale < 0
                   ? new Algebraic(new BigFloat(approximation.unscaledValue()))
@@ -587,6 +795,24 @@ public final class Algebraic
       throw new UnreachedException();
    }
 
+   /**
+    * Immutable approximation of the value of an {@link Algebraic} together with its precision.
+    */
+   private static final class Approximation
+   {
+
+      Approximation(final BigFloat value, final int precision)
+      {
+
+         this.value = value;
+         this.precision = precision;
+      }
+
+      final BigFloat value;
+
+      final int precision;
+   }
+
    /** The number {@code 0}. */
    public static final Algebraic ZERO = new Algebraic(0d);
 
@@ -605,6 +831,9 @@ public final class Algebraic
    /** The {@link Algorithm} being used for sign computation. */
    private static Algorithm algorithm = Algorithm.ZVAA;
 
+   /** The strategy to raise the precision of approximations during sign computation. */
+   private static volatile PrecisionSchedule precisionSchedule = PrecisionSchedule.doubling();
+
    /** The type of expression represented by this {@link Algebraic}. */
    private final Type type;
 
@@ -617,24 +846,18 @@ public final class Algebraic
    /** The hash code. */
    private final int hashCode;
 
-   /** The current approximation of the value of this {@link Algebraic}. */
-   private BigFloat approximation;
-
-   /** The precision of the current approximation of the value of this {@link Algebraic}. */
-   private int precision;
-
-   /** BFMSS[2] parameter used by {@link EPU}-implementations. */
-   public BigFloat u;
+   /** The current approximation of the value of this {@link Algebraic} or {@code null}. */
+   private volatile Approximation snapshot;
 
-   /** BFMSS[2] parameter used by {@link EPU}-implementations. */
-   public BigFloat l;
+   /** The root bound parameters used by {@link EPU}-implementations or {@code null}. */
+   private volatile RootBoundParameters rootBoundParameters;
 
-   /** BFMSS[2] parameter used by {@link EPU}-implementations. */
-   public int vp;
+   /** The exact signum or {@code null} if not yet computed. */
+   private volatile Integer signum;
 
-   /** BFMSS[2] parameter used by {@link EPU}-implementations. */
-   public int vn;
+   /** The factory, whose canonical instance this is, or {@code null}. */
+   private final AlgebraicFactory factory;
 
-   /** BFMSS[2] parameter used by {@link EPU}-implementations. */
-   public long D;
+   private static final AtomicReferenceFieldUpdater<Algebraic, Approximation> SNAPSHOT =
+         AtomicReferenceFieldUpdater.newUpdater(Algebraic.class, Approximation.class, "snapshot");
 }
@@ -0,0 +1,170 @@
+package br.eng.strauss.yaxana.epu;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Thread safe hash-consing factory of canonical {@link Algebraic} instances.
+ * <p>
+ * The canonical instances are spread over tables by their hash codes, each of which is locked
+ * separately, so that threads interning different expressions rarely contend.
+ * <p>
+ * The canonical instances of a factory are unique per abstract syntax tree, and their
+ * subexpressions are canonical, too. Hence canonical instances of the same factory are equal, if
+ * and only if they are identical, and a subexpression shared by several expressions is a single
+ * instance, whose approximations and root bound parameters are computed once for all of them.
+ * <p>
+ * Canonical instances are referenced weakly, so that they are discarded, as soon as no expression
+ * refers to them anymore.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ * @see Cache#getFactory()
+ */
+public final class AlgebraicFactory
+{
+
+   /**
+    * Creates a new instance.
+    */
+   public AlgebraicFactory()
+   {
+
+      this.tables = new Table[1 << LOG_NO_OF_TABLES];
+      for (int k = 0; k < this.tables.length; k++)
+      {
+         this.tables[k] = new Table();
+      }
+   }
+
+   /**
+    * Returns the canonical instance equal to a given expression.
+    *
+    * @param a
+    *           the expression.
+    * @return the canonical instance equal to the expression.
+    */
+   public Algebraic intern(final Algebraic a)
+   {
+
+      if (a.factory() == this)
+      {
+         return a;
+      }
+      // post order, so that the subexpressions are canonical before their parent is looked up
+      final Map<Algebraic, Algebraic> canonical = new IdentityHashMap<>();
+      final Deque<Algebraic> pending = new ArrayDeque<>();
+      pending.push(a);
+      while (!pending.isEmpty())
+      {
+         final Algebraic b = pending.peek();
+         if (canonical.containsKey(b))
+         {
+            pending.pop();
+            continue;
+         }
+         final Algebraic left = b.left();
+         final Algebraic right = b.right();
+         boolean ready = true;
+         if (right != null && right.factory() != this && !canonical.containsKey(right))
+         {
+            pending.push(right);
+            ready = false;
+         }
+         if (left != null && left.factory() != this && !canonical.containsKey(left))
+         {
+            pending.push(left);
+            ready = false;
+         }
+         if (ready)
+         {
+            pending.pop();
+            canonical.put(b, lookup(b, canonical(left, canonical), canonical(right, canonical)));
+         }
+      }
+      return canonical.get(a);
+   }
+
+   /**
+    * Returns the number of canonical instances, which have not been discarded yet.
+    *
+    * @return the number of canonical instances.
+    */
+   public int size()
+   {
+
+      int size = 0;
+      for (final Table table : this.tables)
+      {
+         synchronized (table)
+         {
+            size += table.size();
+         }
+      }
+      return size;
+   }
+
+   /**
+    * Forgets all canonical instances. They stay valid, but are no more returned by
+    * {@link #intern(Algebraic)}.
+    */
+   public void clear()
+   {
+
+      for (final Table table : this.tables)
+      {
+         synchronized (table)
+         {
+            table.clear();
+         }
+      }
+   }
+
+   private Algebraic canonical(final Algebraic a, final Map<Algebraic, Algebraic> canonical)
+   {
+
+      return a == null || a.factory() == this ? a : canonical.get(a);
+   }
+
+   /**
+    * Returns the canonical instance equal to a given expression with given canonical
+    * subexpressions, which is created, if there is none.
+    */
+   private Algebraic lookup(final Algebraic a, final Algebraic left, final Algebraic right)
+   {
+
+      // a key with canonical subexpressions is compared in constant time
+      final Algebraic key = a.left() == left && a.right() == right ? a
+            : new Algebraic(a, left, right, null);
+      final Table table = this.tables[key.hashCode()
+            * 0x9E3779B9 >>> Integer.SIZE - LOG_NO_OF_TABLES];
+      synchronized (table)
+      {
+         final WeakReference<Algebraic> reference = table.get(key);
+         Algebraic value = reference != null ? reference.get() : null;
+         if (value == null)
+         {
+            value = new Algebraic(a, left, right, this);
+            table.put(value, new WeakReference<>(value));
+         }
+         return value;
+      }
+   }
+
+   /**
+    * Table of canonical instances, each referring weakly to itself.
+    */
+   private static final class Table extends WeakHashMap<Algebraic, WeakReference<Algebraic>>
+   {
+   }
+
+   /** The binary logarithm of the number of tables. */
+   private static final int LOG_NO_OF_TABLES = 5;
+
+   /** The tables of the canonical instances by the high bits of their mixed hash codes. */
+   private final Table[] tables;
+}
@@ -1,5 +1,9 @@
 package br.eng.strauss.yaxana.epu;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 import br.eng.strauss.yaxana.Type;
 import br.eng.strauss.yaxana.exc.PrecisionOverflowException;
 
@@ -29,8 +33,7 @@ final class BfmssEPU extends RootBoundEPU
    public int sufficientPrecision(final Algebraic value)
    {
 
-      clearVisitedMarks(value);
-      productOfIndices(value);
+      this.D = productOfIndices(value);
       return super.sufficientPrecision(value);
    }
 
@@ -38,40 +41,37 @@ final class BfmssEPU extends RootBoundEPU
    protected int exponent(final Algebraic a)
    {
 
-      return (int) (a.D - 1L);
+      return (int) (this.D - 1L);
    }
 
-   void clearVisitedMarks(final Algebraic a)
+   /**
+    * Returns the product of the indices of the distinct {@code ROOT} nodes of a given expression.
+    * 
+    * @param a
+    *           the expression.
+    * @return the product of the indices of the distinct {@code ROOT} nodes.
+    */
+   long productOfIndices(final Algebraic a)
    {
 
-      a.D = Long.MIN_VALUE;
-      final Algebraic left = a.left();
-      if (left != null)
-      {
-         clearVisitedMarks(left);
-      }
-      final Algebraic rite = a.right();
-      if (rite != null)
-      {
-         clearVisitedMarks(rite);
-      }
+      return productOfIndices(a, Collections.newSetFromMap(new IdentityHashMap<>()));
    }
 
-   long productOfIndices(final Algebraic a)
+   private long productOfIndices(final Algebraic a, final Set<Algebraic> visited)
    {
 
       long product = 1L;
-      if (a.D == Long.MIN_VALUE)
+      if (visited.add(a))
       {
          final Algebraic left = a.left();
          final Algebraic rite = a.right();
-         if (left != null && left.D == Long.MIN_VALUE)
+         if (left != null && !visited.contains(left))
          {
-            product *= productOfIndices(left);
+            product *= productOfIndices(left, visited);
          }
-         if (rite != null && rite.D == Long.MIN_VALUE)
+         if (rite != null && !visited.contains(rite))
          {
-            product *= productOfIndices(rite);
+            product *= productOfIndices(rite, visited);
          }
          if (a.type() == Type.ROOT)
          {
@@ -82,6 +82,9 @@ final class BfmssEPU extends RootBoundEPU
       {
          throw new PrecisionOverflowException(a.toString());
       }
-      return a.D = product;
+      return product;
    }
+
+   /** BFMSS[2] parameter {@code D} of the operand. */
+   private long D;
 }
@@ -1,7 +1,9 @@
 package br.eng.strauss.yaxana.epu;
 
 import java.util.Formatter;
-import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
 
 import br.eng.strauss.yaxana.Robust;
 import br.eng.strauss.yaxana.Robusts;
@@ -11,6 +13,17 @@ import br.eng.strauss.yaxana.Robusts;
  * <p>
  * Yaxana caches {@link Robust} instances, whose sign cannot be determined by {@code double}
  * interval arithmetic.
+ * <p>
+ * Lookups and stores are served by a {@link ConcurrentHashMap} and never block. The recency order
+ * used for eviction is a linked list guarded by a lock, which lookups and stores only try to
+ * acquire: a lookup, which finds the lock held, skips updating the recency order, and a store,
+ * which finds the lock held, queues its entry, which is then linked into the recency order by the
+ * holder of the lock. Hence, eviction is least recently used for single threaded use and
+ * approximately least recently used under contention, when the size may also exceed the maximum
+ * size by the entries queued.
+ * <p>
+ * Besides the process wide {@link #getInstance() singleton}, separate instances may be bound to a
+ * thread, which then uses the bound instance instead of the singleton. See {@link #current()}.
  * 
  * @author Burkhard Strauss
  * @since 05-2022
@@ -31,16 +44,96 @@ public final class Cache
       return INSTANCE;
    }
 
+   /**
+    * Returns the instance bound to the current thread, or the singleton instance, if there is none.
+    * 
+    * @return the instance bound to the current thread, or the singleton instance.
+    */
+   public static Cache current()
+   {
+
+      final Cache cache = CURRENT.get();
+      return cache != null ? cache : INSTANCE;
+   }
+
+   /**
+    * Binds a given instance to the current thread.
+    * 
+    * @param cache
+    *           the instance to bind, or {@code null} to fall back on the singleton instance.
+    * @return the instance, which has been bound to the current thread before, or {@code null}.
+    */
+   public static Cache bind(final Cache cache)
+   {
+
+      final Cache previous = CURRENT.get();
+      if (cache != null)
+      {
+         CURRENT.set(cache);
+      }
+      else
+      {
+         CURRENT.remove();
+      }
+      return previous;
+   }
+
+   /**
+    * Creates a new instance.
+    * 
+    * @param maximumSize
+    *           the maximum size (see {@link #setMaximumSize(int)}).
+    * @param accessOrder
+    *           whether to evict least recently used entries first (else least recently stored
+    *           entries are evicted first).
+    */
+   public Cache(final int maximumSize, final boolean accessOrder)
+   {
+
+      this.map = new ConcurrentHashMap<>();
+      this.pending = new ConcurrentLinkedQueue<>();
+      this.lock = new ReentrantLock();
+      this.accessOrder = accessOrder;
+      this.maximumSize = maximumSize;
+      this.size = 0;
+      this.factory = new AlgebraicFactory();
+   }
+
+   /**
+    * Returns the factory of canonical {@link Algebraic} instances of this cache, or a new one, if
+    * this cache is switched off.
+    * 
+    * @return the factory of canonical {@link Algebraic} instances.
+    */
+   public AlgebraicFactory getFactory()
+   {
+
+      return this.maximumSize > 0 ? this.factory : new AlgebraicFactory();
+   }
+
    /**
     * Clears this cache.
     */
    public void clear()
    {
 
-      synchronized (this.map)
+      this.lock.lock();
+      try
       {
+         for (Node node = this.head; node != null; node = node.next)
+         {
+            node.linked = false;
+         }
          this.map.clear();
+         this.head = null;
+         this.tail = null;
          this.size = 0;
+         this.factory.clear();
+         drain();
+      }
+      finally
+      {
+         this.lock.unlock();
       }
    }
 
@@ -53,10 +146,7 @@ public final class Cache
    public int getMaximumSize()
    {
 
-      synchronized (this.map)
-      {
-         return maximumSize;
-      }
+      return maximumSize;
    }
 
    /**
@@ -69,10 +159,16 @@ public final class Cache
    public void setMaximumSize(final int maximumSize)
    {
 
-      synchronized (this.map)
+      this.lock.lock();
+      try
       {
          this.maximumSize = maximumSize;
          ensureSpaceFor(0);
+         drain();
+      }
+      finally
+      {
+         this.lock.unlock();
       }
    }
 
@@ -86,20 +182,35 @@ public final class Cache
    public Robust get(final Robust entry)
    {
 
-      synchronized (this.map)
+      final Node node = this.map.get(entry);
+      if (node == null)
+      {
+         EPUStats.getInstance().cacheMiss();
+         return null;
+      }
+      EPUStats.getInstance().cacheHit();
+      if (this.accessOrder && this.lock.tryLock())
       {
-         final Robust value = this.map.get(entry);
-         if (value != null)
+         try
          {
-            this.map.remove(value);
-            this.map.put(value, value);
+            if (node.linked)
+            {
+               unlink(node);
+               link(node);
+            }
+         }
+         finally
+         {
+            this.lock.unlock();
          }
-         return value;
       }
+      return node.value;
    }
 
    /**
-    * Stores a given value, beforehand possibly removing least recently stored entries.
+    * Stores a given value, beforehand possibly removing least recently stored entries. Never
+    * blocks: if another thread holds the lock of the recency order, the value is queued and linked
+    * by that thread.
     * 
     * @param value
     *           the value.
@@ -107,14 +218,21 @@ public final class Cache
    public void put(final Robust value)
    {
 
-      synchronized (this.map)
+      if (this.maximumSize > 0)
       {
-         if (this.maximumSize > 0)
+         final Node node = new Node(value);
+         node.replaced = this.map.put(value, node);
+         this.pending.add(node);
+         while (!this.pending.isEmpty() && this.lock.tryLock())
          {
-            this.size -= this.map.remove(value) == value ? value.noOfNodes() : 0;
-            ensureSpaceFor(value.noOfNodes());
-            this.map.put(value, value);
-            this.size += value.noOfNodes();
+            try
+            {
+               drain();
+            }
+            finally
+            {
+               this.lock.unlock();
+            }
          }
       }
    }
@@ -127,50 +245,176 @@ public final class Cache
    public int noOfEntries()
    {
 
-      synchronized (this.map)
-      {
-         return this.map.size();
-      }
+      return this.map.size();
    }
 
    public void print(final String indent, final Formatter formatter)
    {
 
-      synchronized (this.map)
+      this.lock.lock();
+      try
       {
+         drain();
          formatter.format("%s%d Cache entries: (least recent entry first)\n", indent, map.size());
-         map.forEach((key, value) -> {
-            formatter.format("%s  %s\n", indent, key);
-         });
+         for (Node node = this.head; node != null; node = node.next)
+         {
+            formatter.format("%s  %s\n", indent, node.value);
+         }
+      }
+      finally
+      {
+         this.lock.unlock();
+      }
+   }
+
+   /**
+    * Links the queued entries into the recency order, beforehand possibly removing least recently
+    * stored entries. Queued entries, which have been replaced or removed meanwhile, are skipped.
+    */
+   private void drain()
+   {
+
+      for (Node node = this.pending.poll(); node != null; node = this.pending.poll())
+      {
+         final Node replaced = node.replaced;
+         node.replaced = null;
+         if (replaced != null && replaced.linked)
+         {
+            unlink(replaced);
+            this.size -= replaced.value.noOfNodes();
+         }
+         if (this.map.get(node.value) == node)
+         {
+            if (this.maximumSize > 0)
+            {
+               ensureSpaceFor(node.value.noOfNodes());
+               link(node);
+               this.size += node.value.noOfNodes();
+            }
+            else
+            {
+               this.map.remove(node.value, node);
+            }
+         }
       }
    }
 
    private void ensureSpaceFor(final int size)
    {
 
-      while (!this.map.isEmpty() && this.size + size > this.maximumSize)
+      while (this.head != null && this.size + size > this.maximumSize)
+      {
+         final Node leastRecentEntry = this.head;
+         unlink(leastRecentEntry);
+         this.map.remove(leastRecentEntry.value, leastRecentEntry);
+         this.size -= leastRecentEntry.value.noOfNodes();
+         EPUStats.getInstance().cacheEviction();
+         final CacheEvictionEvent event = new CacheEvictionEvent();
+         if (event.shouldCommit())
+         {
+            event.noOfNodes = leastRecentEntry.value.noOfNodes();
+            event.noOfEntries = this.map.size();
+            event.maximumSize = this.maximumSize;
+            event.commit();
+         }
+      }
+   }
+
+   private void link(final Node node)
+   {
+
+      node.prev = this.tail;
+      node.next = null;
+      if (this.tail == null)
+      {
+         this.head = node;
+      }
+      else
       {
-         final Robust leastRecentEntry = this.map.keySet().iterator().next();
-         this.map.remove(leastRecentEntry);
-         this.size -= leastRecentEntry.noOfNodes();
+         this.tail.next = node;
       }
+      this.tail = node;
+      node.linked = true;
+   }
+
+   private void unlink(final Node node)
+   {
+
+      if (node.prev == null)
+      {
+         this.head = node.next;
+      }
+      else
+      {
+         node.prev.next = node.next;
+      }
+      if (node.next == null)
+      {
+         this.tail = node.prev;
+      }
+      else
+      {
+         node.next.prev = node.prev;
+      }
+      node.prev = null;
+      node.next = null;
+      node.linked = false;
    }
 
    private Cache()
    {
 
-      this.map = new LinkedHashMap<>();
-      this.maximumSize = DEFAULT_MAXIMUM_SIZE;
-      this.size = 0;
+      this(DEFAULT_MAXIMUM_SIZE, true);
+   }
+
+   private static final class Node
+   {
+
+      Node(final Robust value)
+      {
+
+         this.value = value;
+      }
+
+      final Robust value;
+
+      Node prev;
+
+      Node next;
+
+      boolean linked;
+
+      /** The entry replaced by this entry, until this entry has been linked. */
+      Node replaced;
    }
 
    private static final int DEFAULT_MAXIMUM_SIZE = 1_000_000;
 
    private static final Cache INSTANCE = new Cache();
 
-   private final LinkedHashMap<Robust, Robust> map;
+   private static final ThreadLocal<Cache> CURRENT = new ThreadLocal<>();
 
-   private int maximumSize;
+   private final ConcurrentHashMap<Robust, Node> map;
+
+   /** Stored entries, which have not yet been linked into the recency list. */
+   private final ConcurrentLinkedQueue<Node> pending;
+
+   /** The factory of canonical {@link Algebraic} instances. */
+   private final AlgebraicFactory factory;
+
+   /**
+    * Guards the recency list ({@link #head}, {@link #tail}), {@link #size}, the draining of
+    * {@link #pending} and writes of {@link #maximumSize}.
+    */
+   private final ReentrantLock lock;
+
+   private final boolean accessOrder;
+
+   private volatile int maximumSize;
 
    private int size;
+
+   private Node head;
+
+   private Node tail;
 }
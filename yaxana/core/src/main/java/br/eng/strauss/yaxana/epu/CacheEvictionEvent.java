@@ -0,0 +1,37 @@
+package br.eng.strauss.yaxana.epu;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event of the eviction of an entry from a {@link Cache}.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@Name(CacheEvictionEvent.NAME)
+@Label("Cache Eviction")
+@Category({ "Yaxana", "Cache" })
+@Description("Eviction of the least recent entry of a cache of Robust values")
+@StackTrace(false)
+final class CacheEvictionEvent extends jdk.jfr.Event
+{
+
+   /** The name of this event type. */
+   static final String NAME = "br.eng.strauss.yaxana.CacheEviction";
+
+   @Label("Number of Nodes")
+   @Description("The number of nodes of the evicted entry")
+   int noOfNodes;
+
+   @Label("Number of Entries")
+   @Description("The number of entries left in the cache")
+   int noOfEntries;
+
+   @Label("Maximum Size")
+   @Description("The maximum total number of nodes of the entries of the cache")
+   int maximumSize;
+}
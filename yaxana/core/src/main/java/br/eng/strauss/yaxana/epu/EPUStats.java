@@ -1,18 +1,33 @@
 package br.eng.strauss.yaxana.epu;
 
-import static java.lang.Math.max;
 import static java.lang.String.format;
 
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+import br.eng.strauss.yaxana.Algorithm;
+import br.eng.strauss.yaxana.SignListener;
+import br.eng.strauss.yaxana.SignMetricsMXBean;
+import br.eng.strauss.yaxana.SignResolution;
+
 /**
  * Accumulation of EPU statistical data.
- * 
+ * <p>
+ * All counters are {@link LongAdder}s, so that concurrent sign computations neither lose counts
+ * nor contend for them.
+ *
  * @author Burkhard Strau
  * @since 2023-09
  */
-public final class EPUStats
+public final class EPUStats implements SignMetricsMXBean
 {
 
    public static final EPUStats getInstance()
@@ -21,44 +36,254 @@ public final class EPUStats
       return INSTANCE;
    }
 
-   public synchronized void clear()
+   public void clear()
+   {
+
+      this.noOfSignComputations.reset();
+      this.sumOfTimeNs.reset();
+      this.maxNoOfNodes.reset();
+      this.sumNoOfNodes.reset();
+      this.noOfExceptions.reset();
+      for (final LongAdder resolutions : this.resolutions)
+      {
+         resolutions.reset();
+      }
+      for (int k = 0; k < this.latencies.length; k++)
+      {
+         reset(this.latencies[k]);
+         reset(this.precisions[k]);
+      }
+      this.cacheHits.reset();
+      this.cacheMisses.reset();
+      this.cacheEvictions.reset();
+   }
+
+   /**
+    * Counts a sign resolved by the double-double filter.
+    *
+    * @param signum
+    *           the sign.
+    * @return the sign.
+    */
+   public int filtered(final int signum)
    {
 
-      this.noOfSignComputations = 0;
-      this.sumOfTimeNs = 0;
-      this.maxNoOfNodes = 0;
-      this.sumNoOfNodes = 0;
-      this.noOfExceptions = 0;
+      this.resolutions[SignResolution.DOUBLE_FILTER.ordinal()].increment();
+      if (!this.listeners.isEmpty())
+      {
+         notify(Algebraic.getAlgorithm(), SignResolution.DOUBLE_FILTER, 0L, 0, 0);
+      }
+      return signum;
    }
 
    public int signum(final int noOfNodes, final Supplier<Integer> signum)
    {
 
+      final Outcome previous = OUTCOME.get();
+      final Outcome outcome = new Outcome();
+      OUTCOME.set(outcome);
       final long startNanoTime = System.nanoTime();
+      boolean failed = false;
       try
       {
          return signum.get();
       }
       catch (final RuntimeException | Error e)
       {
-         this.noOfExceptions++;
+         failed = true;
+         this.noOfExceptions.increment();
          throw e;
       }
       finally
       {
-         this.maxNoOfNodes = max(this.maxNoOfNodes, noOfNodes);
-         this.sumNoOfNodes += noOfNodes;
-         this.sumOfTimeNs += System.nanoTime() - startNanoTime;
-         this.noOfSignComputations++;
+         final long timeNs = System.nanoTime() - startNanoTime;
+         OUTCOME.set(previous);
+         this.maxNoOfNodes.accumulate(noOfNodes);
+         this.sumNoOfNodes.add(noOfNodes);
+         this.sumOfTimeNs.add(timeNs);
+         this.noOfSignComputations.increment();
+         if (!failed)
+         {
+            final Algorithm algorithm = Algebraic.getAlgorithm();
+            this.resolutions[outcome.resolution.ordinal()].increment();
+            this.latencies[algorithm.ordinal()][bucket(timeNs)].increment();
+            final long precision = outcome.precision == Integer.MAX_VALUE ? 1L << 31
+                  : outcome.precision;
+            this.precisions[algorithm.ordinal()][bucket(precision)].increment();
+            if (!this.listeners.isEmpty())
+            {
+               notify(algorithm, outcome.resolution, timeNs, outcome.precision, noOfNodes);
+            }
+         }
+      }
+   }
+
+   /**
+    * Records the way, in which the current sign computation has been resolved, and its final
+    * precision. Without such a record, a sign computation counts as resolved by
+    * {@link SignResolution#FIRST_ROUND}.
+    *
+    * @param resolution
+    *           the way, in which the sign has been resolved.
+    * @param precision
+    *           the final precision.
+    */
+   static void resolved(final SignResolution resolution, final int precision)
+   {
+
+      final Outcome outcome = OUTCOME.get();
+      if (outcome != null)
+      {
+         outcome.resolution = resolution;
+         outcome.precision = precision;
       }
    }
 
+   void cacheHit()
+   {
+
+      this.cacheHits.increment();
+   }
+
+   void cacheMiss()
+   {
+
+      this.cacheMisses.increment();
+   }
+
+   void cacheEviction()
+   {
+
+      this.cacheEvictions.increment();
+   }
+
+   public void addListener(final SignListener listener)
+   {
+
+      this.listeners.add(listener);
+   }
+
+   public void removeListener(final SignListener listener)
+   {
+
+      this.listeners.remove(listener);
+   }
+
+   @Override
+   public long getSignComputations()
+   {
+
+      return this.noOfSignComputations.sum();
+   }
+
+   @Override
+   public long getExceptions()
+   {
+
+      return this.noOfExceptions.sum();
+   }
+
+   @Override
+   public long getTotalTimeNs()
+   {
+
+      return this.sumOfTimeNs.sum();
+   }
+
+   @Override
+   public long getMaxNoOfNodes()
+   {
+
+      return this.maxNoOfNodes.get();
+   }
+
+   @Override
+   public long getDoubleFilterResolutions()
+   {
+
+      return this.resolutions[SignResolution.DOUBLE_FILTER.ordinal()].sum();
+   }
+
+   @Override
+   public long getFirstRoundResolutions()
+   {
+
+      return this.resolutions[SignResolution.FIRST_ROUND.ordinal()].sum();
+   }
+
+   @Override
+   public long getRefinementResolutions()
+   {
+
+      return this.resolutions[SignResolution.REFINEMENT.ordinal()].sum();
+   }
+
+   @Override
+   public long getRootBoundResolutions()
+   {
+
+      return this.resolutions[SignResolution.ROOT_BOUND.ordinal()].sum();
+   }
+
+   @Override
+   public Map<String, long[]> getLatencyHistograms()
+   {
+
+      return histograms(this.latencies);
+   }
+
+   @Override
+   public Map<String, long[]> getPrecisionHistograms()
+   {
+
+      return histograms(this.precisions);
+   }
+
+   @Override
+   public long getCacheHits()
+   {
+
+      return this.cacheHits.sum();
+   }
+
+   @Override
+   public long getCacheMisses()
+   {
+
+      return this.cacheMisses.sum();
+   }
+
+   @Override
+   public long getCacheEvictions()
+   {
+
+      return this.cacheEvictions.sum();
+   }
+
+   @Override
+   public double getCacheHitRate()
+   {
+
+      final long hits = getCacheHits();
+      final long lookups = hits + getCacheMisses();
+      return lookups > 0 ? (double) hits / lookups : 0d;
+   }
+
+   @Override
+   public void reset()
+   {
+
+      clear();
+   }
+
    @Override
-   public synchronized String toString()
+   public String toString()
    {
 
+      final long noOfSignComputations = getSignComputations();
+      final long sumOfTimeNs = getTotalTimeNs();
       final int avgNoOfNodes = noOfSignComputations > 0
-            ? (int) ((double) sumNoOfNodes / noOfSignComputations + 0.5)
+            ? (int) ((double) this.sumNoOfNodes.sum() / noOfSignComputations + 0.5)
             : 0;
       final String totalTime;
       if (sumOfTimeNs < 10_000_000L)
@@ -79,26 +304,136 @@ public final class EPUStats
          totalTime = duration.toString().substring(2).replaceAll("(\\d[HMS])(?!$)", "$1 ")
                .toLowerCase();
       }
-      final String format = "total time: %6s, total signs computed: %5d, avg/max nodes: %3d/%3d, exceptions: %3d";
-      return format(format, totalTime, noOfSignComputations, avgNoOfNodes, maxNoOfNodes,
-                    noOfExceptions);
+      final String format = "total time: %6s, total signs computed: %5d, avg/max nodes: %3d/%3d, exceptions: %3d"
+            + ", resolved (filter/first/refined/bound): %d/%d/%d/%d";
+      return format(format, totalTime, noOfSignComputations, avgNoOfNodes, getMaxNoOfNodes(),
+                    getExceptions(), getDoubleFilterResolutions(), getFirstRoundResolutions(),
+                    getRefinementResolutions(), getRootBoundResolutions());
+   }
+
+   /**
+    * Notifies the listeners of a resolved sign. An exception thrown by a listener is logged, so
+    * that it neither hides the result of the sign computation nor keeps other listeners from
+    * being notified.
+    */
+   private void notify(final Algorithm algorithm, final SignResolution resolution,
+         final long timeNs, final int precision, final int noOfNodes)
+   {
+
+      for (final SignListener listener : this.listeners)
+      {
+         try
+         {
+            listener.signResolved(algorithm, resolution, timeNs, precision, noOfNodes);
+         }
+         catch (final RuntimeException e)
+         {
+            LOGGER.log(Level.WARNING, format("sign listener %s failed", listener), e);
+         }
+      }
+   }
+
+   /**
+    * Returns the index of the histogram bucket of a given non-negative value.
+    */
+   private static int bucket(final long value)
+   {
+
+      return value > 1L ? 63 - Long.numberOfLeadingZeros(value) : 0;
+   }
+
+   private static Map<String, long[]> histograms(final LongAdder[][] adders)
+   {
+
+      final Map<String, long[]> histograms = new LinkedHashMap<>();
+      for (final Algorithm algorithm : Algorithm.values())
+      {
+         final LongAdder[] buckets = adders[algorithm.ordinal()];
+         final long[] histogram = new long[buckets.length];
+         for (int k = 0; k < histogram.length; k++)
+         {
+            histogram[k] = buckets[k].sum();
+         }
+         histograms.put(algorithm.name(), histogram);
+      }
+      return histograms;
+   }
+
+   private static LongAdder[][] adders(final int noOfBuckets)
+   {
+
+      final LongAdder[][] adders = new LongAdder[Algorithm.values().length][noOfBuckets];
+      for (final LongAdder[] buckets : adders)
+      {
+         for (int k = 0; k < noOfBuckets; k++)
+         {
+            buckets[k] = new LongAdder();
+         }
+      }
+      return adders;
+   }
+
+   private static void reset(final LongAdder[] adders)
+   {
+
+      for (final LongAdder adder : adders)
+      {
+         adder.reset();
+      }
    }
 
    private EPUStats()
    {
 
-      clear();
+      this.resolutions = new LongAdder[SignResolution.values().length];
+      for (int k = 0; k < this.resolutions.length; k++)
+      {
+         this.resolutions[k] = new LongAdder();
+      }
+   }
+
+   /**
+    * The way, in which a sign computation has been resolved, and its final precision.
+    */
+   private static final class Outcome
+   {
+
+      private SignResolution resolution = SignResolution.FIRST_ROUND;
+
+      private int precision;
    }
 
    private static final EPUStats INSTANCE = new EPUStats();
 
-   private long noOfSignComputations;
+   /** The outcome of the sign computation of the current thread. */
+   private static final ThreadLocal<Outcome> OUTCOME = new ThreadLocal<>();
+
+   private static final Logger LOGGER = System.getLogger(EPUStats.class.getName());
+
+   private final LongAdder noOfSignComputations = new LongAdder();
+
+   private final LongAdder sumOfTimeNs = new LongAdder();
+
+   private final LongAccumulator maxNoOfNodes = new LongAccumulator(Math::max, 0L);
+
+   private final LongAdder sumNoOfNodes = new LongAdder();
+
+   private final LongAdder noOfExceptions = new LongAdder();
+
+   /** The numbers of signs resolved, by {@link SignResolution}. */
+   private final LongAdder[] resolutions;
+
+   /** The latency histograms, by {@link Algorithm}. */
+   private final LongAdder[][] latencies = adders(64);
+
+   /** The final precision histograms, by {@link Algorithm}. */
+   private final LongAdder[][] precisions = adders(32);
 
-   private long sumOfTimeNs;
+   private final LongAdder cacheHits = new LongAdder();
 
-   private long maxNoOfNodes;
+   private final LongAdder cacheMisses = new LongAdder();
 
-   private long sumNoOfNodes;
+   private final LongAdder cacheEvictions = new LongAdder();
 
-   private long noOfExceptions;
+   private final List<SignListener> listeners = new CopyOnWriteArrayList<>();
 }
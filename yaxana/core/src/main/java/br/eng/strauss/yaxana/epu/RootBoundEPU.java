@@ -1,5 +1,8 @@
 package br.eng.strauss.yaxana.epu;
 
+import static br.eng.strauss.yaxana.SignResolution.FIRST_ROUND;
+import static br.eng.strauss.yaxana.SignResolution.REFINEMENT;
+import static br.eng.strauss.yaxana.SignResolution.ROOT_BOUND;
 import static br.eng.strauss.yaxana.big.BigFloat.twoTo;
 import static br.eng.strauss.yaxana.big.Rounder.DOUBLE;
 import static java.lang.Math.max;
@@ -7,9 +10,13 @@ import static java.lang.Math.max;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 
+import br.eng.strauss.yaxana.PrecisionSchedule;
 import br.eng.strauss.yaxana.big.BigFloat;
 import br.eng.strauss.yaxana.big.Rounder;
+import br.eng.strauss.yaxana.exc.BudgetExceededException;
+import br.eng.strauss.yaxana.exc.PrecisionOverflowException;
 import br.eng.strauss.yaxana.exc.UnreachedException;
+import br.eng.strauss.yaxana.pdc.BudgetMeter;
 import br.eng.strauss.yaxana.pdc.PDCTools;
 
 /**
@@ -29,38 +36,113 @@ abstract class RootBoundEPU extends AbstractEPU
    {
 
       final Algebraic value = this.operand;
+      final SignComputationEvent event = new SignComputationEvent();
+      event.begin();
+      final int signum = computeSignum(value, event);
+      if (event.shouldCommit())
+      {
+         final String expression = value.toString();
+         event.algorithm = Algebraic.getAlgorithm().name();
+         event.noOfNodes = value.noOfNodes();
+         event.finalPrecision = value.precision();
+         event.zero = signum == 0;
+         event.expression = expression.length() <= SignComputationEvent.MAX_EXPRESSION_LENGTH
+               ? expression : expression.substring(0, SignComputationEvent.MAX_EXPRESSION_LENGTH);
+         event.commit();
+      }
+      return signum;
+   }
+
+   /**
+    * Computes and returns the signum of the exact value of a given operand, recording the
+    * precisions in a given event.
+    * 
+    * @param value
+    *           the operand.
+    * @param event
+    *           the event.
+    * @return the signum of the exact value of the operand.
+    */
+   private int computeSignum(final Algebraic value, final SignComputationEvent event)
+   {
+
+      BudgetMeter.checkNoOfNodes(value::noOfNodes);
       int precision = PDCTools.increment(value, 0);
-      BigFloat approx = value.approximation(precision);
+      event.initialPrecision = precision;
+      value.approximation(precision);
       for (int sufficientPrecision = -1;;)
       {
+         // read the precision first: concurrent updates only ever increase it
          precision = value.precision();
+         final BigFloat approx = value.approximation();
          if (precision == Integer.MAX_VALUE || approx.abs().compareTo(twoTo(-precision)) >= 0)
          {
+            EPUStats.resolved(sufficientPrecision < 0 ? FIRST_ROUND : REFINEMENT, precision);
             return approx.signum();
          }
          if (sufficientPrecision < 0)
          {
             sufficientPrecision = sufficientPrecision(value);
+            event.sufficientPrecision = sufficientPrecision;
             if (sufficientPrecision == 0)
             {
+               EPUStats.resolved(ROOT_BOUND, precision);
                return PDCTools.setExactZero(value);
             }
             if (sufficientPrecision == Integer.MAX_VALUE)
             {
+               EPUStats.resolved(ROOT_BOUND, Integer.MAX_VALUE);
                return value.signum();
             }
          }
          if (precision >= sufficientPrecision)
          {
+            EPUStats.resolved(ROOT_BOUND, precision);
             if (approx.abs().compareTo(twoTo(-sufficientPrecision)) > 0)
             {
                return approx.signum();
             }
             return PDCTools.setExactZero(value);
          }
-         precision = PDCTools.increment(value, precision);
-         approx = value.approximation(precision);
+         precision = nextPrecision(value, precision, sufficientPrecision);
+         event.noOfIncreases++;
+         value.approximation(precision);
+      }
+   }
+
+   /**
+    * Returns the next precision according to the current {@link PrecisionSchedule}.
+    * 
+    * @param value
+    *           the value being approximated. This may be needed for an error message.
+    * @param precision
+    *           the last precision.
+    * @param sufficientPrecision
+    *           the sufficient precision.
+    * @return the next precision.
+    * @throws PrecisionOverflowException
+    *            if the next precision exceeds the maximum precision.
+    * @throws BudgetExceededException
+    *            if the next precision exceeds the budget of the current thread.
+    */
+   private static int nextPrecision(final Algebraic value, final int precision,
+         final int sufficientPrecision)
+         throws PrecisionOverflowException, BudgetExceededException
+   {
+
+      final int next = Algebraic.getPrecisionSchedule().next(precision, sufficientPrecision);
+      if (next <= precision)
+      {
+         throw new IllegalStateException(
+               String.format("precision schedule did not increase precision %d", precision));
+      }
+      if (next > PrecisionOverflowException.MAX_PRECISION)
+      {
+         throw new PrecisionOverflowException(value.toString());
       }
+      BudgetMeter.checkPrecision(next);
+      PDCTools.incremented(value, precision, next);
+      return next;
    }
 
    /**
@@ -91,121 +173,124 @@ abstract class RootBoundEPU extends AbstractEPU
       }
    }
 
-   public final void ensureRootBoundParameters(final Algebraic a)
+   public final RootBoundParameters ensureRootBoundParameters(final Algebraic a)
+   {
+
+      RootBoundParameters parameters = a.rootBoundParameters();
+      if (parameters == null)
+      {
+         final RootBoundParameters left = a.left() != null ? ensureRootBoundParameters(a.left())
+               : null;
+         final RootBoundParameters rite = a.right() != null ? ensureRootBoundParameters(a.right())
+               : null;
+         parameters = rootBoundParameters(a, left, rite);
+         a.setRootBoundParameters(parameters);
+      }
+      return parameters;
+   }
+
+   static RootBoundParameters rootBoundParameters(final Algebraic a,
+         final RootBoundParameters left, final RootBoundParameters rite)
    {
 
-      if (a.u == null)
+      switch (a.type())
       {
-         final Algebraic left = a.left();
-         final Algebraic rite = a.right();
-         if (left != null && left.u == null)
+         default :
+            throw new UnreachedException();
+         case TERMINAL :
          {
-            ensureRootBoundParameters(left);
+            final BigFloat ap = a.approximation();
+            final int m = ap.scale();
+            final int vp = max(0, m);
+            final int vn = max(0, -m);
+            final BigFloat u = new BigFloat(BigInteger.ONE.max(ap.unscaledValue().abs())).round(UP);
+            final BigFloat l = BigFloat.ONE;
+            return new RootBoundParameters(u, l, vp, vn);
          }
-         if (rite != null && rite.u == null)
+         case ADD :
+         case SUB :
          {
-            ensureRootBoundParameters(rite);
+            final int vpa = left.vp + rite.vn;
+            final int vpb = left.vn + rite.vp;
+            final int vp = vpa < vpb ? vpa : vpb;
+            final int vn = left.vn + rite.vn;
+            final BigFloat fa = twoTo(left.vp + rite.vn - vp);
+            final BigFloat fb = twoTo(left.vn + rite.vp - vp);
+            final BigFloat u = fa.mul(left.u.mul(rite.l, UP))
+                  .add(fb.mul(rite.u.mul(left.l, UP), UP), UP);
+            final BigFloat l = left.l.mul(rite.l, DN);
+            return new RootBoundParameters(u, l, vp, vn);
          }
-         switch (a.type())
+         case MUL :
          {
-            default :
-               throw new UnreachedException();
-            case TERMINAL :
-            {
-               final BigFloat ap = a.approximation();
-               final int m = ap.scale();
-               a.vp = max(0, m);
-               a.vn = max(0, -m);
-               a.u = new BigFloat(BigInteger.ONE.max(ap.unscaledValue().abs())).round(UP);
-               a.l = BigFloat.ONE;
-               break;
-            }
-            case ADD :
-            case SUB :
-            {
-               final int vpa = left.vp + rite.vn;
-               final int vpb = left.vn + rite.vp;
-               a.vp = vpa < vpb ? vpa : vpb;
-               a.vn = left.vn + rite.vn;
-               final BigFloat fa = twoTo(left.vp + rite.vn - a.vp);
-               final BigFloat fb = twoTo(left.vn + rite.vp - a.vp);
-               a.u = fa.mul(left.u.mul(rite.l, UP)).add(fb.mul(rite.u.mul(left.l, UP), UP), UP);
-               a.l = left.l.mul(rite.l, DN);
-               break;
-            }
-            case MUL :
-            {
-               a.vp = left.vp + rite.vp;
-               a.vn = left.vn + rite.vn;
-               a.u = left.u.mul(rite.u, UP);
-               a.l = left.l.mul(rite.l, DN);
-               break;
-            }
-            case DIV :
-            {
-               a.vp = left.vp + rite.vn;
-               a.vn = left.vn + rite.vp;
-               a.u = left.u.mul(rite.l, UP);
-               a.l = left.l.mul(rite.u, DN);
-               break;
-            }
-            case POW :
-            {
-               final int n = a.index();
-               a.vp = n * left.vp;
-               a.vn = n * left.vn;
-               a.u = left.u.pow(n, UP);
-               a.l = left.l.pow(n, DN);
-               break;
-            }
-            case ROOT :
+            final int vp = left.vp + rite.vp;
+            final int vn = left.vn + rite.vn;
+            final BigFloat u = left.u.mul(rite.u, UP);
+            final BigFloat l = left.l.mul(rite.l, DN);
+            return new RootBoundParameters(u, l, vp, vn);
+         }
+         case DIV :
+         {
+            final int vp = left.vp + rite.vn;
+            final int vn = left.vn + rite.vp;
+            final BigFloat u = left.u.mul(rite.l, UP);
+            final BigFloat l = left.l.mul(rite.u, DN);
+            return new RootBoundParameters(u, l, vp, vn);
+         }
+         case POW :
+         {
+            final int n = a.index();
+            final int vp = n * left.vp;
+            final int vn = n * left.vn;
+            final BigFloat u = left.u.pow(n, UP);
+            final BigFloat l = left.l.pow(n, DN);
+            return new RootBoundParameters(u, l, vp, vn);
+         }
+         case ROOT :
+         {
+            BigFloat f = twoTo(left.vp - left.vn);
+            final int n = a.index();
+            if (f.mul(left.u).compareTo(left.l) >= 0)
             {
-               BigFloat f = twoTo(left.vp - left.vn);
-               final int n = a.index();
-               if (f.mul(left.u).compareTo(left.l) >= 0)
-               {
-                  final int vs = left.vp + (n - 1) * left.vn;
-                  a.vp = vs / n;
-                  a.vn = left.vn;
-                  f = twoTo(vs - n * a.vp);
-                  a.u = f.mul(left.u, UP).mul(left.l.pow(n - 1, UP), UP).root(n, UP);
-                  a.l = left.l;
-               }
-               else
-               {
-                  final int vs = (n - 1) * left.vp + left.vn;
-                  a.vp = left.vp;
-                  a.vn = vs / n;
-                  f = twoTo(vs - n * a.vn);
-                  a.u = left.u;
-                  a.l = f.mul(left.u.pow(n - 1, UP), UP).mul(left.l, UP).root(n, UP);
-               }
-               break;
+               final int vs = left.vp + (n - 1) * left.vn;
+               final int vp = vs / n;
+               final int vn = left.vn;
+               f = twoTo(vs - n * vp);
+               final BigFloat u = f.mul(left.u, UP).mul(left.l.pow(n - 1, UP), UP).root(n, UP);
+               final BigFloat l = left.l;
+               return new RootBoundParameters(u, l, vp, vn);
             }
-            case NEG :
-            case ABS :
+            else
             {
-               a.vp = left.vp;
-               a.vn = left.vn;
-               a.u = left.u;
-               a.l = left.l;
-               break;
+               final int vs = (n - 1) * left.vp + left.vn;
+               final int vp = left.vp;
+               final int vn = vs / n;
+               f = twoTo(vs - n * vn);
+               final BigFloat u = left.u;
+               final BigFloat l = f.mul(left.u.pow(n - 1, UP), UP).mul(left.l, UP).root(n, UP);
+               return new RootBoundParameters(u, l, vp, vn);
             }
          }
+         case NEG :
+         case ABS :
+         {
+            return left;
+         }
       }
    }
 
    protected final BigFloat lowerRootBound(final Algebraic a)
    {
 
+      final RootBoundParameters parameters = ensureRootBoundParameters(a);
       try
       {
-         if (a.u.signum() == 0 || a.l.signum() == 0)
+         if (parameters.u.signum() == 0 || parameters.l.signum() == 0)
          {
             return BigFloat.ZERO;
          }
-         final BigFloat nom = BigFloat.twoTo(a.vp - a.vn);
-         return nom.div(a.u.pow(exponent(a)).mul(a.l), DN);
+         final BigFloat nom = BigFloat.twoTo(parameters.vp - parameters.vn);
+         return nom.div(parameters.u.pow(exponent(a)).mul(parameters.l), DN);
       }
       catch (final ArithmeticException e)
       {
@@ -0,0 +1,46 @@
+package br.eng.strauss.yaxana.epu;
+
+import br.eng.strauss.yaxana.big.BigFloat;
+
+/**
+ * Immutable BFMSS[2] root bound parameters of an {@link Algebraic}, used by {@link EPU}
+ * implementations.
+ * <p>
+ * The parameters depend on the structure and the terminals of an expression only, hence they may
+ * be carried along with other representations of the expression.
+ * 
+ * @author Burkhard Strauss
+ * @since 2026-10
+ * @see RootBoundEPU#ensureRootBoundParameters(Algebraic)
+ */
+public final class RootBoundParameters
+{
+
+   RootBoundParameters(final BigFloat u, final BigFloat l, final int vp, final int vn)
+   {
+
+      this.u = u;
+      this.l = l;
+      this.vp = vp;
+      this.vn = vn;
+   }
+
+   @Override
+   public String toString()
+   {
+
+      return "u=%s, l=%s, v+=%d, v-=%d".formatted(this.u, this.l, this.vp, this.vn);
+   }
+
+   /** BFMSS[2] parameter {@code u}. */
+   final BigFloat u;
+
+   /** BFMSS[2] parameter {@code l}. */
+   final BigFloat l;
+
+   /** BFMSS[2] parameter {@code v+}. */
+   final int vp;
+
+   /** BFMSS[2] parameter {@code v-}. */
+   final int vn;
+}
@@ -0,0 +1,60 @@
+package br.eng.strauss.yaxana.epu;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event of a sign computation by a {@link RootBoundEPU}.
+ * <p>
+ * Fields are only worth filling in, if {@link #shouldCommit()} returns {@code true}, which is
+ * {@code false}, unless a recording enables the event.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@Name(SignComputationEvent.NAME)
+@Label("Sign Computation")
+@Category({ "Yaxana", "EPU" })
+@Description("Sign computation of an expression, which interval arithmetic cannot decide")
+final class SignComputationEvent extends jdk.jfr.Event
+{
+
+   /** The name of this event type. */
+   static final String NAME = "br.eng.strauss.yaxana.SignComputation";
+
+   /** The maximum length of {@link #expression}. */
+   static final int MAX_EXPRESSION_LENGTH = 1000;
+
+   @Label("Algorithm")
+   String algorithm;
+
+   @Label("Number of Nodes")
+   int noOfNodes;
+
+   @Label("Initial Precision")
+   @DataAmount(DataAmount.BITS)
+   int initialPrecision;
+
+   @Label("Final Precision")
+   @Description("Integer.MAX_VALUE for an exact approximation")
+   @DataAmount(DataAmount.BITS)
+   int finalPrecision;
+
+   @Label("Number of Precision Increases")
+   int noOfIncreases;
+
+   @Label("Sufficient Precision")
+   @Description("The precision required by the root bound, or -1, if not computed")
+   @DataAmount(DataAmount.BITS)
+   int sufficientPrecision = -1;
+
+   @Label("Exactly Zero")
+   boolean zero;
+
+   @Label("Expression")
+   @Description("The expression, possibly truncated")
+   String expression;
+}
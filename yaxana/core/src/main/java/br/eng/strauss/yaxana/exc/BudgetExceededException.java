@@ -0,0 +1,73 @@
+package br.eng.strauss.yaxana.exc;
+
+import static java.lang.String.format;
+
+/**
+ * Thrown, if a sign computation exceeds a limit of its budget.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ * @see br.eng.strauss.yaxana.SignBudget
+ */
+public final class BudgetExceededException extends ArithmeticException
+{
+
+   /**
+    * The resources limited by a budget.
+    */
+   public enum Resource
+   {
+      /** The precision in bits of approximations. */
+      PRECISION,
+      /** The number of nodes of an expression. */
+      NODES,
+      /** The wall time in nanoseconds. */
+      TIME,
+      /** The number of arbitrary precision operations. */
+      OPERATIONS;
+   }
+
+   /**
+    * Returns a new instance.
+    *
+    * @param resource
+    *           the exhausted resource.
+    * @param limit
+    *           the limit of the exhausted resource.
+    */
+   public BudgetExceededException(final Resource resource, final long limit)
+   {
+
+      super(format("budget exceeded (%s > %d)", resource, limit));
+      this.resource = resource;
+      this.limit = limit;
+   }
+
+   /**
+    * Returns the exhausted resource.
+    *
+    * @return the exhausted resource.
+    */
+   public Resource getResource()
+   {
+
+      return resource;
+   }
+
+   /**
+    * Returns the limit of the exhausted resource.
+    *
+    * @return the limit of the exhausted resource.
+    */
+   public long getLimit()
+   {
+
+      return limit;
+   }
+
+   private static final long serialVersionUID = 1L;
+
+   private final Resource resource;
+
+   private final long limit;
+}
@@ -54,21 +54,23 @@ public abstract sealed interface Approximable<A extends Approximable<A>> /**/ pe
 
    /**
     * Sets the approximation/precision of this expression such that the signum can be read from the
-    * approximation.
+    * approximation, and returns the signum.
     * 
     * @param epu
     *           The exact processing unit to be used.
+    * @return the signum.
     */
-   public default void ensureSignum(final Supplier<EPU> epu)
+   public default int ensureSignum(final Supplier<EPU> epu)
    {
 
-      final BigFloat approximation = approximation();
       final int precision = precision();
+      final BigFloat approximation = approximation();
       if (approximation == null || approximation.signum() != 0
             && approximation.abs().compareTo(BigFloat.twoTo(-precision)) <= 0)
       {
-         epu.get().signum((Algebraic) this);
+         return epu.get().signum((Algebraic) this);
       }
+      return approximation.signum();
    }
 
    /**
@@ -84,6 +86,9 @@ public abstract sealed interface Approximable<A extends Approximable<A>> /**/ pe
    /**
     * Returns the precision of the current approximation of the value of this expression or
     * {@link Integer#MAX_VALUE} if the approximation is the exact value.
+    * <p>
+    * Approximations may be refined concurrently, but their precision never decreases. Hence, read
+    * the precision before the approximation, if both are needed.
     * 
     * @return the precision of the current approximation of the value of this expression.
     * @see #approximation()
@@ -127,7 +132,8 @@ public abstract sealed interface Approximable<A extends Approximable<A>> /**/ pe
    }
 
    /**
-    * Sets the values of the approximation and the absolute precision.
+    * Sets the values of the approximation and the absolute precision, unless the current
+    * approximation already has the same or a higher precision.
     * <p>
     * This method should be protected but is public as a side effect of the implementation; it must
     * not be called by API users.
@@ -0,0 +1,204 @@
+package br.eng.strauss.yaxana.pdc;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import br.eng.strauss.yaxana.exc.BudgetExceededException;
+import br.eng.strauss.yaxana.exc.BudgetExceededException.Resource;
+
+/**
+ * Meters the resources consumed by sign computations against the limits of a budget.
+ * <p>
+ * An instance bound to a thread (see {@link #bind(BudgetMeter)}) is checked cooperatively by
+ * precision driven computation and by sign computation, which throw a
+ * {@link BudgetExceededException} as soon as a limit is exceeded, or a
+ * {@link CancellationException} as soon as the instance is {@link #cancel() cancelled} or the
+ * thread is interrupted. Parallel evaluation of subexpressions meters the workers against the
+ * instance of the thread, which started it.
+ * <p>
+ * An instance meters against the limits of its enclosing instance, too, and is cancelled with it.
+ * <p>
+ * Without a bound instance, the checks cost a thread local lookup.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ * @see br.eng.strauss.yaxana.SignBudget
+ */
+public final class BudgetMeter
+{
+
+   /**
+    * Returns a new instance, whose time limit starts now.
+    *
+    * @param maximumPrecision
+    *           the maximum precision in bits.
+    * @param maximumNoOfNodes
+    *           the maximum number of nodes of an expression.
+    * @param maximumTimeNs
+    *           the maximum wall time in nanoseconds.
+    * @param maximumNoOfOperations
+    *           the maximum number of arbitrary precision operations.
+    * @param outer
+    *           the enclosing instance, or {@code null}.
+    */
+   public BudgetMeter(final int maximumPrecision, final int maximumNoOfNodes,
+         final long maximumTimeNs, final long maximumNoOfOperations, final BudgetMeter outer)
+   {
+
+      this.outer = outer;
+      this.maximumPrecision = maximumPrecision;
+      this.maximumNoOfNodes = maximumNoOfNodes;
+      this.maximumTimeNs = maximumTimeNs;
+      this.maximumNoOfOperations = maximumNoOfOperations;
+      this.startNanoTime = System.nanoTime();
+      this.noOfOperations = new AtomicLong();
+   }
+
+   /**
+    * Returns the instance bound to the current thread, or {@code null}.
+    *
+    * @return the instance bound to the current thread, or {@code null}.
+    */
+   public static BudgetMeter current()
+   {
+
+      return CURRENT.get();
+   }
+
+   /**
+    * Binds a given instance to the current thread.
+    *
+    * @param meter
+    *           the instance to bind, or {@code null} to remove any binding.
+    * @return the instance, which has been bound to the current thread before, or {@code null}.
+    */
+   public static BudgetMeter bind(final BudgetMeter meter)
+   {
+
+      final BudgetMeter previous = CURRENT.get();
+      if (meter != null)
+      {
+         CURRENT.set(meter);
+      }
+      else
+      {
+         CURRENT.remove();
+      }
+      return previous;
+   }
+
+   /**
+    * Cancels this instance, so that the sign computations metered by this instance or by nested
+    * instances throw a {@link CancellationException} at their next check.
+    */
+   public void cancel()
+   {
+
+      this.cancelled = true;
+   }
+
+   /**
+    * Checks a precision against the budget bound to the current thread, if any.
+    *
+    * @param precision
+    *           the precision about to be approximated.
+    * @throws BudgetExceededException
+    *            if the precision exceeds the maximum precision.
+    * @throws CancellationException
+    *            if the computation has been cancelled or interrupted.
+    */
+   public static void checkPrecision(final long precision)
+         throws BudgetExceededException, CancellationException
+   {
+
+      for (BudgetMeter meter = CURRENT.get(); meter != null; meter = meter.outer)
+      {
+         meter.checkCancelled();
+         if (precision > meter.maximumPrecision)
+         {
+            throw new BudgetExceededException(Resource.PRECISION, meter.maximumPrecision);
+         }
+      }
+   }
+
+   /**
+    * Checks the number of nodes of an expression against the budget bound to the current thread,
+    * if any.
+    *
+    * @param noOfNodes
+    *           supplies the number of nodes, only called if the budget limits it.
+    * @throws BudgetExceededException
+    *            if the number of nodes exceeds the maximum number of nodes.
+    */
+   public static void checkNoOfNodes(final IntSupplier noOfNodes) throws BudgetExceededException
+   {
+
+      for (BudgetMeter meter = CURRENT.get(); meter != null; meter = meter.outer)
+      {
+         if (meter.maximumNoOfNodes < Integer.MAX_VALUE
+               && noOfNodes.getAsInt() > meter.maximumNoOfNodes)
+         {
+            throw new BudgetExceededException(Resource.NODES, meter.maximumNoOfNodes);
+         }
+      }
+   }
+
+   /**
+    * Counts an arbitrary precision operation and checks the number of operations and the wall
+    * time against the budget bound to the current thread, if any.
+    *
+    * @throws BudgetExceededException
+    *            if the number of operations or the wall time exceed their maximum.
+    * @throws CancellationException
+    *            if the computation has been cancelled or interrupted.
+    */
+   static void operation() throws BudgetExceededException, CancellationException
+   {
+
+      for (BudgetMeter meter = CURRENT.get(); meter != null; meter = meter.outer)
+      {
+         meter.checkCancelled();
+         if (meter.noOfOperations.incrementAndGet() > meter.maximumNoOfOperations)
+         {
+            throw new BudgetExceededException(Resource.OPERATIONS, meter.maximumNoOfOperations);
+         }
+         if (meter.maximumTimeNs < Long.MAX_VALUE
+               && System.nanoTime() - meter.startNanoTime > meter.maximumTimeNs)
+         {
+            throw new BudgetExceededException(Resource.TIME, meter.maximumTimeNs);
+         }
+      }
+   }
+
+   private void checkCancelled() throws CancellationException
+   {
+
+      if (this.cancelled)
+      {
+         throw new CancellationException("sign computation cancelled");
+      }
+      if (Thread.currentThread().isInterrupted())
+      {
+         throw new CancellationException("sign computation interrupted");
+      }
+   }
+
+   private static final ThreadLocal<BudgetMeter> CURRENT = new ThreadLocal<>();
+
+   private final BudgetMeter outer;
+
+   private final int maximumPrecision;
+
+   private final int maximumNoOfNodes;
+
+   private final long maximumTimeNs;
+
+   private final long maximumNoOfOperations;
+
+   private final long startNanoTime;
+
+   private final AtomicLong noOfOperations;
+
+   private volatile boolean cancelled;
+}
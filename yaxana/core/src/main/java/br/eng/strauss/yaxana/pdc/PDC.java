@@ -3,20 +3,22 @@ package br.eng.strauss.yaxana.pdc;
 import static br.eng.strauss.yaxana.big.Rounder.DOUBLE;
 import static br.eng.strauss.yaxana.pdc.ApproximationType.FRACTIONAL_DIGITS;
 import static br.eng.strauss.yaxana.pdc.ApproximationType.SIGNIFICANT_DIGITS;
-import static br.eng.strauss.yaxana.pdc.Scrutinizer.addIsExact;
 import static br.eng.strauss.yaxana.pdc.Scrutinizer.divIsExact;
-import static br.eng.strauss.yaxana.pdc.Scrutinizer.mulIsExact;
 import static br.eng.strauss.yaxana.pdc.Scrutinizer.powIsExact;
 import static br.eng.strauss.yaxana.pdc.Scrutinizer.rootIsExact;
-import static br.eng.strauss.yaxana.pdc.Scrutinizer.subIsExact;
 import static java.lang.Math.max;
 import static java.math.RoundingMode.CEILING;
 import static java.math.RoundingMode.FLOOR;
 
 import java.math.RoundingMode;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import br.eng.strauss.yaxana.Robust;
+import br.eng.strauss.yaxana.Type;
 import br.eng.strauss.yaxana.big.BigFloat;
+import br.eng.strauss.yaxana.big.MutableBigFloat;
 import br.eng.strauss.yaxana.big.Rounder;
 
 /**
@@ -27,6 +29,10 @@ import br.eng.strauss.yaxana.big.Rounder;
  * When calculating an approximation for the value of an expression given an absolute or relative
  * precision, subexpressions generally must be evaluated with a higher precision to ensure the
  * resulting precision.
+ * <p>
+ * Optionally, the two independent subexpressions of sums, differences and products are evaluated
+ * in parallel on the common {@link ForkJoinPool}, if the requested precision reaches a threshold.
+ * See {@link #setParallelThreshold(int)}.
  * 
  * @author Burkhard Strauss
  * @since July 2017
@@ -81,6 +87,10 @@ final class PDC
       {
          ensurePrecision(a.right(), INITIAL_PRECISION, FRACTIONAL_DIGITS);
       }
+      if (a.type() != Type.TERMINAL)
+      {
+         BudgetMeter.operation();
+      }
       switch (a.type())
       {
          case TERMINAL :
@@ -122,6 +132,47 @@ final class PDC
       ensurePrecision(a, precision, FRACTIONAL_DIGITS);
    }
 
+   /**
+    * Ensures absolute precisions of two independent subexpressions, in parallel if the
+    * {@link #setParallelThreshold(int) threshold} is reached.
+    */
+   private static void ensurePrecision(final Approximable<?> left, final int ltPrec,
+         final Approximable<?> rite, final int rtPrec)
+   {
+
+      if (max(ltPrec, rtPrec) >= parallelThreshold && left != rite
+            && left.type() != Type.TERMINAL && rite.type() != Type.TERMINAL
+            && left.precision() < ltPrec && rite.precision() < rtPrec)
+      {
+         final RecursiveAction ltAction = new PrecisionAction(left, ltPrec);
+         final RecursiveAction rtAction = new PrecisionAction(rite, rtPrec);
+         if (ForkJoinTask.inForkJoinPool())
+         {
+            ForkJoinTask.invokeAll(ltAction, rtAction);
+         }
+         else
+         {
+            ForkJoinPool.commonPool().invoke(new RecursiveAction()
+            {
+
+               @Override
+               protected void compute()
+               {
+
+                  ForkJoinTask.invokeAll(ltAction, rtAction);
+               }
+
+               private static final long serialVersionUID = 1L;
+            });
+         }
+      }
+      else
+      {
+         ensurePrecision(left, ltPrec);
+         ensurePrecision(rite, rtPrec);
+      }
+   }
+
    /**
     * Helper method for {@link #ensurePrecision(Approximable, int, ApproximationType)}.
     */
@@ -133,12 +184,19 @@ final class PDC
       final int ltPrec = precision + 2;
       final int rtPrec = precision + 2;
       final int opPrec = precision + 3 + max(0, max(msbOfApprox(left), msbOfApprox(rite)));
-      ensurePrecision(left, ltPrec);
-      ensurePrecision(rite, rtPrec);
-      final Rounder rounder = new Rounder(opPrec, ROUNDING_MODE);
-      final BigFloat approx = left.approximation().add(rite.approximation(), rounder);
-      final boolean exact = addIsExact(left.approximation(), rite.approximation(), approx);
-      setApproximation(a, approx, precision, exact);
+      ensurePrecision(left, ltPrec, rite, rtPrec);
+      final boolean exactOperands = isExact(left) && isExact(rite);
+      final BigFloat ltApprox = left.approximation();
+      final BigFloat rtApprox = rite.approximation();
+      final Rounder rounder = Rounder.valueOf(opPrec, ROUNDING_MODE);
+      if (exactOperands)
+      {
+         setApproximation(a, new MutableBigFloat(ltApprox).add(rtApprox), rounder, precision);
+      }
+      else
+      {
+         setApproximation(a, ltApprox.add(rtApprox, rounder), precision, false);
+      }
    }
 
    /**
@@ -151,13 +209,20 @@ final class PDC
       final Approximable<?> rite = a.right();
       final int ltPrec = precision + 2;
       final int rtPrec = precision + 2;
-      ensurePrecision(left, ltPrec);
-      ensurePrecision(rite, rtPrec);
-      final int opPrec = precision + 3 + max(0, max(msbOfApprox(left), msbOfApprox(rite)));
-      final Rounder rounder = new Rounder(opPrec, ROUNDING_MODE);
-      final BigFloat approx = left.approximation().sub(rite.approximation(), rounder);
-      final boolean exact = subIsExact(left.approximation(), rite.approximation(), approx);
-      setApproximation(a, approx, precision, exact);
+      ensurePrecision(left, ltPrec, rite, rtPrec);
+      final boolean exactOperands = isExact(left) && isExact(rite);
+      final BigFloat ltApprox = left.approximation();
+      final BigFloat rtApprox = rite.approximation();
+      final int opPrec = precision + 3 + max(0, max(msb(ltApprox), msb(rtApprox)));
+      final Rounder rounder = Rounder.valueOf(opPrec, ROUNDING_MODE);
+      if (exactOperands)
+      {
+         setApproximation(a, new MutableBigFloat(ltApprox).sub(rtApprox), rounder, precision);
+      }
+      else
+      {
+         setApproximation(a, ltApprox.sub(rtApprox, rounder), precision, false);
+      }
    }
 
    /**
@@ -170,14 +235,21 @@ final class PDC
       final Approximable<?> rite = a.right();
       final int ltPrec = precision + 3 + max(0, msbOfApprox(rite));
       final int rtPrec = precision + 3 + max(0, msbOfApprox(left));
-      ensurePrecision(left, ltPrec);
-      ensurePrecision(rite, rtPrec);
-      final int oom = msbOfApprox(rite) + msbOfApprox(left);
+      ensurePrecision(left, ltPrec, rite, rtPrec);
+      final boolean exactOperands = isExact(left) && isExact(rite);
+      final BigFloat ltApprox = left.approximation();
+      final BigFloat rtApprox = rite.approximation();
+      final int oom = msb(rtApprox) + msb(ltApprox);
       final int opPrec = precision + 3 + max(0, oom);
-      final Rounder rounder = new Rounder(opPrec, ROUNDING_MODE);
-      final BigFloat approx = left.approximation().mul(rite.approximation(), rounder);
-      final boolean exact = mulIsExact(left.approximation(), rite.approximation(), approx);
-      setApproximation(a, approx, precision, exact);
+      final Rounder rounder = Rounder.valueOf(opPrec, ROUNDING_MODE);
+      if (exactOperands)
+      {
+         setApproximation(a, new MutableBigFloat(ltApprox).mul(rtApprox), rounder, precision);
+      }
+      else
+      {
+         setApproximation(a, ltApprox.mul(rtApprox, rounder), precision, false);
+      }
    }
 
    /**
@@ -188,23 +260,29 @@ final class PDC
 
       final Approximable<?> left = a.left();
       final Approximable<?> rite = a.right();
-      while (rite.approximation().abs().compareTo(rite.error()) < 0)
+      BigFloat riteError = rite.error();
+      BigFloat absRite = rite.approximation().abs();
+      while (absRite.compareTo(riteError) < 0)
       {
          final int prec = max(24, 2 * rite.precision());
          ensurePrecision(rite, prec);
+         riteError = rite.error();
+         absRite = rite.approximation().abs();
       }
-      final BigFloat absRite = rite.approximation().abs();
-      final BigFloat riteLower = absRite.sub(rite.error(), ROUNDER_DBL_FLOOR);
+      final BigFloat riteLower = absRite.sub(riteError, ROUNDER_DBL_FLOOR);
       final int ldRite = riteLower.signum() != 0 ? riteLower.abs().msb() : 0;
       final int leftPrec = precision + 2 + max(0, -ldRite);
       ensurePrecision(left, leftPrec);
       final int ldLeft = msbOfApprox(left) + 1;
       final int ritePrec = precision + 2 + max(0, ldLeft) + max(0, -2 * ldRite);
       ensurePrecision(rite, ritePrec);
+      final boolean exactOperands = isExact(left) && isExact(rite);
+      final BigFloat ltApprox = left.approximation();
+      final BigFloat rtApprox = rite.approximation();
       final int opPrec = precision + 2 + max(0, ldLeft) + max(0, -ldRite);
-      final Rounder rounder = new Rounder(opPrec, ROUNDING_MODE);
-      final BigFloat approx = left.approximation().div(rite.approximation(), rounder);
-      final boolean exact = divIsExact(left.approximation(), rite.approximation(), approx);
+      final Rounder rounder = Rounder.valueOf(opPrec, ROUNDING_MODE);
+      final BigFloat approx = ltApprox.div(rtApprox, rounder);
+      final boolean exact = exactOperands && divIsExact(ltApprox, rtApprox, approx);
       setApproximation(a, approx, precision, exact);
    }
 
@@ -222,8 +300,11 @@ final class PDC
          final int opPrec = precision + 2 + (ldLeft + n - 1) / n;
          final int ltPrec = n == 2 ? opPrec : precision + 3 + ldLeft;
          ensurePrecision(left, ltPrec);
-         final BigFloat approx = left.approximation().root(n, new Rounder(opPrec, CEILING));
-         final boolean exact = rootIsExact(left.approximation(), n, approx);
+         final boolean exactOperand = isExact(left);
+         final BigFloat ltApprox = left.approximation();
+         final Rounder rounder = Rounder.valueOf(opPrec, CEILING);
+         final BigFloat approx = ltApprox.root(n, rounder, a.approximation());
+         final boolean exact = exactOperand && rootIsExact(ltApprox, n, approx);
          setApproximation(a, approx, precision, exact);
       }
       else
@@ -246,11 +327,13 @@ final class PDC
          final int ltPrec = precision + LdNOverHalfN.valueOf(n)
                + (n - 1) * (max(0, msbOfApprox(left)) + 1);
          ensurePrecision(left, ltPrec);
-         final int oom = 2 * msbOfApprox(left);
+         final boolean exactOperand = isExact(left);
+         final BigFloat ltApprox = left.approximation();
+         final int oom = 2 * msb(ltApprox);
          final int opPrec = precision + ldN + max(0, oom) + 1;
-         final Rounder rounder = new Rounder(opPrec, ROUNDING_MODE);
-         final BigFloat approx = left.approximation().pow(n, rounder);
-         final boolean exact = powIsExact(left.approximation(), n, approx);
+         final Rounder rounder = Rounder.valueOf(opPrec, ROUNDING_MODE);
+         final BigFloat approx = ltApprox.pow(n, rounder);
+         final boolean exact = exactOperand && powIsExact(ltApprox, n, approx);
          setApproximation(a, approx, precision, exact);
       }
       else
@@ -267,8 +350,8 @@ final class PDC
 
       final Approximable<?> left = a.left();
       ensurePrecision(left, precision);
+      final boolean exact = isExact(left);
       final BigFloat approx = left.approximation().abs();
-      final boolean exact = true;
       setApproximation(a, approx, precision, exact);
    }
 
@@ -280,33 +363,62 @@ final class PDC
 
       final Approximable<?> left = a.left();
       ensurePrecision(left, precision);
+      final boolean exact = isExact(left);
       final BigFloat approx = left.approximation().neg();
-      final boolean exact = true;
       setApproximation(a, approx, precision, exact);
    }
 
    /**
-    * Sets the approximation value and its precision, which may be {@link Integer#MAX_VALUE} if all
-    * involved values are exact.
+    * Sets the approximation value and its precision, which is {@link Integer#MAX_VALUE} if the
+    * approximation is exact.
     * 
     * @param precision
     *           The new precision.
     * @param exact
-    *           Whether the result of the operation is exact.
+    *           Whether the operands and the result of the operation are exact.
     */
    private static void setApproximation(final Approximable<?> a, final BigFloat approx,
          final int precision, final boolean exact)
    {
 
-      if (exact && a.left().precision() == Integer.MAX_VALUE
-            && (a.right() == null || a.right().precision() == Integer.MAX_VALUE))
-      {
-         a.setApproximation(approx, Integer.MAX_VALUE);
-      }
-      else
-      {
-         a.setApproximation(approx, precision);
-      }
+      a.setApproximation(approx, exact ? Integer.MAX_VALUE : precision);
+   }
+
+   /**
+    * Sets the approximation to the rounded exact result of an operation on exact operands, and
+    * its precision, which is {@link Integer#MAX_VALUE} if rounding does not change the result.
+    * <p>
+    * The exact result is computed once, both to be rounded and to decide exactness.
+    * 
+    * @param result
+    *           The exact result, which is modified.
+    * @param rounder
+    *           The rounder.
+    * @param precision
+    *           The new precision.
+    */
+   private static void setApproximation(final Approximable<?> a, final MutableBigFloat result,
+         final Rounder rounder, final int precision)
+   {
+
+      final BigFloat approx = result.toBigFloat(rounder);
+      setApproximation(a, approx, precision, result.sub(approx).signum() == 0);
+   }
+
+   /**
+    * Returns whether the approximation of a given approximable expression is exact.
+    * <p>
+    * Approximations may be refined concurrently, so this must be tested before reading the
+    * approximation: an exact approximation is never replaced.
+    * 
+    * @param a
+    *           the approximable expression.
+    * @return whether the approximation of a given approximable expression is exact.
+    */
+   private static boolean isExact(final Approximable<?> a)
+   {
+
+      return a.precision() == Integer.MAX_VALUE;
    }
 
    /**
@@ -321,10 +433,78 @@ final class PDC
    private static int msbOfApprox(final Approximable<?> a)
    {
 
-      final BigFloat approximation = a.approximation();
+      return msb(a.approximation());
+   }
+
+   private static int msb(final BigFloat approximation)
+   {
+
       return approximation.signum() != 0 ? approximation.abs().msb() : 0;
    }
 
+   /**
+    * Returns the minimum precision, which triggers parallel evaluation of subexpressions.
+    * 
+    * @return the minimum precision, which triggers parallel evaluation of subexpressions.
+    */
+   static int getParallelThreshold()
+   {
+
+      return parallelThreshold;
+   }
+
+   /**
+    * Sets the minimum precision, which triggers parallel evaluation of subexpressions.
+    * 
+    * @param parallelThreshold
+    *           the minimum precision. Use {@link Integer#MAX_VALUE} to switch off parallel
+    *           evaluation, which is the default.
+    */
+   static void setParallelThreshold(final int parallelThreshold)
+   {
+
+      PDC.parallelThreshold = parallelThreshold;
+   }
+
+   /**
+    * Task ensuring the absolute precision of a subexpression.
+    */
+   private static final class PrecisionAction extends RecursiveAction
+   {
+
+      PrecisionAction(final Approximable<?> a, final int precision)
+      {
+
+         this.a = a;
+         this.precision = precision;
+         this.meter = BudgetMeter.current();
+      }
+
+      @Override
+      protected void compute()
+      {
+
+         final BudgetMeter previous = BudgetMeter.bind(meter);
+         try
+         {
+            ensurePrecision(a, precision);
+         }
+         finally
+         {
+            BudgetMeter.bind(previous);
+         }
+      }
+
+      private static final long serialVersionUID = 1L;
+
+      private final transient Approximable<?> a;
+
+      private final int precision;
+
+      /** The meter of the thread, which created this action, or {@code null}. */
+      private final transient BudgetMeter meter;
+   }
+
    private PDC()
    {
    }
@@ -337,4 +517,7 @@ final class PDC
 
    /** Rounder for denominator. */
    private static final Rounder ROUNDER_DBL_FLOOR = new Rounder(DOUBLE.getPrecision(), FLOOR);
+
+   /** The minimum precision, which triggers parallel evaluation of subexpressions. */
+   private static volatile int parallelThreshold = Integer.MAX_VALUE;
 }
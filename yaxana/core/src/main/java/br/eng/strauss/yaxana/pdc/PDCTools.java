@@ -2,6 +2,7 @@ package br.eng.strauss.yaxana.pdc;
 
 import br.eng.strauss.yaxana.big.BigFloat;
 import br.eng.strauss.yaxana.epu.Algebraic;
+import br.eng.strauss.yaxana.exc.BudgetExceededException;
 import br.eng.strauss.yaxana.exc.PrecisionOverflowException;
 
 /**
@@ -88,9 +89,11 @@ public final class PDCTools
     * @return the next precision.
     * @throws PrecisionOverflowException
     *            if the next {@code precision} cannot be represented as an {@code int}.
+    * @throws BudgetExceededException
+    *            if the next {@code precision} exceeds the budget of the current thread.
     */
    public static int increment(final Algebraic a, final int precision)
-         throws PrecisionOverflowException
+         throws PrecisionOverflowException, BudgetExceededException
    {
 
       final long newPrecision = precision < INITIAL_PRECISION ? INITIAL_PRECISION
@@ -99,9 +102,63 @@ public final class PDCTools
       {
          throw new PrecisionOverflowException(a.toString());
       }
+      BudgetMeter.checkPrecision(newPrecision);
+      incremented(a, precision, (int) newPrecision);
       return (int) newPrecision;
    }
 
+   /**
+    * Records an increment of the precision of the approximation of a given expression as a Java
+    * Flight Recorder event.
+    * 
+    * @param a
+    *           the expression being approximated.
+    * @param precision
+    *           the previous precision, or {@code 0} for the initial precision.
+    * @param newPrecision
+    *           the new precision.
+    */
+   public static void incremented(final Algebraic a, final int precision, final int newPrecision)
+   {
+
+      final PrecisionIncrementEvent event = new PrecisionIncrementEvent();
+      if (event.shouldCommit())
+      {
+         event.algorithm = Algebraic.getAlgorithm().name();
+         event.noOfNodes = a.noOfNodes();
+         event.precision = precision;
+         event.newPrecision = newPrecision;
+         event.commit();
+      }
+   }
+
+   /**
+    * Returns the minimum precision, which triggers parallel evaluation of independent
+    * subexpressions.
+    * 
+    * @return the minimum precision, which triggers parallel evaluation of independent
+    *         subexpressions.
+    */
+   public static int getParallelThreshold()
+   {
+
+      return PDC.getParallelThreshold();
+   }
+
+   /**
+    * Sets the minimum precision, which triggers parallel evaluation of independent
+    * subexpressions.
+    * 
+    * @param parallelThreshold
+    *           the minimum precision in bits. Use {@link Integer#MAX_VALUE} to switch off parallel
+    *           evaluation.
+    */
+   public static void setParallelThreshold(final int parallelThreshold)
+   {
+
+      PDC.setParallelThreshold(parallelThreshold);
+   }
+
    private PDCTools()
    {
    }
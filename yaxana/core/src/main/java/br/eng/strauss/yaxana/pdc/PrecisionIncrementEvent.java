@@ -0,0 +1,40 @@
+package br.eng.strauss.yaxana.pdc;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event of an increment of the precision of an approximation, see
+ * {@link PDCTools#incremented(br.eng.strauss.yaxana.epu.Algebraic, int, int)}.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@Name(PrecisionIncrementEvent.NAME)
+@Label("Precision Increment")
+@Category({ "Yaxana", "PDC" })
+@Description("Increment of the precision of the approximation of an expression")
+final class PrecisionIncrementEvent extends jdk.jfr.Event
+{
+
+   /** The name of this event type. */
+   static final String NAME = "br.eng.strauss.yaxana.PrecisionIncrement";
+
+   @Label("Algorithm")
+   String algorithm;
+
+   @Label("Number of Nodes")
+   int noOfNodes;
+
+   @Label("Precision")
+   @Description("The previous precision, or 0 for the initial precision")
+   @DataAmount(DataAmount.BITS)
+   int precision;
+
+   @Label("New Precision")
+   @DataAmount(DataAmount.BITS)
+   int newPrecision;
+}
@@ -25,21 +25,15 @@ public final class SafeDoubleOps
    public static Double addOrNull(final double x, final double y)
    {
 
-      try
-      {
-         final BigFloat bx = new BigFloat(x);
-         final BigFloat by = new BigFloat(y);
-         final BigFloat br = bx.add(by);
-         if (Scrutinizer.addIsExact(bx, by, br))
-         {
-            final double dr = br.doubleValue();
-            return br.equals(new BigFloat(dr)) ? dr : null;
-         }
-      }
-      catch (final ArithmeticException e)
+      final double sum = x + y;
+      if (!Double.isFinite(sum))
       {
+         return null;
       }
-      return null;
+      // error free transformation (two-sum)
+      final double t = sum - x;
+      final double error = (x - (sum - t)) + (y - t);
+      return error == 0d ? sum == 0d ? 0d : sum : null;
    }
 
    /**
@@ -55,21 +49,7 @@ public final class SafeDoubleOps
    public static Double subOrNull(final double x, final double y)
    {
 
-      try
-      {
-         final BigFloat bx = new BigFloat(x);
-         final BigFloat by = new BigFloat(y);
-         final BigFloat br = bx.sub(by);
-         if (Scrutinizer.subIsExact(bx, by, br))
-         {
-            final double dr = br.doubleValue();
-            return br.equals(new BigFloat(dr)) ? dr : null;
-         }
-      }
-      catch (final ArithmeticException e)
-      {
-      }
-      return null;
+      return addOrNull(x, -y);
    }
 
    /**
@@ -85,6 +65,20 @@ public final class SafeDoubleOps
    public static Double mulOrNull(final double x, final double y)
    {
 
+      final double product = x * y;
+      if (!Double.isFinite(product))
+      {
+         return null;
+      }
+      if (x == 0d || y == 0d)
+      {
+         return 0d;
+      }
+      if (Math.abs(product) >= MIN_MUL_FAST_PATH)
+      {
+         // error free transformation (two-product), exact far off the subnormal range
+         return Math.fma(x, y, -product) == 0d ? product : null;
+      }
       try
       {
          final BigFloat bx = new BigFloat(x);
@@ -199,4 +193,7 @@ public final class SafeDoubleOps
    }
 
    private static final Rounder ROUNDER = new Rounder(54);
+
+   /** The magnitude of products, above which the residual of the product is representable. */
+   private static final double MIN_MUL_FAST_PATH = 0x1p-960;
 }
@@ -0,0 +1,267 @@
+package br.eng.strauss.yaxana.predicates;
+
+import java.util.Arrays;
+
+/**
+ * Exact arithmetic on floating point expansions.
+ * <p>
+ * An expansion is an array of non-overlapping {@code double} components sorted by increasing
+ * magnitude, whose exact sum is the value of the expansion. The operations are those of Shewchuk:
+ * Adaptive Precision Floating-Point Arithmetic and Fast Robust Geometric Predicates (1997). They
+ * eliminate zero components, but an expansion always has at least one component. They are exact
+ * provided that neither overflow nor underflow occurs, and rely on round to nearest even.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+final class Expansion
+{
+
+   /**
+    * Returns the exact difference {@code a-b} as an expansion.
+    *
+    * @param a
+    *           the minuend.
+    * @param b
+    *           the subtrahend.
+    * @return the exact difference {@code a-b}.
+    */
+   static double[] diff(final double a, final double b)
+   {
+
+      final double x = a - b;
+      final double bVirtual = a - x;
+      final double aVirtual = x + bVirtual;
+      final double y = (a - aVirtual) + (bVirtual - b);
+      return y != 0d ? new double[] { y, x } : new double[] { x };
+   }
+
+   /**
+    * Returns the exact sum {@code e+f} (fast_expansion_sum_zeroelim).
+    *
+    * @param e
+    *           the one expansion.
+    * @param f
+    *           the other expansion.
+    * @return the exact sum {@code e+f}.
+    */
+   static double[] sum(final double[] e, final double[] f)
+   {
+
+      final double[] h = new double[e.length + f.length];
+      int eIndex = 0;
+      int fIndex = 0;
+      int hIndex = 0;
+      double eNow = e[0];
+      double fNow = f[0];
+      double q;
+      if ((fNow > eNow) == (fNow > -eNow))
+      {
+         q = eNow;
+         eNow = ++eIndex < e.length ? e[eIndex] : 0d;
+      }
+      else
+      {
+         q = fNow;
+         fNow = ++fIndex < f.length ? f[fIndex] : 0d;
+      }
+      if (eIndex < e.length && fIndex < f.length)
+      {
+         final double qNew;
+         if ((fNow > eNow) == (fNow > -eNow))
+         {
+            qNew = eNow + q;
+            h[hIndex] = q - (qNew - eNow);
+            eNow = ++eIndex < e.length ? e[eIndex] : 0d;
+         }
+         else
+         {
+            qNew = fNow + q;
+            h[hIndex] = q - (qNew - fNow);
+            fNow = ++fIndex < f.length ? f[fIndex] : 0d;
+         }
+         q = qNew;
+         if (h[hIndex] != 0d)
+         {
+            hIndex++;
+         }
+         while (eIndex < e.length && fIndex < f.length)
+         {
+            final double now;
+            if ((fNow > eNow) == (fNow > -eNow))
+            {
+               now = eNow;
+               eNow = ++eIndex < e.length ? e[eIndex] : 0d;
+            }
+            else
+            {
+               now = fNow;
+               fNow = ++fIndex < f.length ? f[fIndex] : 0d;
+            }
+            final double qSum = q + now;
+            h[hIndex] = twoSumError(q, now, qSum);
+            q = qSum;
+            if (h[hIndex] != 0d)
+            {
+               hIndex++;
+            }
+         }
+      }
+      while (eIndex < e.length || fIndex < f.length)
+      {
+         final double now;
+         if (eIndex < e.length)
+         {
+            now = eNow;
+            eNow = ++eIndex < e.length ? e[eIndex] : 0d;
+         }
+         else
+         {
+            now = fNow;
+            fNow = ++fIndex < f.length ? f[fIndex] : 0d;
+         }
+         final double qSum = q + now;
+         h[hIndex] = twoSumError(q, now, qSum);
+         q = qSum;
+         if (h[hIndex] != 0d)
+         {
+            hIndex++;
+         }
+      }
+      if (q != 0d || hIndex == 0)
+      {
+         h[hIndex++] = q;
+      }
+      return hIndex == h.length ? h : Arrays.copyOf(h, hIndex);
+   }
+
+   /**
+    * Returns the exact difference {@code e-f}.
+    *
+    * @param e
+    *           the minuend.
+    * @param f
+    *           the subtrahend.
+    * @return the exact difference {@code e-f}.
+    */
+   static double[] diff(final double[] e, final double[] f)
+   {
+
+      return sum(e, neg(f));
+   }
+
+   /**
+    * Returns the exact product {@code e*b} (scale_expansion_zeroelim).
+    *
+    * @param e
+    *           the expansion.
+    * @param b
+    *           the factor.
+    * @return the exact product {@code e*b}.
+    */
+   static double[] scale(final double[] e, final double b)
+   {
+
+      final double[] h = new double[2 * e.length];
+      int hIndex = 0;
+      double q = e[0] * b;
+      double hh = Math.fma(e[0], b, -q);
+      if (hh != 0d)
+      {
+         h[hIndex++] = hh;
+      }
+      for (int eIndex = 1; eIndex < e.length; eIndex++)
+      {
+         final double product1 = e[eIndex] * b;
+         final double product0 = Math.fma(e[eIndex], b, -product1);
+         final double sum = q + product0;
+         hh = twoSumError(q, product0, sum);
+         if (hh != 0d)
+         {
+            h[hIndex++] = hh;
+         }
+         q = product1 + sum;
+         hh = sum - (q - product1);
+         if (hh != 0d)
+         {
+            h[hIndex++] = hh;
+         }
+      }
+      if (q != 0d || hIndex == 0)
+      {
+         h[hIndex++] = q;
+      }
+      return hIndex == h.length ? h : Arrays.copyOf(h, hIndex);
+   }
+
+   /**
+    * Returns the exact product {@code e*f}.
+    *
+    * @param e
+    *           the one expansion.
+    * @param f
+    *           the other expansion.
+    * @return the exact product {@code e*f}.
+    */
+   static double[] mul(final double[] e, final double[] f)
+   {
+
+      if (e.length < f.length)
+      {
+         return mul(f, e);
+      }
+      double[] product = scale(e, f[0]);
+      for (int k = 1; k < f.length; k++)
+      {
+         product = sum(product, scale(e, f[k]));
+      }
+      return product;
+   }
+
+   /**
+    * Returns the exact negation {@code -e}.
+    *
+    * @param e
+    *           the expansion.
+    * @return the exact negation {@code -e}.
+    */
+   static double[] neg(final double[] e)
+   {
+
+      final double[] h = new double[e.length];
+      for (int k = 0; k < e.length; k++)
+      {
+         h[k] = -e[k];
+      }
+      return h;
+   }
+
+   /**
+    * Returns the sign of an expansion, which is the sign of its component of largest magnitude.
+    *
+    * @param e
+    *           the expansion.
+    * @return the sign of the expansion.
+    */
+   static int signum(final double[] e)
+   {
+
+      final double x = e[e.length - 1];
+      return x > 0d ? 1 : x < 0d ? -1 : 0;
+   }
+
+   /**
+    * Returns the rounding error of {@code x = a+b} (Two_Sum).
+    */
+   private static double twoSumError(final double a, final double b, final double x)
+   {
+
+      final double bVirtual = x - a;
+      final double aVirtual = x - bVirtual;
+      return (a - aVirtual) + (b - bVirtual);
+   }
+
+   private Expansion()
+   {
+   }
+}
@@ -0,0 +1,491 @@
+package br.eng.strauss.yaxana.predicates;
+
+import static br.eng.strauss.yaxana.predicates.Expansion.diff;
+import static br.eng.strauss.yaxana.predicates.Expansion.mul;
+import static br.eng.strauss.yaxana.predicates.Expansion.sum;
+import static java.lang.Math.abs;
+
+import br.eng.strauss.yaxana.Robust;
+
+/**
+ * Exact geometric predicates on {@code double} coordinates.
+ * <p>
+ * Each predicate returns the sign of a determinant. It first evaluates the determinant in
+ * {@code double} arithmetic and accepts the sign, if it exceeds the semi-static error bound of
+ * Shewchuk: Adaptive Precision Floating-Point Arithmetic and Fast Robust Geometric Predicates
+ * (1997), which is proportional to the permanent of the determinant. Else the determinant is
+ * evaluated exactly with floating point expansions. Coordinates, whose magnitude is so large or so
+ * small, that the expansions might overflow or underflow, are left to {@link Robust} arithmetic.
+ * <p>
+ * The predicates are much faster than the same determinants evaluated with {@link Robust}
+ * operations, since they create no {@link Robust} instances in the common case.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class Predicates
+{
+
+   /**
+    * Returns the orientation of three points in the plane.
+    *
+    * @param a
+    *           the first point {@code (x, y)}.
+    * @param b
+    *           the second point {@code (x, y)}.
+    * @param c
+    *           the third point {@code (x, y)}.
+    * @return {@code +1}, if the points are in counterclockwise order, {@code -1}, if they are in
+    *         clockwise order, and {@code 0}, if they are collinear.
+    * @throws IllegalArgumentException
+    *            In case a coordinate is not finite.
+    */
+   public static int orient2d(final double[] a, final double[] b, final double[] c)
+         throws IllegalArgumentException
+   {
+
+      final double acx = a[0] - c[0];
+      final double bcx = b[0] - c[0];
+      final double acy = a[1] - c[1];
+      final double bcy = b[1] - c[1];
+      final double left = acx * bcy;
+      final double right = acy * bcx;
+      final double det = left - right;
+      final double permanent = abs(left) + abs(right);
+      final boolean safe = isSafe(a) & isSafe(b) & isSafe(c);
+      if (safe && abs(det) > ORIENT2D_ERROR * permanent)
+      {
+         return det > 0d ? 1 : -1;
+      }
+      if (!safe)
+      {
+         return orient2dRobust(a, b, c);
+      }
+      final double[] ecx = diff(a[0], c[0]);
+      final double[] fcx = diff(b[0], c[0]);
+      final double[] ecy = diff(a[1], c[1]);
+      final double[] fcy = diff(b[1], c[1]);
+      return Expansion.signum(minor(ecx, fcy, ecy, fcx));
+   }
+
+   /**
+    * Returns the orientation of four points in space.
+    *
+    * @param a
+    *           the first point {@code (x, y, z)}.
+    * @param b
+    *           the second point {@code (x, y, z)}.
+    * @param c
+    *           the third point {@code (x, y, z)}.
+    * @param d
+    *           the fourth point {@code (x, y, z)}.
+    * @return {@code +1}, if {@code d} lies below the plane through {@code a}, {@code b} and
+    *         {@code c}, which appear in counterclockwise order when viewed from above the plane,
+    *         {@code -1}, if it lies above the plane, and {@code 0}, if the points are coplanar.
+    * @throws IllegalArgumentException
+    *            In case a coordinate is not finite.
+    */
+   public static int orient3d(final double[] a, final double[] b, final double[] c,
+         final double[] d) throws IllegalArgumentException
+   {
+
+      final double adx = a[0] - d[0];
+      final double bdx = b[0] - d[0];
+      final double cdx = c[0] - d[0];
+      final double ady = a[1] - d[1];
+      final double bdy = b[1] - d[1];
+      final double cdy = c[1] - d[1];
+      final double adz = a[2] - d[2];
+      final double bdz = b[2] - d[2];
+      final double cdz = c[2] - d[2];
+      final double bdxcdy = bdx * cdy;
+      final double cdxbdy = cdx * bdy;
+      final double cdxady = cdx * ady;
+      final double adxcdy = adx * cdy;
+      final double adxbdy = adx * bdy;
+      final double bdxady = bdx * ady;
+      final double det = adz * (bdxcdy - cdxbdy) + bdz * (cdxady - adxcdy)
+            + cdz * (adxbdy - bdxady);
+      final double permanent = (abs(bdxcdy) + abs(cdxbdy)) * abs(adz)
+            + (abs(cdxady) + abs(adxcdy)) * abs(bdz) + (abs(adxbdy) + abs(bdxady)) * abs(cdz);
+      final boolean safe = isSafe(a) & isSafe(b) & isSafe(c) & isSafe(d);
+      if (safe && abs(det) > ORIENT3D_ERROR * permanent)
+      {
+         return det > 0d ? 1 : -1;
+      }
+      if (!safe)
+      {
+         return orient3dRobust(a, b, c, d);
+      }
+      final double[] ex = diff(a[0], d[0]);
+      final double[] fx = diff(b[0], d[0]);
+      final double[] gx = diff(c[0], d[0]);
+      final double[] ey = diff(a[1], d[1]);
+      final double[] fy = diff(b[1], d[1]);
+      final double[] gy = diff(c[1], d[1]);
+      final double[] ez = diff(a[2], d[2]);
+      final double[] fz = diff(b[2], d[2]);
+      final double[] gz = diff(c[2], d[2]);
+      final double[] exact = sum(sum(mul(ez, minor(fx, gy, gx, fy)),
+                                     mul(fz, minor(gx, ey, ex, gy))),
+                                 mul(gz, minor(ex, fy, fx, ey)));
+      return Expansion.signum(exact);
+   }
+
+   /**
+    * Returns the position of a point relative to the circle through three other points in the
+    * plane.
+    *
+    * @param a
+    *           the first point {@code (x, y)} on the circle.
+    * @param b
+    *           the second point {@code (x, y)} on the circle.
+    * @param c
+    *           the third point {@code (x, y)} on the circle.
+    * @param d
+    *           the point {@code (x, y)} to test.
+    * @return {@code +1}, if {@code d} lies inside the circle, {@code -1}, if it lies outside, and
+    *         {@code 0}, if it lies on the circle, provided that {@code a}, {@code b} and {@code c}
+    *         are in counterclockwise order (else the sign is reversed).
+    * @throws IllegalArgumentException
+    *            In case a coordinate is not finite.
+    */
+   public static int incircle(final double[] a, final double[] b, final double[] c,
+         final double[] d) throws IllegalArgumentException
+   {
+
+      final double adx = a[0] - d[0];
+      final double bdx = b[0] - d[0];
+      final double cdx = c[0] - d[0];
+      final double ady = a[1] - d[1];
+      final double bdy = b[1] - d[1];
+      final double cdy = c[1] - d[1];
+      final double bdxcdy = bdx * cdy;
+      final double cdxbdy = cdx * bdy;
+      final double alift = adx * adx + ady * ady;
+      final double cdxady = cdx * ady;
+      final double adxcdy = adx * cdy;
+      final double blift = bdx * bdx + bdy * bdy;
+      final double adxbdy = adx * bdy;
+      final double bdxady = bdx * ady;
+      final double clift = cdx * cdx + cdy * cdy;
+      final double det = alift * (bdxcdy - cdxbdy) + blift * (cdxady - adxcdy)
+            + clift * (adxbdy - bdxady);
+      final double permanent = (abs(bdxcdy) + abs(cdxbdy)) * alift
+            + (abs(cdxady) + abs(adxcdy)) * blift + (abs(adxbdy) + abs(bdxady)) * clift;
+      final boolean safe = isSafe(a) & isSafe(b) & isSafe(c) & isSafe(d);
+      if (safe && abs(det) > INCIRCLE_ERROR * permanent)
+      {
+         return det > 0d ? 1 : -1;
+      }
+      if (!safe)
+      {
+         return incircleRobust(a, b, c, d);
+      }
+      final double[] ex = diff(a[0], d[0]);
+      final double[] fx = diff(b[0], d[0]);
+      final double[] gx = diff(c[0], d[0]);
+      final double[] ey = diff(a[1], d[1]);
+      final double[] fy = diff(b[1], d[1]);
+      final double[] gy = diff(c[1], d[1]);
+      final double[] exact = sum(sum(mul(lift(ex, ey), minor(fx, gy, gx, fy)),
+                                     mul(lift(fx, fy), minor(gx, ey, ex, gy))),
+                                 mul(lift(gx, gy), minor(ex, fy, fx, ey)));
+      return Expansion.signum(exact);
+   }
+
+   /**
+    * Returns the position of a point relative to the sphere through four other points in space.
+    *
+    * @param a
+    *           the first point {@code (x, y, z)} on the sphere.
+    * @param b
+    *           the second point {@code (x, y, z)} on the sphere.
+    * @param c
+    *           the third point {@code (x, y, z)} on the sphere.
+    * @param d
+    *           the fourth point {@code (x, y, z)} on the sphere.
+    * @param e
+    *           the point {@code (x, y, z)} to test.
+    * @return {@code +1}, if {@code e} lies inside the sphere, {@code -1}, if it lies outside, and
+    *         {@code 0}, if it lies on the sphere, provided that
+    *         {@link #orient3d(double[], double[], double[], double[]) orient3d(a, b, c, d)} is
+    *         positive (else the sign is reversed).
+    * @throws IllegalArgumentException
+    *            In case a coordinate is not finite.
+    */
+   public static int insphere(final double[] a, final double[] b, final double[] c,
+         final double[] d, final double[] e) throws IllegalArgumentException
+   {
+
+      final double aex = a[0] - e[0];
+      final double bex = b[0] - e[0];
+      final double cex = c[0] - e[0];
+      final double dex = d[0] - e[0];
+      final double aey = a[1] - e[1];
+      final double bey = b[1] - e[1];
+      final double cey = c[1] - e[1];
+      final double dey = d[1] - e[1];
+      final double aez = a[2] - e[2];
+      final double bez = b[2] - e[2];
+      final double cez = c[2] - e[2];
+      final double dez = d[2] - e[2];
+      final double aexbey = aex * bey;
+      final double bexaey = bex * aey;
+      final double bexcey = bex * cey;
+      final double cexbey = cex * bey;
+      final double cexdey = cex * dey;
+      final double dexcey = dex * cey;
+      final double dexaey = dex * aey;
+      final double aexdey = aex * dey;
+      final double aexcey = aex * cey;
+      final double cexaey = cex * aey;
+      final double bexdey = bex * dey;
+      final double dexbey = dex * bey;
+      final double ab = aexbey - bexaey;
+      final double bc = bexcey - cexbey;
+      final double cd = cexdey - dexcey;
+      final double da = dexaey - aexdey;
+      final double ac = aexcey - cexaey;
+      final double bd = bexdey - dexbey;
+      final double abc = aez * bc - bez * ac + cez * ab;
+      final double bcd = bez * cd - cez * bd + dez * bc;
+      final double cda = cez * da + dez * ac + aez * cd;
+      final double dab = dez * ab + aez * bd + bez * da;
+      final double alift = aex * aex + aey * aey + aez * aez;
+      final double blift = bex * bex + bey * bey + bez * bez;
+      final double clift = cex * cex + cey * cey + cez * cez;
+      final double dlift = dex * dex + dey * dey + dez * dez;
+      final double det = (dlift * abc - clift * dab) + (blift * cda - alift * bcd);
+      final double aezPlus = abs(aez);
+      final double bezPlus = abs(bez);
+      final double cezPlus = abs(cez);
+      final double dezPlus = abs(dez);
+      final double abPlus = abs(aexbey) + abs(bexaey);
+      final double bcPlus = abs(bexcey) + abs(cexbey);
+      final double cdPlus = abs(cexdey) + abs(dexcey);
+      final double daPlus = abs(dexaey) + abs(aexdey);
+      final double acPlus = abs(aexcey) + abs(cexaey);
+      final double bdPlus = abs(bexdey) + abs(dexbey);
+      final double permanent = (cdPlus * bezPlus + bdPlus * cezPlus + bcPlus * dezPlus) * alift
+            + (daPlus * cezPlus + acPlus * dezPlus + cdPlus * aezPlus) * blift
+            + (abPlus * dezPlus + bdPlus * aezPlus + daPlus * bezPlus) * clift
+            + (bcPlus * aezPlus + acPlus * bezPlus + abPlus * cezPlus) * dlift;
+      final boolean safe = isSafe(a) & isSafe(b) & isSafe(c) & isSafe(d) & isSafe(e);
+      if (safe && abs(det) > INSPHERE_ERROR * permanent)
+      {
+         return det > 0d ? 1 : -1;
+      }
+      if (!safe)
+      {
+         return insphereRobust(a, b, c, d, e);
+      }
+      final double[] ax = diff(a[0], e[0]);
+      final double[] bx = diff(b[0], e[0]);
+      final double[] cx = diff(c[0], e[0]);
+      final double[] dx = diff(d[0], e[0]);
+      final double[] ay = diff(a[1], e[1]);
+      final double[] by = diff(b[1], e[1]);
+      final double[] cy = diff(c[1], e[1]);
+      final double[] dy = diff(d[1], e[1]);
+      final double[] az = diff(a[2], e[2]);
+      final double[] bz = diff(b[2], e[2]);
+      final double[] cz = diff(c[2], e[2]);
+      final double[] dz = diff(d[2], e[2]);
+      final double[] xab = minor(ax, by, bx, ay);
+      final double[] xbc = minor(bx, cy, cx, by);
+      final double[] xcd = minor(cx, dy, dx, cy);
+      final double[] xda = minor(dx, ay, ax, dy);
+      final double[] xac = minor(ax, cy, cx, ay);
+      final double[] xbd = minor(bx, dy, dx, by);
+      final double[] xabc = sum(diff(mul(az, xbc), mul(bz, xac)), mul(cz, xab));
+      final double[] xbcd = sum(diff(mul(bz, xcd), mul(cz, xbd)), mul(dz, xbc));
+      final double[] xcda = sum(sum(mul(cz, xda), mul(dz, xac)), mul(az, xcd));
+      final double[] xdab = sum(sum(mul(dz, xab), mul(az, xbd)), mul(bz, xda));
+      final double[] exact = sum(diff(mul(lift(dx, dy, dz), xabc), mul(lift(cx, cy, cz), xdab)),
+                                 diff(mul(lift(bx, by, bz), xcda), mul(lift(ax, ay, az), xbcd)));
+      return Expansion.signum(exact);
+   }
+
+   /**
+    * Returns {@link #orient2d(double[], double[], double[])} evaluated with {@link Robust}
+    * arithmetic.
+    */
+   static int orient2dRobust(final double[] a, final double[] b, final double[] c)
+   {
+
+      final Robust acx = robust(a[0]).sub(robust(c[0]));
+      final Robust bcx = robust(b[0]).sub(robust(c[0]));
+      final Robust acy = robust(a[1]).sub(robust(c[1]));
+      final Robust bcy = robust(b[1]).sub(robust(c[1]));
+      return acx.mul(bcy).sub(acy.mul(bcx)).signum();
+   }
+
+   /**
+    * Returns {@link #orient3d(double[], double[], double[], double[])} evaluated with
+    * {@link Robust} arithmetic.
+    */
+   static int orient3dRobust(final double[] a, final double[] b, final double[] c,
+         final double[] d)
+   {
+
+      final Robust adx = robust(a[0]).sub(robust(d[0]));
+      final Robust bdx = robust(b[0]).sub(robust(d[0]));
+      final Robust cdx = robust(c[0]).sub(robust(d[0]));
+      final Robust ady = robust(a[1]).sub(robust(d[1]));
+      final Robust bdy = robust(b[1]).sub(robust(d[1]));
+      final Robust cdy = robust(c[1]).sub(robust(d[1]));
+      final Robust adz = robust(a[2]).sub(robust(d[2]));
+      final Robust bdz = robust(b[2]).sub(robust(d[2]));
+      final Robust cdz = robust(c[2]).sub(robust(d[2]));
+      return adz.mul(bdx.mul(cdy).sub(cdx.mul(bdy)))
+                .add(bdz.mul(cdx.mul(ady).sub(adx.mul(cdy))))
+                .add(cdz.mul(adx.mul(bdy).sub(bdx.mul(ady)))).signum();
+   }
+
+   /**
+    * Returns {@link #incircle(double[], double[], double[], double[])} evaluated with
+    * {@link Robust} arithmetic.
+    */
+   static int incircleRobust(final double[] a, final double[] b, final double[] c,
+         final double[] d)
+   {
+
+      final Robust adx = robust(a[0]).sub(robust(d[0]));
+      final Robust bdx = robust(b[0]).sub(robust(d[0]));
+      final Robust cdx = robust(c[0]).sub(robust(d[0]));
+      final Robust ady = robust(a[1]).sub(robust(d[1]));
+      final Robust bdy = robust(b[1]).sub(robust(d[1]));
+      final Robust cdy = robust(c[1]).sub(robust(d[1]));
+      final Robust alift = adx.mul(adx).add(ady.mul(ady));
+      final Robust blift = bdx.mul(bdx).add(bdy.mul(bdy));
+      final Robust clift = cdx.mul(cdx).add(cdy.mul(cdy));
+      return alift.mul(bdx.mul(cdy).sub(cdx.mul(bdy)))
+                  .add(blift.mul(cdx.mul(ady).sub(adx.mul(cdy))))
+                  .add(clift.mul(adx.mul(bdy).sub(bdx.mul(ady)))).signum();
+   }
+
+   /**
+    * Returns {@link #insphere(double[], double[], double[], double[], double[])} evaluated with
+    * {@link Robust} arithmetic.
+    */
+   static int insphereRobust(final double[] a, final double[] b, final double[] c,
+         final double[] d, final double[] e)
+   {
+
+      final Robust aex = robust(a[0]).sub(robust(e[0]));
+      final Robust bex = robust(b[0]).sub(robust(e[0]));
+      final Robust cex = robust(c[0]).sub(robust(e[0]));
+      final Robust dex = robust(d[0]).sub(robust(e[0]));
+      final Robust aey = robust(a[1]).sub(robust(e[1]));
+      final Robust bey = robust(b[1]).sub(robust(e[1]));
+      final Robust cey = robust(c[1]).sub(robust(e[1]));
+      final Robust dey = robust(d[1]).sub(robust(e[1]));
+      final Robust aez = robust(a[2]).sub(robust(e[2]));
+      final Robust bez = robust(b[2]).sub(robust(e[2]));
+      final Robust cez = robust(c[2]).sub(robust(e[2]));
+      final Robust dez = robust(d[2]).sub(robust(e[2]));
+      final Robust ab = aex.mul(bey).sub(bex.mul(aey));
+      final Robust bc = bex.mul(cey).sub(cex.mul(bey));
+      final Robust cd = cex.mul(dey).sub(dex.mul(cey));
+      final Robust da = dex.mul(aey).sub(aex.mul(dey));
+      final Robust ac = aex.mul(cey).sub(cex.mul(aey));
+      final Robust bd = bex.mul(dey).sub(dex.mul(bey));
+      final Robust abc = aez.mul(bc).sub(bez.mul(ac)).add(cez.mul(ab));
+      final Robust bcd = bez.mul(cd).sub(cez.mul(bd)).add(dez.mul(bc));
+      final Robust cda = cez.mul(da).add(dez.mul(ac)).add(aez.mul(cd));
+      final Robust dab = dez.mul(ab).add(aez.mul(bd)).add(bez.mul(da));
+      final Robust alift = aex.mul(aex).add(aey.mul(aey)).add(aez.mul(aez));
+      final Robust blift = bex.mul(bex).add(bey.mul(bey)).add(bez.mul(bez));
+      final Robust clift = cex.mul(cex).add(cey.mul(cey)).add(cez.mul(cez));
+      final Robust dlift = dex.mul(dex).add(dey.mul(dey)).add(dez.mul(dez));
+      return dlift.mul(abc).sub(clift.mul(dab)).add(blift.mul(cda).sub(alift.mul(bcd)))
+                  .signum();
+   }
+
+   /**
+    * Returns the exact expansion of {@code x1*y2-x2*y1}.
+    */
+   private static double[] minor(final double[] x1, final double[] y2, final double[] x2,
+         final double[] y1)
+   {
+
+      return diff(mul(x1, y2), mul(x2, y1));
+   }
+
+   /**
+    * Returns the exact expansion of {@code x^2+y^2}.
+    */
+   private static double[] lift(final double[] x, final double[] y)
+   {
+
+      return sum(mul(x, x), mul(y, y));
+   }
+
+   /**
+    * Returns the exact expansion of {@code x^2+y^2+z^2}.
+    */
+   private static double[] lift(final double[] x, final double[] y, final double[] z)
+   {
+
+      return sum(lift(x, y), mul(z, z));
+   }
+
+   /**
+    * Returns whether a given point is in the range, where neither the {@code double} evaluation of
+    * a determinant nor its exact evaluation with floating point expansions can overflow or
+    * underflow.
+    *
+    * @throws IllegalArgumentException
+    *            In case a coordinate is not finite.
+    */
+   private static boolean isSafe(final double[] point) throws IllegalArgumentException
+   {
+
+      boolean safe = true;
+      for (final double x : point)
+      {
+         if (!Double.isFinite(x))
+         {
+            throw new IllegalArgumentException("coordinate %s is not finite".formatted(x));
+         }
+         final int exponent = Math.getExponent(x);
+         safe &= x == 0d || exponent <= MAX_EXPONENT && exponent >= MIN_EXPONENT;
+      }
+      return safe;
+   }
+
+   private static Robust robust(final double x)
+   {
+
+      return Robust.valueOf(x);
+   }
+
+   private Predicates()
+   {
+   }
+
+   /** Half of the machine epsilon. */
+   private static final double EPSILON = 0x1p-53;
+
+   private static final double ORIENT2D_ERROR = (3d + 16d * EPSILON) * EPSILON;
+
+   private static final double ORIENT3D_ERROR = (7d + 56d * EPSILON) * EPSILON;
+
+   private static final double INCIRCLE_ERROR = (10d + 96d * EPSILON) * EPSILON;
+
+   private static final double INSPHERE_ERROR = (16d + 224d * EPSILON) * EPSILON;
+
+   /**
+    * The minimum exponent of non-zero coordinates. Components of the expansions of products of up
+    * to five exact differences are then at least {@code 2^(5*(-140-53))}, which is a normal
+    * number.
+    */
+   private static final int MIN_EXPONENT = -140;
+
+   /**
+    * The maximum exponent of coordinates. Products of up to five differences and their sums are
+    * then far below {@code Double.MAX_VALUE}.
+    */
+   private static final int MAX_EXPONENT = 140;
+}
@@ -0,0 +1,5 @@
+/**
+ * Exact geometric predicates on {@code double} coordinates, which use floating point filters and
+ * exact expansion arithmetic before resorting to {@link br.eng.strauss.yaxana.Robust} arithmetic.
+ */
+package br.eng.strauss.yaxana.predicates;
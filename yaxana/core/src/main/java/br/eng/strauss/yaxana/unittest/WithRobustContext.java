@@ -0,0 +1,24 @@
+package br.eng.strauss.yaxana.unittest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import br.eng.strauss.yaxana.RobustContext;
+
+/**
+ * Indicates that the test methods of a test class, or a test method, are to be executed within a
+ * new {@link RobustContext}, which is closed afterwards.
+ * 
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WithRobustContext {
+   /**
+    * @return the maximum cache size of the context, {@code 0} switching off caching.
+    */
+   int value() default 0;
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 
 import br.eng.strauss.yaxana.Algorithm;
+import br.eng.strauss.yaxana.RobustContext;
 import br.eng.strauss.yaxana.Robusts;
 import br.eng.strauss.yaxana.epu.Algebraic;
 
@@ -75,6 +76,30 @@ public final class YaxanaExtension implements AfterAllCallback, BeforeAllCallbac
 
       final Method method = invocationContext.getExecutable();
       final Class<?> clasz = method.getDeclaringClass();
+      final WithRobustContext withContext = method.getAnnotation(WithRobustContext.class) != null
+            ? method.getAnnotation(WithRobustContext.class)
+            : clasz.getAnnotation(WithRobustContext.class);
+      final RobustContext robustContext = withContext != null
+            ? RobustContext.open(withContext.value())
+            : null;
+      try
+      {
+         interceptTestMethod(invocation, invocationContext, method, clasz);
+      }
+      finally
+      {
+         if (robustContext != null)
+         {
+            robustContext.close();
+         }
+      }
+   }
+
+   private void interceptTestMethod(final Invocation<Void> invocation,
+         final ReflectiveInvocationContext<Method> invocationContext, final Method method,
+         final Class<?> clasz) throws Throwable
+   {
+
       final String name = clasz.getName() + "." + method.getName();
       if (method.getAnnotation(Benchmark.class) != null
             && (SKIP_BENCHMARKS || method.getAnnotation(Benchmark.class).value() == 0))
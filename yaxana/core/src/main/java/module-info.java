@@ -11,9 +11,16 @@ module br.eng.strauss.yaxana
 
    requires static org.junit.jupiter.api;
 
+   requires java.management;
+
+   requires jdk.jfr;
+
    exports br.eng.strauss.yaxana;
    exports br.eng.strauss.yaxana.big;
    exports br.eng.strauss.yaxana.exc;
+   exports br.eng.strauss.yaxana.predicates;
+
+   uses br.eng.strauss.yaxana.IntervalKernel;
 
    exports br.eng.strauss.yaxana.unittest;
 }
\ No newline at end of file
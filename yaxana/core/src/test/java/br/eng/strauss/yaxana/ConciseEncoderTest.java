@@ -0,0 +1,134 @@
+package br.eng.strauss.yaxana;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class ConciseEncoderTest extends YaxanaTest
+{
+
+   @Test
+   public void testLinearSize()
+   {
+
+      final int n = 30;
+      final Robust x = doubling(n);
+      // the abstract syntax tree has more than 2^n nodes
+      assertTrue(x.noOfNodes() < 4 * n + ConciseNumber.SHARING_THRESHOLD);
+      assertTrue(x.toAlgebraic().noOfNodes() < 4 * n);
+      assertEquals(2d, x.doubleValue(), 1e-6);
+      assertEquals(x, doubling(n));
+   }
+
+   @Test
+   public void testEquals()
+   {
+
+      final short t = (short) Type.TERMINAL.ordinal();
+      final short add = (short) Type.ADD.ordinal();
+      final short mul = (short) Type.MUL.ordinal();
+      final short ref = (short) ConciseEncoder.REFERENCE;
+      // (1+2)*(1+2) as a tree and with a reference to 1+2
+      final short[] tree = { t, t, add, t, t, add, mul };
+      final double[] treeOperands = { 1d, 2d, 1d, 2d };
+      final short[] dag = { t, t, add, ref, 1, mul };
+      final double[] dagOperands = { 1d, 2d };
+      assertEquals(1, ConciseEncoder.noOfReferences(dag));
+      assertEquals(2, ConciseEncoder.target(dag, 3));
+      assertTrue(ConciseEncoder.equal(tree, treeOperands, dag, dagOperands));
+      assertTrue(ConciseEncoder.equal(dag, dagOperands, tree, treeOperands));
+      final double[] otherOperands = { 1d, 2d, 1d, 3d };
+      assertTrue(!ConciseEncoder.equal(tree, otherOperands, dag, dagOperands));
+      final Robust a = new Robust(tree, treeOperands, 0, 9d, 9d, 9d, false, false);
+      final Robust b = new Robust(dag, dagOperands, 0, 9d, 9d, 9d, false, true);
+      final Robust c = new Robust(tree, otherOperands, 0, 9d, 9d, 9d, false, false);
+      assertEquals(a, b);
+      assertEquals(b, a);
+      assertNotEquals(b, c);
+   }
+
+   @Test
+   public void testSignum()
+   {
+
+      final Robust x = doubling(30);
+      final Robust d = x.add(Robust.valueOf("1p-70")).sub(x);
+      assertTrue(ConciseEncoder.noOfReferences(d.operations) > 0);
+      assertTrue(d.isShared());
+      assertTrue(x.neg().isShared());
+      assertTrue(!Robust.valueOf(2).sqrt().add(Robust.valueOf(3)).isShared());
+      assertEquals(1, DoubleDoubleFilter.signum(d.operations, d.operands));
+      assertEquals(1, d.signum());
+      assertEquals(-1, x.sub(x.add(Robust.valueOf("1p-70"))).signum());
+   }
+
+   @Test
+   public void testBatch()
+   {
+
+      final Robust x = doubling(30);
+      final Robust d = x.add(Robust.valueOf("1p-70")).sub(x);
+      final RobustBatch batch = new RobustBatch(d);
+      assertEquals(d.noOfOperands(), batch.noOfOperands());
+      assertEquals(d, batch.toRobust(d.operands));
+      final double[][] inputs = new double[d.noOfOperands()][1];
+      for (int k = 0; k < inputs.length; k++)
+      {
+         inputs[k][0] = d.operands[k];
+      }
+      assertArrayEquals(new int[] { 1 }, batch.evaluate(inputs));
+   }
+
+   @Test
+   public void testSerialization() throws IOException, ClassNotFoundException
+   {
+
+      final Robust desiredValue = doubling(30);
+      final byte[] bytes;
+      try (final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final ObjectOutputStream oos = new ObjectOutputStream(baos))
+      {
+         oos.writeObject(desiredValue);
+         bytes = baos.toByteArray();
+      }
+      final Robust actualValue;
+      try (final ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+            final ObjectInputStream ois = new ObjectInputStream(bais))
+      {
+         actualValue = (Robust) ois.readObject();
+      }
+      assertEquals(desiredValue, actualValue);
+      assertEquals(desiredValue.noOfNodes(), actualValue.noOfNodes());
+      assertTrue(bytes.length < 4096);
+   }
+
+   /**
+    * Returns {@code x(n)} with {@code x(0) = sqrt(2)} and {@code x(k+1) = sqrt(x(k)+x(k))}, whose
+    * abstract syntax tree doubles with each {@code k}.
+    */
+   private static Robust doubling(final int n)
+   {
+
+      Robust x = Robust.valueOf(2).sqrt();
+      for (int k = 0; k < n; k++)
+      {
+         x = x.add(x).sqrt();
+      }
+      return x;
+   }
+}
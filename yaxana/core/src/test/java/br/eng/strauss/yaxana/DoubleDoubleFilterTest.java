@@ -0,0 +1,111 @@
+package br.eng.strauss.yaxana;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class DoubleDoubleFilterTest extends YaxanaTest
+{
+
+   @Test
+   public void testDecided()
+   {
+
+      assertEquals(-1, signum("sqrt(2)-0x1.6A09E667F3BCDP+0"));
+      assertEquals(-1, signum("-|1/3-0x1.5555555555555P-2|"));
+      assertEquals(+1, signum("(sqrt(2)+1p-90)^2-2"));
+      assertEquals(+1, signum("(root(3,3)+1p-80)^3-3"));
+      assertEquals(-1, signum("root(-2,5)*(root(2,5)+1p-90)+root(4,5)"));
+      assertEquals(+1, signum("1/(sqrt(2)*(sqrt(2)+1p-90)-2)"));
+   }
+
+   @Test
+   public void testUndecided()
+   {
+
+      assertEquals(0, signum("sqrt(2)^2-2"));
+      assertEquals(0, signum("sqrt(2)*sqrt(3)-sqrt(6)"));
+      assertEquals(0, signum("root(3,3)^3-3"));
+      assertEquals(0, signum("(sqrt(2)+1p-120)^2-2"));
+      assertEquals(0, signum("1/((sqrt(2)+1p-120)^2-2)"));
+      assertEquals(0, signum("sqrt((sqrt(2)+1p-120)^2-2)"));
+   }
+
+   @Test
+   public void testUnderflow()
+   {
+
+      // 2^-600*2^-600 underflows to zero, and 2^-1200*2^800-2^-402 is positive
+      final Robust x = Robust.valueOf(0x1p-600).mul(Robust.valueOf(0x1p-600))
+            .sub(Robust.valueOf(0x1p-600 * 0x1p-601)).mul(Robust.valueOf(0x1p800))
+            .add(Robust.valueOf(-0x1p-402));
+      assertEquals(0, signum(x));
+      assertEquals(1, x.signum());
+      assertEquals(0, signum("1p-600*1p-600*1p800-1p-402"));
+      assertEquals(0, signum("1p-600/1p600*1p800-1p-402"));
+      assertEquals(0, signum("(1p-300)^4*1p800-1p-402"));
+   }
+
+   @Test
+   public void testAgreement()
+   {
+
+      final Random random = new Random(0L);
+      int noOfDecided = 0;
+      final int noOfSamples = 2000;
+      for (int k = 0; k < noOfSamples; k++)
+      {
+         final Robust a = Robust.valueOf(random.nextDouble());
+         final Robust b = Robust.valueOf(random.nextDouble() + 1d);
+         final Robust c = Robust.valueOf(random.nextDouble() - 0.5);
+         final Robust epsilon = Robust.valueOf(Math.scalb(1d, -50 - random.nextInt(60)));
+         final Robust d = a.add(epsilon.mul(c));
+         final Robust x;
+         // @formatter:off
+         switch (k % 4)
+         {
+            case 0  -> x = d.add(b).pow(2).sub(a.pow(2).add(a.mul(b).add(a.mul(b))).add(b.pow(2)));
+            case 1  -> x = d.sqrt().mul(b.sqrt()).sub(a.mul(b).sqrt());
+            case 2  -> x = d.div(b).mul(b).sub(a);
+            default -> x = d.add(b).root(3).pow(3).sub(a.add(b));
+         }
+         // @formatter:on
+         final int filtered = signum(x);
+         if (filtered != 0)
+         {
+            assertEquals(x.toAlgebraic().signum(), filtered, x.toString());
+            noOfDecided++;
+         }
+      }
+      assertTrue(noOfDecided > noOfSamples / 2, "decided " + noOfDecided);
+   }
+
+   private static int signum(final String expression)
+   {
+
+      try
+      {
+         Robusts.setSimplification(false);
+         return signum(Robust.valueOf(expression));
+      }
+      finally
+      {
+         Robusts.setSimplification(true);
+      }
+   }
+
+   private static int signum(final Robust robust)
+   {
+
+      return DoubleDoubleFilter.signum(robust.operations, robust.operands);
+   }
+}
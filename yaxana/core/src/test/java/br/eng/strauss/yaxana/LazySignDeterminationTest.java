@@ -0,0 +1,117 @@
+package br.eng.strauss.yaxana;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.WithRobustContext;
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@WithRobustContext
+public final class LazySignDeterminationTest extends YaxanaTest
+{
+
+   @Test
+   public void testSetGet()
+   {
+
+      assertFalse(Robusts.isLazySignDetermination());
+      Robusts.setLazySignDetermination(true);
+      try
+      {
+         assertTrue(Robusts.isLazySignDetermination());
+      }
+      finally
+      {
+         Robusts.setLazySignDetermination(false);
+      }
+      assertFalse(Robusts.isLazySignDetermination());
+   }
+
+   @Test
+   public void testSum()
+   {
+
+      final int n = 20;
+      final long eager = noOfSignDeterminations(() -> assertEquals(0, sum(n).signum()));
+      Robusts.setLazySignDetermination(true);
+      try
+      {
+         final long lazy = noOfSignDeterminations(() -> {
+            final Robust sum = sum(n);
+            assertEquals(0, sum.signum());
+            assertEquals(0, sum.signum());
+            assertEquals(0d, sum.doubleValue());
+         });
+         assertEquals(n, eager);
+         assertEquals(1, lazy);
+      }
+      finally
+      {
+         Robusts.setLazySignDetermination(false);
+      }
+   }
+
+   @Test
+   public void testOperations()
+   {
+
+      Robusts.setLazySignDetermination(true);
+      try
+      {
+         final Robust two = Robust.valueOf(2);
+         final Robust epsilon = Robust.valueOf("1p-200");
+         final Robust positive = sum(3).add(epsilon);
+         final Robust negative = sum(3).sub(epsilon);
+         assertEquals(1, positive.signum());
+         assertTrue(positive.doubleValue() > 0d);
+         assertTrue(positive.lowerBound() >= 0d);
+         assertEquals(-1, negative.signum());
+         assertTrue(negative.upperBound() <= 0d);
+         assertEquals(1, sum(3).sub(epsilon).neg().signum());
+         assertEquals(1, sum(3).sub(epsilon).abs().signum());
+         assertEquals(-1, sum(3).sub(epsilon).mul(two).signum());
+         assertEquals(-1, two.div(sum(3).sub(epsilon)).signum());
+         assertEquals(1, sum(3).sub(epsilon).pow(2).signum());
+         assertEquals(1, sum(3).add(epsilon).sqrt().signum());
+         assertEquals(Robust.ZERO, sum(3).mul(two));
+         assertEquals(1, positive.compareTo(negative));
+         assertEquals(sum(3), sum(3));
+      }
+      finally
+      {
+         Robusts.setLazySignDetermination(false);
+      }
+   }
+
+   private static long noOfSignDeterminations(final Runnable task)
+   {
+
+      final SignMetricsMXBean metrics = Robusts.getSignMetrics();
+      final long before = metrics.getSignComputations() + metrics.getDoubleFilterResolutions();
+      task.run();
+      return metrics.getSignComputations() + metrics.getDoubleFilterResolutions() - before;
+   }
+
+   /**
+    * Returns a sum of {@code n} terms {@code sqrt(2)*sqrt(3)-sqrt(6)}, each of which is zero.
+    */
+   private static Robust sum(final int n)
+   {
+
+      final Robust product = Robust.valueOf(2).sqrt().mul(Robust.valueOf(3).sqrt());
+      final Robust six = Robust.valueOf(6).sqrt();
+      Robust sum = Robust.ZERO;
+      for (int k = 0; k < n; k++)
+      {
+         sum = sum.add(product.sub(six));
+      }
+      return sum;
+   }
+}
@@ -0,0 +1,93 @@
+package br.eng.strauss.yaxana;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.tools.SampleRobust;
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class PrecisionScheduleTest extends YaxanaTest
+{
+
+   @Test
+   public void testDoubling()
+   {
+
+      final PrecisionSchedule schedule = PrecisionSchedule.doubling();
+      assertEquals(104, schedule.next(52, 60));
+      assertEquals(Integer.MAX_VALUE, schedule.next(Integer.MAX_VALUE - 1, Integer.MAX_VALUE));
+   }
+
+   @Test
+   public void testGeometric()
+   {
+
+      assertEquals(78, PrecisionSchedule.geometric(1.5).next(52, 1000));
+      assertEquals(60, PrecisionSchedule.geometric(1.5).next(52, 60));
+      assertEquals(53, PrecisionSchedule.geometric(1.001).next(52, 1000));
+      assertThrows(IllegalArgumentException.class, () -> PrecisionSchedule.geometric(1d));
+      assertThrows(IllegalArgumentException.class, () -> PrecisionSchedule.geometric(Double.NaN));
+   }
+
+   @Test
+   public void testSufficient()
+   {
+
+      assertEquals(1000, PrecisionSchedule.sufficient().next(52, 1000));
+   }
+
+   @Test
+   public void testSignum()
+   {
+
+      final PrecisionSchedule schedule = Robusts.getPrecisionSchedule();
+      try
+      {
+         for (final PrecisionSchedule s : new PrecisionSchedule[] { PrecisionSchedule.doubling(),
+               PrecisionSchedule.geometric(1.5), PrecisionSchedule.sufficient() })
+         {
+            Robusts.setPrecisionSchedule(s);
+            final Random random = new Random(0L);
+            for (int k = 0; k < 20; k++)
+            {
+               Robusts.clearCache();
+               final Robust q = Robust.valueOf(random.nextDouble()).sqrt();
+               final Robust[] E = SampleRobust.geometricSeriesArray(q, 10);
+               final Robust epsilon = Robust.valueOf("1p-200");
+               assertEquals(0, E[0].compareTo(E[1]));
+               assertEquals(+1, E[0].add(epsilon).compareTo(E[1]));
+               assertEquals(-1, E[0].sub(epsilon).compareTo(E[1]));
+            }
+         }
+      }
+      finally
+      {
+         Robusts.setPrecisionSchedule(schedule);
+      }
+   }
+
+   @Test
+   public void testNonIncreasingSchedule()
+   {
+
+      final PrecisionSchedule schedule = Robusts.getPrecisionSchedule();
+      try
+      {
+         Robusts.setPrecisionSchedule((precision, sufficientPrecision) -> precision);
+         final Robust[] E = SampleRobust.geometricSeriesArray(Robust.valueOf(0.5).sqrt(), 10);
+         assertThrows(IllegalStateException.class, () -> E[0].compareTo(E[1]));
+      }
+      finally
+      {
+         Robusts.setPrecisionSchedule(schedule);
+      }
+   }
+}
@@ -0,0 +1,99 @@
+package br.eng.strauss.yaxana;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class RobustArenaTest extends YaxanaTest
+{
+
+   @Test
+   public void testAddGet()
+   {
+
+      final RobustArena arena = new RobustArena(256);
+      final Random random = new Random(0L);
+      final int n = 1000;
+      final Robust[] values = new Robust[n];
+      final long[] handles = new long[n];
+      for (int k = 0; k < n; k++)
+      {
+         final Robust a = Robust.valueOf(random.nextInt(10));
+         final Robust b = Robust.valueOf(random.nextInt(10));
+         values[k] = k % 3 == 0 ? a : a.sqrt().add(b.sqrt()).sub(Robust.valueOf(k % 7).sqrt());
+         handles[k] = arena.add(values[k]);
+      }
+      for (int k = 0; k < n; k++)
+      {
+         final Robust value = arena.get(handles[k]);
+         assertEquals(values[k], value);
+         assertEquals(values[k].signum(), value.signum());
+         assertEquals(values[k].lowerBound(), value.lowerBound());
+         assertEquals(values[k].upperBound(), value.upperBound());
+      }
+      assertTrue(arena.size() < n);
+      assertTrue(arena.noOfBytes() > 0);
+   }
+
+   @Test
+   public void testSharing()
+   {
+
+      final RobustArena arena = new RobustArena();
+      final Robust a = Robust.valueOf("\\2+\\3");
+      final Robust b = Robust.valueOf("\\2-\\3");
+      final long handle = arena.add(a);
+      final long noOfBytes = arena.noOfBytes();
+      assertEquals(handle, arena.add(Robust.valueOf("\\2+\\3")));
+      assertEquals(noOfBytes, arena.noOfBytes());
+      assertNotEquals(handle, arena.add(b));
+      assertEquals(2, arena.size());
+      // a large value gets a chunk of its own
+      Robust x = Robust.valueOf(2).sqrt();
+      for (int k = 0; k < 20; k++)
+      {
+         x = x.add(x).sqrt();
+      }
+      final RobustArena small = new RobustArena(64);
+      final long handleX = small.add(x);
+      assertEquals(x, small.get(handleX));
+      // a duplicate allocates no chunk, so the next large value gets the second chunk
+      assertEquals(handleX, small.add(x));
+      final Robust y = x.add(x).sqrt();
+      assertEquals(1L, small.add(y) >>> 32);
+      assertEquals(y, small.get(1L << 32));
+   }
+
+   @Test
+   public void testInvalid()
+   {
+
+      assertThrows(IllegalArgumentException.class, () -> new RobustArena(63));
+      final RobustArena arena = new RobustArena();
+      final long handle = arena.add(Robust.valueOf(1.5));
+      assertThrows(IllegalArgumentException.class, () -> arena.get(handle + 9));
+      assertThrows(IllegalArgumentException.class, () -> arena.get(1L << 32));
+      assertThrows(IllegalArgumentException.class, () -> arena.get(-1L));
+      // handles into a record are rejected rather than decoded as trusted
+      final Robust x = Robust.valueOf("\\2-\\3");
+      final long handleX = arena.add(x);
+      arena.add(Robust.valueOf(2.5));
+      for (int k = 1; k < RobustCodec.encodedLength(x); k++)
+      {
+         final long inner = handleX + k;
+         assertThrows(IllegalArgumentException.class, () -> arena.get(inner));
+      }
+      assertEquals(x, arena.get(handleX));
+   }
+}
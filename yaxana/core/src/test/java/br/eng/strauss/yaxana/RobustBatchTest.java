@@ -0,0 +1,152 @@
+package br.eng.strauss.yaxana;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.exc.DivisionByZeroException;
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class RobustBatchTest extends YaxanaTest
+{
+
+   @Test
+   public void testOrientation()
+   {
+
+      // (ax-cx)*(by-cy)-(ay-cy)*(bx-cx)
+      final RobustBatch batch = new RobustBatch("(0-0)*(0-0)-(0-0)*(0-0)");
+      assertEquals(8, batch.noOfOperands());
+      final Random random = new Random(0L);
+      final int noOfTuples = 1000;
+      final double[][] inputs = new double[8][noOfTuples];
+      for (int n = 0; n < noOfTuples; n++)
+      {
+         final double ax = random.nextDouble();
+         final double ay = random.nextDouble();
+         final double bx = random.nextDouble();
+         final double by = random.nextDouble();
+         final double t = random.nextDouble();
+         // every third tuple is (nearly) collinear
+         final double cx = n % 3 == 0 ? ax + t * (bx - ax) : random.nextDouble();
+         final double cy = n % 3 == 0 ? ay + t * (by - ay) : random.nextDouble();
+         final double[] tuple = { ax, cx, by, cy, ay, cy, bx, cx };
+         for (int k = 0; k < tuple.length; k++)
+         {
+            inputs[k][n] = tuple[k];
+         }
+      }
+      assertArrayEquals(expected(batch, inputs), batch.evaluate(inputs));
+   }
+
+   @Test
+   public void testOperations()
+   {
+
+      final String[] templates = { "|0-\\0|^3/(0-root(0,3))-0", "-(root(-0,3)+0)*(0-0)^2",
+                                   "\\(0+0)-0/(0-0)", "(0-0)^2-0^2*0" };
+      final Random random = new Random(0L);
+      for (final String string : templates)
+      {
+         final RobustBatch batch = new RobustBatch(string);
+         final int noOfTuples = 600;
+         final double[][] inputs = new double[batch.noOfOperands()][noOfTuples];
+         for (int n = 0; n < noOfTuples; n++)
+         {
+            for (int k = 0; k < inputs.length; k++)
+            {
+               // small integers make many tuples degenerate
+               inputs[k][n] = n % 2 == 0 ? random.nextInt(5) - 2 : random.nextDouble() - 0.25;
+            }
+            for (int k = 0; k < inputs.length; k++)
+            {
+               // avoid division by zero
+               inputs[k][n] = inputs[k][n] == 0d ? 0.5 : inputs[k][n];
+            }
+         }
+         try
+         {
+            assertArrayEquals(expected(batch, inputs), batch.evaluate(inputs), string);
+         }
+         catch (final DivisionByZeroException e)
+         {
+            assertThrows(DivisionByZeroException.class, () -> expected(batch, inputs));
+         }
+      }
+   }
+
+   @Test
+   public void testZero()
+   {
+
+      final Robust template = Robust.valueOf("\\2*\\3-\\7");
+      assertEquals(3, template.noOfOperands());
+      final double[][] inputs = { { 2, 0, 4, 2 }, { 2, 3, 9, 3 }, { 4, 0, 36, 1 } };
+      assertArrayEquals(new int[] { 0, 0, 0, 1 }, RobustBatch.evaluate(template, inputs));
+   }
+
+   @Test
+   public void testUnderflow()
+   {
+
+      // 2^-600*2^-600 underflows to zero in double-double arithmetic, but 2^-400-2^-402 > 0
+      final RobustBatch batch = new RobustBatch("(0*0-0)*0+0");
+      final double[][] inputs = { { 0x1p-600, 1 }, { 0x1p-600, 1 }, { 0x1p-600 * 0x1p-601, 1 },
+                                  { 0x1p800, 1 }, { -0x1p-402, -2 } };
+      assertArrayEquals(new int[] { 1, -1 }, batch.evaluate(inputs));
+      assertArrayEquals(new int[] { 1, -1 },
+                        batch.withKernel(IntervalKernel.scalar()).evaluate(inputs));
+   }
+
+   @Test
+   public void testKernel()
+   {
+
+      final RobustBatch batch = new RobustBatch("0*0-0");
+      final RobustBatch scalar = batch.withKernel(IntervalKernel.scalar());
+      assertSame(IntervalKernel.scalar(), scalar.kernel());
+      assertEquals(batch.noOfOperands(), scalar.noOfOperands());
+      final double[][] inputs = { { 1, 2, 3 }, { 1, 2, 3 }, { 0, 4, 10 } };
+      assertArrayEquals(new int[] { 1, 0, -1 }, scalar.evaluate(inputs));
+   }
+
+   @Test
+   public void testIllegalInputs()
+   {
+
+      final RobustBatch batch = new RobustBatch("\\0-0");
+      assertThrows(IllegalArgumentException.class, () -> batch.evaluate(new double[][] { { 1 } }));
+      assertThrows(IllegalArgumentException.class,
+                   () -> batch.evaluate(new double[][] { { 1 }, { 1, 2 } }));
+      assertThrows(IllegalArgumentException.class, () -> new RobustBatch("pow(0,-2)"));
+      assertThrows(NumberFormatException.class, () -> new RobustBatch("0-"));
+      assertThrows(DivisionByZeroException.class,
+                   () -> new RobustBatch("0/(\\0-0)").evaluate(new double[][] { { 1 }, { 4 },
+                                                                                 { 2 } }));
+   }
+
+   private static int[] expected(final RobustBatch batch, final double[][] inputs)
+   {
+
+      final int[] signs = new int[inputs[0].length];
+      for (int n = 0; n < signs.length; n++)
+      {
+         final double[] operands = new double[inputs.length];
+         for (int k = 0; k < operands.length; k++)
+         {
+            operands[k] = inputs[k][n];
+         }
+         signs[n] = batch.toRobust(operands).signum();
+      }
+      return signs;
+   }
+}
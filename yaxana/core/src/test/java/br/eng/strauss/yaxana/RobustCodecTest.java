@@ -0,0 +1,178 @@
+package br.eng.strauss.yaxana;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.WithRobustContext;
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class RobustCodecTest extends YaxanaTest
+{
+
+   @Test
+   @WithRobustContext
+   public void testRoundTrip()
+   {
+
+      final Robust a = Robust.valueOf("\\2+\\3+\\(5+2*\\6)");
+      final Robust b = Robust.valueOf(2).sqrt().mul(Robust.valueOf(3).sqrt())
+            .sub(Robust.valueOf(6).sqrt());
+      final Robust c = doubling(20);
+      final List<Robust> values = List.of(Robust.valueOf(0.1), a, b, c, a, Robust.valueOf(0.1));
+      final ByteBuffer buffer = RobustCodec.encode(values);
+      assertEquals(RobustCodec.encodedLength(values), buffer.remaining());
+      final SignMetricsMXBean metrics = Robusts.getSignMetrics();
+      final long before = metrics.getSignComputations();
+      final List<Robust> decoded = RobustCodec.decode(buffer.duplicate(), true);
+      assertEquals(before, metrics.getSignComputations());
+      assertRoundTrip(values, decoded);
+      assertRoundTrip(values, RobustCodec.decode(buffer));
+      assertEquals(0, buffer.remaining());
+   }
+
+   private static void assertRoundTrip(final List<Robust> values, final List<Robust> decoded)
+   {
+
+      assertEquals(values, decoded);
+      assertSame(decoded.get(1), decoded.get(4));
+      assertEquals(0, decoded.get(2).signum());
+      assertEquals(values.get(3).noOfNodes(), decoded.get(3).noOfNodes());
+      for (int k = 0; k < values.size(); k++)
+      {
+         assertEquals(values.get(k).lowerBound(), decoded.get(k).lowerBound());
+         assertEquals(values.get(k).upperBound(), decoded.get(k).upperBound());
+      }
+   }
+
+   @Test
+   public void testBackReferences()
+   {
+
+      final Robust a = Robust.valueOf("1+\\2");
+      final Robust b = Robust.valueOf("3+\\5");
+      final Robust c = Robust.valueOf("7+\\11");
+      final List<Robust> values = List.of(a, b, a, c, c, b, a);
+      final List<Robust> decoded = RobustCodec.decode(RobustCodec.encode(values));
+      assertEquals(values, decoded);
+      assertSame(decoded.get(3), decoded.get(4));
+      assertSame(decoded.get(1), decoded.get(5));
+   }
+
+   @Test
+   @WithRobustContext(1000)
+   public void testInterning()
+   {
+
+      final Robust a = Robust.valueOf("\\2+\\3");
+      final List<Robust> decoded = RobustCodec.decode(RobustCodec.encode(List.of(a)));
+      assertSame(a, decoded.get(0));
+   }
+
+   @Test
+   public void testByteOrder()
+   {
+
+      final List<Robust> values = List.of(Robust.valueOf("\\2-\\3"));
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(RobustCodec.encodedLength(values) + 8)
+            .order(ByteOrder.LITTLE_ENDIAN);
+      buffer.putLong(-1L);
+      RobustCodec.encode(values, buffer);
+      buffer.flip().position(8);
+      assertEquals(values, RobustCodec.decode(buffer));
+      assertEquals(ByteOrder.LITTLE_ENDIAN, buffer.order());
+   }
+
+   @Test
+   public void testInvalid()
+   {
+
+      final List<Robust> values = List.of(Robust.valueOf("\\2-\\3"));
+      final ByteBuffer valid = RobustCodec.encode(values);
+      final ByteBuffer magic = copy(valid).put(0, (byte) 0);
+      assertThrows(IllegalArgumentException.class, () -> RobustCodec.decode(magic));
+      final ByteBuffer version = copy(valid).put(4, (byte) 2);
+      assertThrows(IllegalArgumentException.class, () -> RobustCodec.decode(version));
+      // the first operation is the first terminal
+      final ByteBuffer operation = copy(valid).putShort(18, (short) Type.ADD.ordinal());
+      assertThrows(IllegalArgumentException.class, () -> RobustCodec.decode(operation));
+      final ByteBuffer truncated = copy(valid).limit(valid.limit() - 1);
+      assertThrows(BufferUnderflowException.class, () -> RobustCodec.decode(truncated));
+   }
+
+   @Test
+   public void testMalformedIntervals()
+   {
+
+      final List<Robust> values = List.of(Robust.valueOf("\\2-\\3"));
+      final ByteBuffer valid = RobustCodec.encode(values);
+      final int end = valid.limit();
+      assertMalformed(copy(valid).putDouble(end - 24, 0d).putDouble(end - 16, 0d)
+            .putDouble(end - 8, 5d));
+      assertMalformed(copy(valid).putDouble(end - 24, 3d).putDouble(end - 16, -1d)
+            .putDouble(end - 8, 5d));
+      assertMalformed(copy(valid).putDouble(end - 24, -1d).putDouble(end - 16, -2d)
+            .putDouble(end - 8, 1d));
+      assertMalformed(copy(valid).putDouble(end - 24, 7d).putDouble(end - 16, 1d)
+            .putDouble(end - 8, 5d));
+      assertMalformed(copy(valid).putDouble(end - 24, Double.NaN));
+   }
+
+   @Test
+   @WithRobustContext
+   public void testUntrustedInterval()
+   {
+
+      final Robust negative = Robust.valueOf("\\2-\\3");
+      final ByteBuffer valid = RobustCodec.encode(List.of(negative));
+      final int end = valid.limit();
+      // a consistent, but wrong interval of a positive value
+      final ByteBuffer wrong = copy(valid).putDouble(end - 24, 3d).putDouble(end - 16, 1d)
+            .putDouble(end - 8, 5d);
+      final Robust decoded = RobustCodec.decode(wrong).get(0);
+      assertEquals(negative, decoded);
+      assertEquals(-1, decoded.signum());
+      assertEquals(negative.upperBound(), decoded.upperBound());
+   }
+
+   private static void assertMalformed(final ByteBuffer buffer)
+   {
+
+      assertThrows(IllegalArgumentException.class, () -> RobustCodec.decode(buffer.duplicate()));
+      assertThrows(IllegalArgumentException.class,
+            () -> RobustCodec.decode(buffer.duplicate(), true));
+   }
+
+   private static ByteBuffer copy(final ByteBuffer buffer)
+   {
+
+      final ByteBuffer copy = ByteBuffer.allocate(buffer.remaining());
+      copy.put(buffer.duplicate());
+      return copy.flip();
+   }
+
+   /**
+    * Returns {@code x(n)} with {@code x(0) = sqrt(2)} and {@code x(k+1) = sqrt(x(k)+x(k))}.
+    */
+   private static Robust doubling(final int n)
+   {
+
+      Robust x = Robust.valueOf(2).sqrt();
+      for (int k = 0; k < n; k++)
+      {
+         x = x.add(x).sqrt();
+      }
+      return x;
+   }
+}
@@ -0,0 +1,170 @@
+package br.eng.strauss.yaxana;
+
+import static br.eng.strauss.yaxana.RobustContext.Eviction.FIRST_IN_FIRST_OUT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.epu.AlgebraicFactory;
+import br.eng.strauss.yaxana.epu.Cache;
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class RobustContextTest extends YaxanaTest
+{
+
+   @Test
+   public void testIsolation()
+   {
+
+      final Cache cache = Cache.getInstance();
+      final int noOfEntries = cache.noOfEntries();
+      try (final RobustContext context = RobustContext.open(10_000))
+      {
+         final Supplier<Robust> sequence = Robusts.randomSequence(10);
+         for (int k = 0; k < 100; k++)
+         {
+            sequence.get();
+         }
+         assertTrue(context.noOfCacheEntries() > 0);
+         assertEquals(noOfEntries, cache.noOfEntries());
+         assertEquals(10_000, Robusts.getMaximumCacheSize());
+         Robusts.clearCache();
+         assertEquals(0, context.noOfCacheEntries());
+      }
+      assertEquals(1_000_000, Robusts.getMaximumCacheSize());
+   }
+
+   @Test
+   public void testCanonicalExpressions() throws InterruptedException
+   {
+
+      try (final RobustContext context = RobustContext.open(10_000))
+      {
+         final Robust zero = Robust.valueOf(2).sqrt().mul(Robust.valueOf(3).sqrt())
+               .sub(Robust.valueOf(6).sqrt());
+         assertEquals(0, zero.signum());
+         assertTrue(context.noOfCacheEntries() > 0);
+         // the canonical expressions are kept alive by the cached values
+         final AlgebraicFactory factory = Cache.current().getFactory();
+         final int size = factory.size();
+         assertTrue(size > 0);
+         for (int k = 0; k < 10; k++)
+         {
+            System.gc();
+            Thread.sleep(10);
+         }
+         assertEquals(size, factory.size());
+      }
+   }
+
+   @Test
+   public void testNesting()
+   {
+
+      try (final RobustContext outer = RobustContext.open(10_000))
+      {
+         final Robust x = newRobust();
+         final int noOfEntries = outer.noOfCacheEntries();
+         try (final RobustContext inner = RobustContext.open(20_000))
+         {
+            assertEquals(20_000, Robusts.getMaximumCacheSize());
+            assertEquals(20_000, inner.getMaximumCacheSize());
+            final Robust y = newRobust();
+            assertEquals(x, y);
+            assertNotSame(x, y);
+         }
+         assertEquals(10_000, Robusts.getMaximumCacheSize());
+         assertEquals(noOfEntries, outer.noOfCacheEntries());
+         assertSame(x, newRobust());
+      }
+   }
+
+   @Test
+   public void testCall() throws Exception
+   {
+
+      try (final RobustContext context = RobustContext.open(10_000))
+      {
+         final Robust x = newRobust();
+         final Robust y = CompletableFuture
+               .supplyAsync(() -> context.call(() -> newRobust())).get();
+         assertSame(x, y);
+         final Robust z = CompletableFuture.supplyAsync(() -> newRobust())
+               .get();
+         assertNotSame(x, z);
+      }
+   }
+
+   @Test
+   public void testClose()
+   {
+
+      final RobustContext context = RobustContext.open(10_000);
+      context.close();
+      context.close();
+      assertEquals(1_000_000, Robusts.getMaximumCacheSize());
+      assertThrows(IllegalStateException.class, () -> context.noOfCacheEntries());
+      assertThrows(IllegalStateException.class, () -> context.run(() -> {
+      }));
+   }
+
+   @Test
+   public void testCloseOrder()
+   {
+
+      final RobustContext outer = RobustContext.open(10_000);
+      final RobustContext inner = RobustContext.open(20_000);
+      assertThrows(IllegalStateException.class, () -> outer.close());
+      assertEquals(20_000, Robusts.getMaximumCacheSize());
+      inner.close();
+      assertEquals(10_000, Robusts.getMaximumCacheSize());
+      outer.close();
+      assertEquals(1_000_000, Robusts.getMaximumCacheSize());
+      inner.close();
+      assertEquals(1_000_000, Robusts.getMaximumCacheSize());
+   }
+
+   @Test
+   public void testEviction()
+   {
+
+      final Robust[] array = new Robust[20];
+      try (final RobustContext context = RobustContext.open(1_000_000, FIRST_IN_FIRST_OUT))
+      {
+         final Supplier<Robust> sequence = Robusts.randomSequence(10);
+         for (int k = 0; k < array.length; k++)
+         {
+            array[k] = sequence.get();
+         }
+         Robusts.clearCache();
+         int size = 0;
+         for (int k = 0; k < array.length; k++)
+         {
+            Cache.current().put(array[k]);
+            size += array[k].noOfNodes();
+         }
+         Cache.current().get(array[0]);
+         context.setMaximumCacheSize(size - 1);
+         assertNull(Cache.current().get(array[0]));
+         assertSame(array[1], Cache.current().get(array[1]));
+      }
+   }
+
+   private static Robust newRobust()
+   {
+
+      return Robust.valueOf("\\2+\\3-\\5");
+   }
+}
@@ -1,6 +1,7 @@
 package br.eng.strauss.yaxana;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -10,6 +11,7 @@ import java.io.ObjectOutputStream;
 
 import org.junit.jupiter.api.Test;
 
+import br.eng.strauss.yaxana.unittest.WithRobustContext;
 import br.eng.strauss.yaxana.unittest.YaxanaTest;
 
 /**
@@ -41,4 +43,45 @@ public final class RobustSerializationTest extends YaxanaTest
       final SyntaxTree<?> actualTree = actualValue.toSyntaxTree();
       assertEquals(desiredTree, actualTree);
    }
+
+   @Test
+   @WithRobustContext
+   public void testLazySignDetermination() throws IOException, ClassNotFoundException
+   {
+
+      Robusts.setLazySignDetermination(true);
+      try
+      {
+         final Robust product = Robust.valueOf(2).sqrt().mul(Robust.valueOf(3).sqrt());
+         final Robust six = Robust.valueOf(6).sqrt();
+         final Robust zero = roundTrip(product.sub(six));
+         assertEquals(0, zero.signum());
+         assertEquals(0d, zero.doubleValue());
+         final Robust negative = roundTrip(product.sub(six).sub(Robust.valueOf("1p-200")));
+         assertEquals(-1, negative.signum());
+         assertTrue(negative.upperBound() <= 0d);
+      }
+      finally
+      {
+         Robusts.setLazySignDetermination(false);
+      }
+   }
+
+   private static Robust roundTrip(final Robust value) throws IOException, ClassNotFoundException
+   {
+
+      final byte[] bytes;
+      try (final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final ObjectOutputStream oos = new ObjectOutputStream(baos))
+      {
+         oos.writeObject(value);
+         oos.flush();
+         bytes = baos.toByteArray();
+      }
+      try (final ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+            final ObjectInputStream ois = new ObjectInputStream(bais))
+      {
+         return (Robust) ois.readObject();
+      }
+   }
 }
@@ -1,9 +1,32 @@
 package br.eng.strauss.yaxana;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
 
 import org.junit.jupiter.api.Test;
 
+import br.eng.strauss.yaxana.exc.DivisionByZeroException;
+import br.eng.strauss.yaxana.tools.SampleRobust;
+import br.eng.strauss.yaxana.unittest.WithRobustContext;
 import br.eng.strauss.yaxana.unittest.YaxanaTest;
 
 /**
@@ -20,4 +43,195 @@ public final class RobustsTest extends YaxanaTest
       Robusts.setMaximumCacheSize(24);
       assertEquals(24, Robusts.getMaximumCacheSize());
    }
+
+   @Test
+   @WithRobustContext
+   public void testSignListener()
+   {
+
+      final List<SignResolution> resolutions = new ArrayList<>();
+      final SignListener listener = (algorithm, resolution, timeNs, precision, noOfNodes) -> {
+         assertSame(Algorithm.getCurrent(), algorithm);
+         resolutions.add(resolution);
+      };
+      Robusts.addSignListener(listener);
+      try
+      {
+         final Robust product = Robust.valueOf(2).sqrt().mul(Robust.valueOf(3).sqrt());
+         final Robust six = Robust.valueOf(6).sqrt();
+         assertEquals(0, product.sub(six).signum());
+         assertEquals(1, product.add(Robust.valueOf("1p-80")).sub(six).signum());
+         assertEquals(1, product.add(Robust.valueOf("1p-200")).sub(six).signum());
+      }
+      finally
+      {
+         Robusts.removeSignListener(listener);
+      }
+      assertEquals(3, resolutions.size());
+      assertEquals(SignResolution.ROOT_BOUND, resolutions.get(0));
+      assertEquals(SignResolution.DOUBLE_FILTER, resolutions.get(1));
+      assertTrue(resolutions.get(2) == SignResolution.FIRST_ROUND
+            || resolutions.get(2) == SignResolution.REFINEMENT);
+   }
+
+   @Test
+   @WithRobustContext
+   public void testFailingSignListener()
+   {
+
+      final List<SignResolution> resolutions = new ArrayList<>();
+      final SignListener failing = (algorithm, resolution, timeNs, precision, noOfNodes) -> {
+         throw new IllegalStateException("failing listener");
+      };
+      final SignListener listener = (algorithm, resolution, timeNs, precision, noOfNodes) -> {
+         resolutions.add(resolution);
+      };
+      Robusts.addSignListener(failing);
+      Robusts.addSignListener(listener);
+      try
+      {
+         final Robust product = Robust.valueOf(2).sqrt().mul(Robust.valueOf(3).sqrt());
+         assertEquals(0, product.sub(Robust.valueOf(6).sqrt()).signum());
+      }
+      finally
+      {
+         Robusts.removeSignListener(failing);
+         Robusts.removeSignListener(listener);
+      }
+      assertEquals(List.of(SignResolution.ROOT_BOUND), resolutions);
+   }
+
+   @Test
+   public void testRegisterSignMetrics() throws Exception
+   {
+
+      Robusts.registerSignMetrics();
+      Robusts.registerSignMetrics();
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName name = new ObjectName(Robusts.SIGN_METRICS_NAME);
+      assertEquals(Robusts.getSignMetrics().getSignComputations(),
+                   server.getAttribute(name, "SignComputations"));
+      assertTrue(server.getAttribute(name, "PrecisionHistograms") instanceof TabularData);
+      assertTrue(server.getAttribute(name, "CacheHitRate") instanceof Double);
+   }
+
+   @Test
+   public void testSetGetPrecisionSchedule()
+   {
+
+      final PrecisionSchedule schedule = Robusts.getPrecisionSchedule();
+      try
+      {
+         final PrecisionSchedule sufficient = PrecisionSchedule.sufficient();
+         Robusts.setPrecisionSchedule(sufficient);
+         assertSame(sufficient, Robusts.getPrecisionSchedule());
+         assertThrows(NullPointerException.class, () -> Robusts.setPrecisionSchedule(null));
+      }
+      finally
+      {
+         Robusts.setPrecisionSchedule(schedule);
+      }
+   }
+
+   @Test
+   public void testSetGetParallelEvaluationThreshold()
+   {
+
+      assertEquals(Integer.MAX_VALUE, Robusts.getParallelEvaluationThreshold());
+      try
+      {
+         Robusts.setParallelEvaluationThreshold(1024);
+         assertEquals(1024, Robusts.getParallelEvaluationThreshold());
+      }
+      finally
+      {
+         Robusts.setParallelEvaluationThreshold(Integer.MAX_VALUE);
+      }
+   }
+
+   @Test
+   public void testParallelEvaluation()
+   {
+
+      final Random random = new Random(0L);
+      try
+      {
+         Robusts.setParallelEvaluationThreshold(0);
+         for (int k = 0; k < 20; k++)
+         {
+            Robusts.clearCache();
+            final Robust q = Robust.valueOf(random.nextDouble()).sqrt();
+            final Robust[] E = SampleRobust.geometricSeriesArray(q, 12);
+            final Robust epsilon = Robust.valueOf(Math.ulp(1d)).pow(4);
+            assertEquals(0, E[0].compareTo(E[1]));
+            assertEquals(+1, E[0].add(epsilon).compareTo(E[1]));
+            assertEquals(-1, E[0].sub(epsilon).compareTo(E[1]));
+         }
+      }
+      finally
+      {
+         Robusts.setParallelEvaluationThreshold(Integer.MAX_VALUE);
+      }
+   }
+
+   @Test
+   @WithRobustContext
+   public void testSignumAsync() throws Exception
+   {
+
+      assertEquals(0, Robusts.signumAsync(RobustsTest::zero).get().intValue());
+      assertEquals(0, Robusts.signumAsync(RobustsTest::zero, Runnable::run).get().intValue());
+      final ExecutionException e = assertThrows(ExecutionException.class,
+            () -> Robusts.signumAsync(() -> zero().div(zero())).get());
+      assertTrue(e.getCause() instanceof DivisionByZeroException);
+   }
+
+   @Test
+   @WithRobustContext
+   public void testSignumAsyncCancellation() throws Exception
+   {
+
+      final CountDownLatch started = new CountDownLatch(1);
+      final CountDownLatch cancelled = new CountDownLatch(1);
+      final AtomicReference<RuntimeException> exception = new AtomicReference<>();
+      final ExecutorService executor = Executors.newSingleThreadExecutor();
+      try
+      {
+         final CompletableFuture<Integer> future = Robusts.signumAsync(() -> {
+            started.countDown();
+            try
+            {
+               cancelled.await();
+               return zero();
+            }
+            catch (final InterruptedException | RuntimeException e)
+            {
+               exception.set(e instanceof RuntimeException r ? r : new IllegalStateException(e));
+               throw exception.get();
+            }
+         }, executor);
+         started.await();
+         assertTrue(future.cancel(false));
+         cancelled.countDown();
+         executor.shutdown();
+         assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+         assertTrue(future.isCancelled());
+         assertTrue(exception.get() instanceof CancellationException);
+      }
+      finally
+      {
+         executor.shutdownNow();
+      }
+   }
+
+   /**
+    * Returns {@code sqrt(2)*sqrt(3)-sqrt(6)}, whose sign is resolved by the root bound.
+    */
+   private static Robust zero()
+   {
+
+      final Robust two = Robust.valueOf(2).sqrt();
+      final Robust three = Robust.valueOf(3).sqrt();
+      return two.mul(three).sub(Robust.valueOf(6).sqrt());
+   }
 }
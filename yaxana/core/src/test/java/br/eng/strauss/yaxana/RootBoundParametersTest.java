@@ -0,0 +1,51 @@
+package br.eng.strauss.yaxana;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.epu.Algebraic;
+import br.eng.strauss.yaxana.unittest.WithRobustContext;
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class RootBoundParametersTest extends YaxanaTest
+{
+
+   @Test
+   @WithRobustContext
+   public void testCarried()
+   {
+
+      final Robust epsilon = Robust.valueOf("1p-200");
+      final Robust x = product().add(epsilon);
+      assertNull(x.rootBoundParameters());
+      final Robust y = x.sub(Robust.valueOf(6).sqrt());
+      assertEquals(1, y.signum());
+      assertNotNull(y.rootBoundParameters());
+      assertNotNull(x.rootBoundParameters());
+      final Algebraic fresh = y.toAlgebraic();
+      assertEquals(1, fresh.signum());
+      assertEquals(fresh.knownRootBoundParameters().toString(),
+                   y.rootBoundParameters().toString());
+      assertEquals(fresh.left().knownRootBoundParameters().toString(),
+                   x.rootBoundParameters().toString());
+      assertEquals(0, y.sub(epsilon).signum());
+      assertEquals(-1, y.sub(epsilon.mul(Robust.valueOf(2))).signum());
+      assertEquals(1, y.mul(y).signum());
+   }
+
+   /**
+    * Returns {@code sqrt(2)*sqrt(3)}.
+    */
+   private static Robust product()
+   {
+
+      return Robust.valueOf(2).sqrt().mul(Robust.valueOf(3).sqrt());
+   }
+}
@@ -0,0 +1,85 @@
+package br.eng.strauss.yaxana;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.exc.BudgetExceededException;
+import br.eng.strauss.yaxana.exc.BudgetExceededException.Resource;
+import br.eng.strauss.yaxana.unittest.WithRobustContext;
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@WithRobustContext
+public final class SignBudgetTest extends YaxanaTest
+{
+
+   @Test
+   public void testUnlimited()
+   {
+
+      assertEquals(OptionalInt.of(0), SignBudget.unlimited().trySignum(SignBudgetTest::zero));
+   }
+
+   @Test
+   public void testLimits()
+   {
+
+      final SignBudget unlimited = SignBudget.unlimited();
+      assertExceeded(Resource.PRECISION, unlimited.withMaximumPrecision(40));
+      assertExceeded(Resource.NODES, unlimited.withMaximumNoOfNodes(3));
+      assertExceeded(Resource.OPERATIONS, unlimited.withMaximumNoOfOperations(1));
+      assertExceeded(Resource.TIME, unlimited.withMaximumTime(Duration.ZERO));
+   }
+
+   @Test
+   public void testFiltered()
+   {
+
+      final SignBudget budget = SignBudget.unlimited().withMaximumNoOfOperations(0);
+      assertEquals(OptionalInt.of(1), budget.trySignum(() -> Robust.valueOf(2).sqrt()));
+   }
+
+   @Test
+   public void testIllegalArguments()
+   {
+
+      final SignBudget unlimited = SignBudget.unlimited();
+      assertThrows(IllegalArgumentException.class, () -> unlimited.withMaximumPrecision(0));
+      assertThrows(IllegalArgumentException.class, () -> unlimited.withMaximumNoOfNodes(0));
+      assertThrows(IllegalArgumentException.class, () -> unlimited.withMaximumNoOfOperations(-1));
+      assertThrows(IllegalArgumentException.class,
+            () -> unlimited.withMaximumTime(Duration.ofNanos(-1)));
+      final SignBudget forever = unlimited.withMaximumTime(Duration.ofDays(1_000_000));
+      assertEquals(Long.MAX_VALUE, forever.getMaximumTime().toNanos());
+   }
+
+   private static void assertExceeded(final Resource resource, final SignBudget budget)
+   {
+
+      assertEquals(OptionalInt.empty(), budget.trySignum(SignBudgetTest::zero));
+      final BudgetExceededException e = assertThrows(BudgetExceededException.class,
+            () -> budget.call(SignBudgetTest::zero));
+      assertEquals(resource, e.getResource());
+      // the budget is bound to the call only
+      assertEquals(0, zero().signum());
+   }
+
+   /**
+    * Returns {@code sqrt(2)*sqrt(3)-sqrt(6)}, whose sign is resolved by the root bound.
+    */
+   private static Robust zero()
+   {
+
+      final Robust two = Robust.valueOf(2).sqrt();
+      final Robust three = Robust.valueOf(3).sqrt();
+      return two.mul(three).sub(Robust.valueOf(6).sqrt());
+   }
+}
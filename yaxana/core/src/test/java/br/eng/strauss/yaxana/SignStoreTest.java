@@ -0,0 +1,262 @@
+package br.eng.strauss.yaxana;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.WithRobustContext;
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@WithRobustContext
+public final class SignStoreTest extends YaxanaTest
+{
+
+   @Test
+   public void testWarmRestart() throws IOException
+   {
+
+      final Path file = Files.createTempFile("yaxana", ".signs");
+      Files.delete(file);
+      try
+      {
+         try (final SignStore store = SignStore.open(file))
+         {
+            Robusts.setSignStore(store);
+            assertSame(store, Robusts.getSignStore());
+            assertEquals(2, noOfSignComputations());
+            assertEquals(2, store.size());
+            assertEquals(0, noOfSignComputations());
+         }
+         assertNull(Robusts.getSignStore());
+         assertEquals(2, noOfSignComputations());
+         try (final SignStore store = SignStore.open(file))
+         {
+            Robusts.setSignStore(store);
+            assertEquals(2, store.size());
+            assertEquals(0, noOfSignComputations());
+            assertThrows(IOException.class, () -> SignStore.open(file));
+         }
+      }
+      finally
+      {
+         Robusts.setSignStore(null);
+         Files.deleteIfExists(file);
+      }
+   }
+
+   @Test
+   public void testFull() throws IOException
+   {
+
+      final Path file = Files.createTempFile("yaxana", ".signs");
+      Files.delete(file);
+      try
+      {
+         try (final SignStore store = SignStore.open(file, 1, 8))
+         {
+            Robusts.setSignStore(store);
+            assertEquals(2, noOfSignComputations());
+            assertEquals(0, store.size());
+         }
+      }
+      finally
+      {
+         Robusts.setSignStore(null);
+         Files.deleteIfExists(file);
+      }
+   }
+
+   @Test
+   public void testInvalid() throws IOException
+   {
+
+      assertThrows(IllegalArgumentException.class, () -> SignStore.open(Path.of("x"), 0, 64));
+      assertThrows(IllegalArgumentException.class, () -> SignStore.open(Path.of("x"), 1, 0));
+      final Path file = Files.createTempFile("yaxana", ".signs");
+      try
+      {
+         Files.write(file, new byte[100]);
+         assertThrows(IOException.class, () -> SignStore.open(file));
+      }
+      finally
+      {
+         Files.deleteIfExists(file);
+      }
+   }
+
+   @Test
+   public void testCorrupt() throws IOException
+   {
+
+      final Path file = Files.createTempFile("yaxana", ".signs");
+      Files.delete(file);
+      try
+      {
+         SignStore.open(file, 1, 64).close();
+         // capacity not a power of two
+         putInt(file, 8, 3);
+         assertThrows(IOException.class, () -> SignStore.open(file));
+         // capacity exceeding the file size
+         putInt(file, 8, 1 << 20);
+         assertThrows(IOException.class, () -> SignStore.open(file));
+         putInt(file, 8, 4);
+         SignStore.open(file).close();
+      }
+      finally
+      {
+         Files.deleteIfExists(file);
+      }
+   }
+
+   @Test
+   public void testCorruptSlots() throws IOException
+   {
+
+      final Path file = Files.createTempFile("yaxana", ".signs");
+      Files.delete(file);
+      try
+      {
+         try (final SignStore store = SignStore.open(file, 4, 4096))
+         {
+            Robusts.setSignStore(store);
+            assertEquals(2, noOfSignComputations());
+            assertEquals(2, store.size());
+         }
+         // every one of the 16 slots refers beyond the log, so the index has no empty slot
+         for (int k = 0; k < 16; k++)
+         {
+            putInt(file, 64 + Long.BYTES * k + Integer.BYTES, 0x7FFFFFF0);
+         }
+         try (final SignStore store = SignStore.open(file))
+         {
+            Robusts.setSignStore(store);
+            assertEquals(2, noOfSignComputations());
+            assertEquals(2, store.size());
+         }
+      }
+      finally
+      {
+         Robusts.setSignStore(null);
+         Files.deleteIfExists(file);
+      }
+   }
+
+   @Test
+   public void testNotClosed() throws IOException
+   {
+
+      final Path file = Files.createTempFile("yaxana", ".signs");
+      Files.delete(file);
+      try
+      {
+         try (final SignStore store = SignStore.open(file))
+         {
+            Robusts.setSignStore(store);
+            assertEquals(2, noOfSignComputations());
+            assertEquals(2, store.size());
+         }
+         // clears the mark, as if the process had terminated without closing the store
+         putInt(file, 20, 0);
+         try (final SignStore store = SignStore.open(file))
+         {
+            Robusts.setSignStore(store);
+            assertEquals(0, store.size());
+            assertEquals(2, noOfSignComputations());
+            assertEquals(2, store.size());
+         }
+      }
+      finally
+      {
+         Robusts.setSignStore(null);
+         Files.deleteIfExists(file);
+      }
+   }
+
+   @Test
+   public void testConcurrentLookups() throws IOException, InterruptedException, ExecutionException
+   {
+
+      final Path file = Files.createTempFile("yaxana", ".signs");
+      Files.delete(file);
+      final ExecutorService executor = Executors.newFixedThreadPool(4);
+      try (final SignStore store = SignStore.open(file))
+      {
+         final List<Future<?>> futures = new ArrayList<>();
+         for (int t = 0; t < 4; t++)
+         {
+            final int thread = t;
+            futures.add(executor.submit(() -> {
+               for (int k = 0; k < 1000; k++)
+               {
+                  final Robust value = Robust.valueOf(4 * k + thread).sqrt();
+                  final int signum = k == 0 && thread == 0 ? 0 : 1;
+                  assertEquals(SignStore.ABSENT, store.get(value));
+                  store.put(value, signum);
+                  assertEquals(signum, store.get(value));
+               }
+            }));
+         }
+         for (final Future<?> future : futures)
+         {
+            future.get();
+         }
+         assertEquals(4000, store.size());
+      }
+      finally
+      {
+         executor.shutdown();
+         Files.deleteIfExists(file);
+      }
+   }
+
+   /**
+    * Overwrites the {@code int} at a given offset of a given file.
+    */
+   private static void putInt(final Path file, final long offset, final int value)
+         throws IOException
+   {
+
+      try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE))
+      {
+         channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, value), offset);
+      }
+   }
+
+   /**
+    * Returns the number of sign computations by arbitrary precision arithmetic, which determine
+    * the signs of a zero and of a tiny positive value with caching switched off.
+    */
+   private static long noOfSignComputations()
+   {
+
+      final SignMetricsMXBean metrics = Robusts.getSignMetrics();
+      final long before = metrics.getSignComputations();
+      final Robust zero = Robust.valueOf(2).sqrt().mul(Robust.valueOf(3).sqrt())
+            .sub(Robust.valueOf(6).sqrt());
+      assertEquals(0, zero.signum());
+      final Robust tiny = Robust.valueOf(2).sqrt().mul(Robust.valueOf(3).sqrt())
+            .add(Robust.valueOf("1p-200")).sub(Robust.valueOf(6).sqrt());
+      assertEquals(1, tiny.signum());
+      return metrics.getSignComputations() - before;
+   }
+}
@@ -4,6 +4,7 @@ import static br.eng.strauss.yaxana.Robust.ZERO;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import br.eng.strauss.yaxana.Algorithm;
+import br.eng.strauss.yaxana.PrecisionSchedule;
 import br.eng.strauss.yaxana.Robust;
 import br.eng.strauss.yaxana.Robusts;
 import br.eng.strauss.yaxana.epu.Algebraic;
@@ -57,15 +58,27 @@ abstract class BenchmarkTest extends YaxanaTest
    private void test(final Robust epsilon, final int loopCount)
    {
 
-      for (final Algorithm algorithm : Algorithm.getValuesForTest())
+      final PrecisionSchedule schedule = Robusts.getPrecisionSchedule();
+      try
       {
-         Algebraic.setAlgorithm(algorithm);
-         Robusts.clearCache();
+         for (final Algorithm algorithm : Algorithm.getValuesForTest())
          {
-            format("%-6s: (epsilon=%-7s) - ", Algebraic.getAlgorithm(), epsilon);
-            testEPU(epsilon, loopCount);
+            Algebraic.setAlgorithm(algorithm);
+            final PrecisionSchedule[] schedules = getPrecisionSchedules();
+            final String[] names = getPrecisionScheduleNames();
+            for (int k = 0; k < schedules.length; k++)
+            {
+               Robusts.setPrecisionSchedule(schedules[k]);
+               Robusts.clearCache();
+               format("%-6s: %-12s (epsilon=%-7s) - ", Algebraic.getAlgorithm(), names[k], epsilon);
+               testEPU(epsilon, loopCount);
+            }
          }
       }
+      finally
+      {
+         Robusts.setPrecisionSchedule(schedule);
+      }
    }
 
    private long testEPU(final Robust epsilon, final int loopCount)
@@ -128,5 +141,35 @@ abstract class BenchmarkTest extends YaxanaTest
       return new Robust[0];
    }
 
+   /**
+    * Returns the precision schedules to compare.
+    * 
+    * @return the precision schedules to compare.
+    */
+   protected PrecisionSchedule[] getPrecisionSchedules()
+   {
+
+      // @formatter:off
+      return new PrecisionSchedule[]
+      {
+        PrecisionSchedule.doubling(),
+        PrecisionSchedule.geometric(2d),
+        PrecisionSchedule.geometric(4d),
+        PrecisionSchedule.sufficient()
+      };
+      // @formatter:on
+   }
+
+   /**
+    * Returns the names of the precision schedules to compare.
+    * 
+    * @return the names of the precision schedules to compare.
+    */
+   protected String[] getPrecisionScheduleNames()
+   {
+
+      return new String[] { "doubling", "geometric(2)", "geometric(4)", "sufficient" };
+   }
+
    protected abstract int getLoopCount();
 }
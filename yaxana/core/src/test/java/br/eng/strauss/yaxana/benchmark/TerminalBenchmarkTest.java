@@ -0,0 +1,77 @@
+package br.eng.strauss.yaxana.benchmark;
+
+import static br.eng.strauss.yaxana.unittest.YaxanaSettings.STRESS_LEVEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.Robust;
+import br.eng.strauss.yaxana.Robusts;
+import br.eng.strauss.yaxana.unittest.Benchmark;
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * Benchmark of {@link Robust} operations, whose results are terminals, which bypass the cache.
+ * <p>
+ * Compares terminal results to the same operations with simplification switched off, which yields
+ * non-terminal results being looked up in the cache.
+ * 
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class TerminalBenchmarkTest extends YaxanaTest
+{
+
+   @Benchmark(1)
+   @Test
+   public void test()
+   {
+
+      final double[] values = new double[1024];
+      final Random random = new Random(4711);
+      for (int k = 0; k < values.length; k++)
+      {
+         values[k] = random.nextInt(1 << 20) - (1 << 19);
+      }
+      final int loopCount = STRESS_LEVEL > 0 ? STRESS_LEVEL * 200 : 200;
+      for (int k = 0; k < 3; k++)
+      {
+         run(values, loopCount / 10, true);
+         run(values, loopCount / 10, false);
+      }
+      final long terminalNs = run(values, loopCount, true);
+      final long cachedNs = run(values, loopCount, false);
+      final long noOfOps = 3L * loopCount * values.length;
+      format("terminal results: %6.1fns/op\n", (double) terminalNs / noOfOps);
+      format("cached results  : %6.1fns/op\n", (double) cachedNs / noOfOps);
+   }
+
+   private static long run(final double[] values, final int loopCount,
+         final boolean simplification)
+   {
+
+      try
+      {
+         Robusts.setSimplification(simplification);
+         Robusts.clearCache();
+         final long time = System.nanoTime();
+         for (int n = 0; n < loopCount; n++)
+         {
+            for (int k = 1; k < values.length; k++)
+            {
+               final Robust a = Robust.valueOf(values[k - 1]);
+               final Robust b = Robust.valueOf(values[k]);
+               final Robust c = a.add(b).mul(a);
+               assertEquals((values[k - 1] + values[k]) * values[k - 1], c.doubleValue());
+            }
+         }
+         return System.nanoTime() - time;
+      }
+      finally
+      {
+         Robusts.setSimplification(true);
+      }
+   }
+}
@@ -464,6 +464,31 @@ public class BigFloatTest extends YaxanaTest
       }
    }
 
+   @Test
+   public void test_RootSeeded()
+   {
+
+      final Rounder r = new Rounder(1000);
+      final BigFloat eps = BigFloat.twoTo(-996);
+      for (int k = 0; k < 4; k++)
+      {
+         final BigFloat value = new BigFloat(random.nextDouble()).mulTwoTo(random.nextInt(200) - 100);
+         for (final int exponent : new int[] { 2, 3, 5, 16, 17 })
+         {
+            final BigFloat expected = value.root(exponent, r);
+            final BigFloat scale = BigFloat.twoTo(expected.msb());
+            final BigFloat[] seeds = { value.root(exponent, new Rounder(500)),
+                  value.root(exponent, Rounder.SINGLE), expected.mul(new BigFloat(3)),
+                  expected.neg(), ZERO, null };
+            for (final BigFloat seed : seeds)
+            {
+               final BigFloat result = value.root(exponent, r, seed);
+               assertTrue(result.sub(expected).abs().compareTo(eps.mul(scale)) < 0);
+            }
+         }
+      }
+   }
+
    @Test
    public void test_other()
    {
@@ -0,0 +1,105 @@
+package br.eng.strauss.yaxana.big;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * Tests for {@link LongArithmetic}.
+ * 
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public class LongArithmeticTest extends YaxanaTest
+{
+
+   @Test
+   public void test_add_sub_mul()
+   {
+
+      for (final RoundingMode rm : RoundingMode.values())
+      {
+         for (int k = 0; k < 10000; k++)
+         {
+            final Rounder rounder = random.nextInt(10) == 0 ? null
+                  : new Rounder(random.nextInt(130), rm);
+            final BigFloat a = next();
+            final BigFloat b = next();
+            final BigFloat sum = LongArithmetic.add(a, b, false, rounder);
+            if (sum != null)
+            {
+               assertEquals(reference(a, b, 1, rounder), sum);
+            }
+            final BigFloat difference = LongArithmetic.add(a, b, true, rounder);
+            if (difference != null)
+            {
+               assertEquals(reference(a, b, -1, rounder), difference);
+            }
+            final BigFloat product = LongArithmetic.mul(a, b, rounder);
+            if (product != null)
+            {
+               assertEquals(reference(a, b, 0, rounder), product);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void test_fallback()
+   {
+
+      final BigFloat small = new BigFloat(3);
+      final BigFloat large = new BigFloat(BigInteger.ONE.shiftLeft(62).add(BigInteger.ONE), 0);
+      assertNull(LongArithmetic.add(small, large, false, null));
+      assertNull(LongArithmetic.mul(large, small, null));
+      assertNull(LongArithmetic.add(small, new BigFloat(BigInteger.ONE, 63), false, null));
+      assertEquals(new BigFloat(BigInteger.ONE.shiftLeft(124), 0), LongArithmetic.mul(
+            new BigFloat(BigInteger.ONE.shiftLeft(62).subtract(BigInteger.ONE), 0),
+            new BigFloat(BigInteger.ONE.shiftLeft(62).subtract(BigInteger.ONE), 0),
+            new Rounder(1, RoundingMode.UP)));
+   }
+
+   /**
+    * Returns {@code a+b}, {@code a-b} or {@code a*b} computed by {@link BigInteger} arithmetic and
+    * rounded by the general purpose implementation.
+    */
+   private static BigFloat reference(final BigFloat a, final BigFloat b, final int op,
+         final Rounder rounder)
+   {
+
+      final BigInteger unscaledValue;
+      final int scale;
+      if (op == 0)
+      {
+         unscaledValue = a.unscaledValue.multiply(b.unscaledValue);
+         scale = a.scale + b.scale;
+      }
+      else
+      {
+         scale = Math.min(a.scale, b.scale);
+         final BigInteger x = a.unscaledValue.shiftLeft(a.scale - scale);
+         final BigInteger y = b.unscaledValue.shiftLeft(b.scale - scale);
+         unscaledValue = op > 0 ? x.add(y) : x.subtract(y);
+      }
+      return rounder != null ? rounder.round(unscaledValue, scale)
+            : new BigFloat(unscaledValue, scale);
+   }
+
+   private BigFloat next()
+   {
+
+      final int bitLength = 1 + random.nextInt(63);
+      final BigInteger unscaledValue = new BigInteger(bitLength, random).setBit(0);
+      final int scale = random.nextInt(160) - 80;
+      return new BigFloat(random.nextBoolean() ? unscaledValue : unscaledValue.negate(), scale);
+   }
+
+   private final Random random = new Random(0L);
+}
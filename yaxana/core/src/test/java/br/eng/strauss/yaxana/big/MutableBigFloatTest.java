@@ -0,0 +1,81 @@
+package br.eng.strauss.yaxana.big;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * Tests for {@link MutableBigFloat}.
+ * 
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public class MutableBigFloatTest extends YaxanaTest
+{
+
+   @Test
+   public void test_operations()
+   {
+
+      for (int k = 0; k < 1000; k++)
+      {
+         final BigFloat a = next();
+         final BigFloat b = next();
+         final BigFloat c = next();
+         final MutableBigFloat m = new MutableBigFloat(a);
+         assertEquals(a.add(b), m.add(b).toBigFloat());
+         assertEquals(a.add(b).sub(c), m.sub(c).toBigFloat());
+         assertEquals(a.add(b).sub(c).mul(b), m.mul(b).toBigFloat());
+         assertEquals(a.add(b).sub(c).mul(b).mulTwoTo(-3), m.mulTwoTo(-3).toBigFloat());
+         assertEquals(a.add(b).sub(c).mul(b).mulTwoTo(-3).neg(), m.neg().toBigFloat());
+         assertEquals(m.toBigFloat().signum(), m.signum());
+      }
+   }
+
+   @Test
+   public void test_round()
+   {
+
+      for (final RoundingMode rm : new RoundingMode[] { RoundingMode.CEILING, RoundingMode.FLOOR,
+            RoundingMode.HALF_EVEN })
+      {
+         for (int k = 0; k < 1000; k++)
+         {
+            final Rounder rounder = new Rounder(1 + random.nextInt(60), rm);
+            final BigFloat a = next();
+            final BigFloat b = next();
+            final MutableBigFloat m = new MutableBigFloat();
+            assertEquals(a.add(b, rounder), m.set(a).add(b).toBigFloat(rounder));
+            assertEquals(a.sub(b, rounder), m.set(a).sub(b).round(rounder).toBigFloat());
+         }
+      }
+   }
+
+   @Test
+   public void test_zero()
+   {
+
+      final MutableBigFloat m = new MutableBigFloat();
+      assertEquals(0, m.signum());
+      assertEquals(BigFloat.ZERO, m.toBigFloat());
+      assertEquals(BigFloat.ONE, m.add(BigFloat.ONE).toBigFloat());
+      assertEquals(BigFloat.ZERO, m.sub(BigFloat.ONE).toBigFloat());
+      assertEquals(BigFloat.ZERO, m.add(BigFloat.TWO).mul(BigFloat.ZERO).toBigFloat());
+   }
+
+   private BigFloat next()
+   {
+
+      final BigInteger unscaledValue = new BigInteger(1 + random.nextInt(100), random);
+      final int scale = random.nextInt(100) - 50;
+      return new BigFloat(random.nextBoolean() ? unscaledValue : unscaledValue.negate(), scale);
+   }
+
+   private final Random random = new Random(0L);
+}
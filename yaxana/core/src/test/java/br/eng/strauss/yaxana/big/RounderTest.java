@@ -1,8 +1,13 @@
 package br.eng.strauss.yaxana.big;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -228,6 +233,46 @@ public class RounderTest extends YaxanaTest
       test("-123", new Rounder(0, rm), "-123");
    }
 
+   @Test
+   public void test_unnormed()
+   {
+
+      final Random random = new Random(0L);
+      for (final RoundingMode rm : RoundingMode.values())
+      {
+         if (rm != RoundingMode.UNNECESSARY)
+         {
+            for (int k = 0; k < 1000; k++)
+            {
+               final Rounder rounder = new Rounder(random.nextInt(40), rm);
+               final BigInteger unscaledValue = new BigInteger(1 + random.nextInt(60), random)
+                     .multiply(BigInteger.valueOf(random.nextInt(3) - 1))
+                     .shiftLeft(random.nextInt(8));
+               final int scale = random.nextInt(40) - 20;
+               final BigFloat expected = new BigFloat(unscaledValue, scale).round(rounder);
+               assertEquals(expected, rounder.round(unscaledValue, scale));
+            }
+         }
+      }
+      test("-16", new Rounder(1, RoundingMode.HALF_DOWN), "-16");
+      test("24", new Rounder(1, RoundingMode.HALF_DOWN), "16");
+      test("25", new Rounder(1, RoundingMode.HALF_DOWN), "32");
+   }
+
+   @Test
+   public void testValueOf()
+   {
+
+      final Rounder rounder = Rounder.valueOf(100, RoundingMode.CEILING);
+      assertEquals(100, rounder.getPrecision());
+      assertEquals(RoundingMode.CEILING, rounder.getRoundingMode());
+      assertSame(rounder, Rounder.valueOf(100, RoundingMode.CEILING));
+      assertNotSame(rounder, Rounder.valueOf(100, RoundingMode.FLOOR));
+      assertSame(Rounder.valueOf(52, null), Rounder.valueOf(52, RoundingMode.HALF_UP));
+      assertEquals(0, Rounder.valueOf(-1, null).getPrecision());
+      assertEquals(1 << 20, Rounder.valueOf(1 << 20, null).getPrecision());
+   }
+
    private static void test(final String number, final Rounder rounder, final String desired)
    {
 
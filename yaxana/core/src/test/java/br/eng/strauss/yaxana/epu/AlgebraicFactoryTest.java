@@ -0,0 +1,120 @@
+package br.eng.strauss.yaxana.epu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class AlgebraicFactoryTest extends YaxanaTest
+{
+
+   @Test
+   public void testIntern()
+   {
+
+      final AlgebraicFactory factory = new AlgebraicFactory();
+      final Algebraic a = factory.intern(new Algebraic("sqrt(2)*sqrt(3)-sqrt(6)"));
+      final Algebraic b = factory.intern(new Algebraic("sqrt(2)*sqrt(3)-sqrt(6)"));
+      final Algebraic c = factory.intern(new Algebraic("sqrt(2)*sqrt(3)+sqrt(6)"));
+      assertSame(a, b);
+      assertSame(a, factory.intern(a));
+      assertSame(a.left(), c.left());
+      assertSame(a.right(), c.right());
+      assertSame(a.left().left(), factory.intern(new Algebraic("sqrt(2)")));
+      assertNotEquals(a, c);
+      // sqrt(2), sqrt(3), sqrt(6), their terminals 2, 3, 6 and 2 as index, product, sum, difference
+      assertEquals(9, factory.size());
+      final Algebraic d = new AlgebraicFactory().intern(new Algebraic("sqrt(2)*sqrt(3)-sqrt(6)"));
+      assertNotSame(a, d);
+      assertEquals(a, d);
+      assertEquals(d, a);
+      factory.clear();
+      assertEquals(0, factory.size());
+      assertNotSame(a, factory.intern(new Algebraic("sqrt(2)*sqrt(3)-sqrt(6)")));
+   }
+
+   @Test
+   public void testSharedApproximations()
+   {
+
+      final AlgebraicFactory factory = new AlgebraicFactory();
+      final Algebraic a = factory.intern(new Algebraic("sqrt(2)*sqrt(3)-sqrt(6)"));
+      assertEquals(0, a.signum());
+      final Algebraic b = factory.intern(new Algebraic("(sqrt(2)*sqrt(3)-sqrt(6))*7-1"));
+      assertSame(a, b.left().left());
+      assertTrue(b.left().left().approximation() != null);
+      assertEquals(-1, b.signum());
+   }
+
+   @Test
+   public void testWeak() throws InterruptedException
+   {
+
+      final AlgebraicFactory factory = new AlgebraicFactory();
+      for (int k = 0; k < 1000; k++)
+      {
+         factory.intern(new Algebraic("sqrt(%d)+1".formatted(k + 2)));
+      }
+      final int size = factory.size();
+      // the collector is not obliged to clear all weak references at once
+      for (int k = 0; k < 100 && factory.size() >= size; k++)
+      {
+         System.gc();
+         Thread.sleep(10);
+      }
+      assertTrue(factory.size() < size);
+   }
+
+   @Test
+   public void testConcurrentIntern() throws InterruptedException, ExecutionException
+   {
+
+      final AlgebraicFactory factory = new AlgebraicFactory();
+      final ExecutorService executor = Executors.newFixedThreadPool(4);
+      try
+      {
+         final List<Future<Algebraic[]>> futures = new ArrayList<>();
+         for (int t = 0; t < 4; t++)
+         {
+            futures.add(executor.submit(() -> {
+               final Algebraic[] values = new Algebraic[200];
+               for (int k = 0; k < values.length; k++)
+               {
+                  values[k] = factory.intern(new Algebraic("sqrt(%d)*sqrt(3)+1".formatted(k)));
+               }
+               return values;
+            }));
+         }
+         final Algebraic[] values = futures.get(0).get();
+         for (final Future<Algebraic[]> future : futures)
+         {
+            final Algebraic[] others = future.get();
+            for (int k = 0; k < values.length; k++)
+            {
+               assertSame(values[k], others[k]);
+               assertSame(values[0].left().right(), others[k].left().right());
+            }
+         }
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+   }
+}
@@ -15,6 +15,9 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.math.MathContext;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +28,7 @@ import br.eng.strauss.yaxana.big.Rounder;
 import br.eng.strauss.yaxana.exc.DivisionByZeroException;
 import br.eng.strauss.yaxana.pdc.Scrutinizer;
 import br.eng.strauss.yaxana.rnd.RandomRobust;
+import br.eng.strauss.yaxana.tools.SampleAlgebraic;
 import br.eng.strauss.yaxana.unittest.YaxanaTest;
 
 /**
@@ -466,4 +470,50 @@ public final class AlgebraicTest extends YaxanaTest
       final double thatD = that.approximation(52).doubleValue();
       assertTrue(Math.abs(thisD - thatD) < 1E-10);
    }
+
+   @Test
+   public void testConcurrentSignum() throws Exception
+   {
+
+      final int noOfThreads = 8;
+      final ExecutorService executor = Executors.newFixedThreadPool(noOfThreads);
+      try
+      {
+         for (int n = 0; n < 4; n++)
+         {
+            // expressions sharing the subexpressions of a geometric series, which is zero
+            final Algebraic q = new Algebraic("1237251p-1").sqrt();
+            final Algebraic zero = SampleAlgebraic.geometricSeries(q, 6);
+            final Algebraic[] values = new Algebraic[2 * noOfThreads];
+            final int[] signs = new int[values.length];
+            for (int k = 0; k < values.length; k++)
+            {
+               final Algebraic epsilon = new Algebraic(BigFloat.twoTo(-50 * k));
+               values[k] = (k & 1) == 0 ? zero.add(epsilon) : zero.sub(epsilon);
+               signs[k] = (k & 1) == 0 ? 1 : -1;
+            }
+            final Future<?>[] futures = new Future<?>[noOfThreads];
+            for (int t = 0; t < noOfThreads; t++)
+            {
+               final int offset = t;
+               futures[t] = executor.submit(() -> {
+                  for (int k = 0; k < values.length; k++)
+                  {
+                     final int index = (k + offset) % values.length;
+                     assertEquals(signs[index], values[index].signum());
+                  }
+                  assertEquals(0, zero.signum());
+               });
+            }
+            for (final Future<?> future : futures)
+            {
+               future.get();
+            }
+         }
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+   }
 }
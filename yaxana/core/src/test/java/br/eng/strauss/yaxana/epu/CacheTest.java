@@ -2,8 +2,16 @@ package br.eng.strauss.yaxana.epu;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.Writer;
+import java.util.Formatter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
@@ -48,7 +56,7 @@ public final class CacheTest extends YaxanaTest
          }
       }
       Robusts.setMaximumCacheSize(size);
-      assertEquals(1924, cache.noOfEntries());
+      assertEquals(980, cache.noOfEntries());
       for (int k = 0; k < array.length; k++)
       {
          cache.put(array[k]);
@@ -90,4 +98,136 @@ public final class CacheTest extends YaxanaTest
       }
       assertTrue(mySpecialRobust == cache.get(mySpecialRobust));
    }
+
+   @Test
+   public void testPutWhileLocked() throws Exception
+   {
+
+      final Cache cache = Cache.getInstance();
+      final Robust[] array = new Robust[20];
+      final Supplier<Robust> sequence = Robusts.randomSequence(10);
+      int maxSize = 0;
+      for (int k = 0; k < array.length; k++)
+      {
+         array[k] = sequence.get();
+         maxSize += array[k].noOfNodes();
+      }
+      Robusts.setMaximumCacheSize(maxSize / 2);
+      final CountDownLatch locked = new CountDownLatch(1);
+      final CountDownLatch unlock = new CountDownLatch(1);
+      final Writer writer = new Writer()
+      {
+
+         @Override
+         public void write(final char[] buffer, final int offset, final int length)
+         {
+
+            locked.countDown();
+            try
+            {
+               unlock.await();
+            }
+            catch (final InterruptedException e)
+            {
+               Thread.currentThread().interrupt();
+            }
+         }
+
+         @Override
+         public void flush()
+         {
+
+         }
+
+         @Override
+         public void close()
+         {
+
+         }
+      };
+      final ExecutorService executor = Executors.newFixedThreadPool(2);
+      try
+      {
+         final Future<?> printing = executor.submit(() -> cache.print("", new Formatter(writer)));
+         locked.await();
+         final Future<?> putting = executor.submit(() -> {
+            for (final Robust robust : array)
+            {
+               cache.put(robust);
+            }
+         });
+         putting.get(10, TimeUnit.SECONDS);
+         for (final Robust robust : array)
+         {
+            assertSame(robust, cache.get(robust));
+         }
+         unlock.countDown();
+         printing.get();
+      }
+      finally
+      {
+         unlock.countDown();
+         executor.shutdown();
+      }
+      cache.put(array[0]);
+      assertTrue(cache.noOfEntries() < array.length);
+      assertSame(array[0], cache.get(array[0]));
+      assertSame(array[array.length - 1], cache.get(array[array.length - 1]));
+   }
+
+   @Test
+   public void testConcurrentAccess() throws Exception
+   {
+
+      final Cache cache = Cache.getInstance();
+      final Robust[] array = new Robust[1000];
+      final Supplier<Robust> sequence = Robusts.randomSequence(10);
+      int maxSize = 0;
+      for (int k = 0; k < array.length; k++)
+      {
+         array[k] = sequence.get();
+         maxSize += array[k].noOfNodes();
+      }
+      Robusts.setMaximumCacheSize(maxSize / 4);
+      final int noOfThreads = 8;
+      final ExecutorService executor = Executors.newFixedThreadPool(noOfThreads);
+      try
+      {
+         final Future<?>[] futures = new Future<?>[noOfThreads];
+         for (int t = 0; t < noOfThreads; t++)
+         {
+            final int offset = t;
+            futures[t] = executor.submit(() -> {
+               for (int n = 0; n < 20; n++)
+               {
+                  for (int k = 0; k < array.length; k++)
+                  {
+                     final Robust robust = array[(k * 7 + offset) % array.length];
+                     final Robust value = cache.get(robust);
+                     if (value == null)
+                     {
+                        cache.put(robust);
+                     }
+                     else
+                     {
+                        assertSame(robust, value);
+                     }
+                  }
+               }
+            });
+         }
+         for (final Future<?> future : futures)
+         {
+            future.get();
+         }
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+      assertTrue(cache.noOfEntries() > 0);
+      assertTrue(cache.noOfEntries() < array.length);
+      Robusts.setMaximumCacheSize(0);
+      assertEquals(0, cache.noOfEntries());
+   }
 }
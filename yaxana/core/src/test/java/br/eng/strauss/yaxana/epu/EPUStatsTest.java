@@ -1,11 +1,25 @@
 package br.eng.strauss.yaxana.epu;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
 import br.eng.strauss.yaxana.Robust;
+import br.eng.strauss.yaxana.RobustContext;
 import br.eng.strauss.yaxana.exc.IllegalExponentException;
+import br.eng.strauss.yaxana.unittest.WithRobustContext;
 import br.eng.strauss.yaxana.unittest.YaxanaTest;
 
 /**
@@ -27,4 +41,191 @@ public final class EPUStatsTest extends YaxanaTest
          EPUStats.getInstance().signum(17, () -> a.signum());
       });
    }
+
+   @Test
+   public void testConcurrentCounts() throws InterruptedException
+   {
+
+      final EPUStats stats = EPUStats.getInstance();
+      final long signComputations = stats.getSignComputations();
+      final long rootBoundResolutions = stats.getRootBoundResolutions();
+      final long exceptions = stats.getExceptions();
+      final int noOfThreads = 4;
+      final int noOfSigns = 50;
+      final List<Thread> threads = new ArrayList<>();
+      try (final RobustContext context = RobustContext.open(0))
+      {
+         for (int k = 0; k < noOfThreads; k++)
+         {
+            threads.add(new Thread(() -> context.run(() -> {
+               for (int n = 0; n < noOfSigns; n++)
+               {
+                  assertEquals(0, zero().signum());
+               }
+            })));
+         }
+         threads.forEach(Thread::start);
+         for (final Thread thread : threads)
+         {
+            thread.join();
+         }
+      }
+      final long noOfResolutions = noOfThreads * noOfSigns;
+      assertEquals(noOfResolutions, stats.getSignComputations() - signComputations);
+      assertEquals(noOfResolutions, stats.getRootBoundResolutions() - rootBoundResolutions);
+      assertEquals(exceptions, stats.getExceptions());
+      // each successful sign computation is counted in one bucket of one latency histogram
+      long noOfLatencies = 0;
+      for (final long[] histogram : stats.getLatencyHistograms().values())
+      {
+         assertEquals(64, histogram.length);
+         for (final long count : histogram)
+         {
+            noOfLatencies += count;
+         }
+      }
+      assertEquals(stats.getSignComputations() - stats.getExceptions(), noOfLatencies);
+   }
+
+   @Test
+   public void testCacheCounts()
+   {
+
+      final EPUStats stats = EPUStats.getInstance();
+      final long hits = stats.getCacheHits();
+      final long misses = stats.getCacheMisses();
+      final long evictions = stats.getCacheEvictions();
+      try (final RobustContext context = RobustContext.open(1000))
+      {
+         zero();
+         zero();
+         assertTrue(stats.getCacheHits() > hits);
+         assertTrue(stats.getCacheMisses() > misses);
+         assertEquals(evictions, stats.getCacheEvictions());
+         context.setMaximumCacheSize(1);
+         assertTrue(stats.getCacheEvictions() > evictions);
+      }
+      assertTrue(stats.getCacheHitRate() > 0d && stats.getCacheHitRate() < 1d);
+   }
+
+   @Test
+   public void testFlightRecorderEvents() throws IOException
+   {
+
+      final Path file = Files.createTempFile("yaxana", ".jfr");
+      try
+      {
+         try (final Recording recording = new Recording())
+         {
+            recording.enable(SignComputationEvent.NAME).withoutThreshold();
+            recording.enable(CacheEvictionEvent.NAME).withoutThreshold();
+            recording.enable("br.eng.strauss.yaxana.PrecisionIncrement").withoutThreshold();
+            recording.start();
+            try (final RobustContext context = RobustContext.open(1000))
+            {
+               assertEquals(0, zero().signum());
+               context.setMaximumCacheSize(1);
+            }
+            recording.stop();
+            recording.dump(file);
+         }
+         int noOfSignComputations = 0;
+         int noOfEvictions = 0;
+         int noOfIncrements = 0;
+         for (final RecordedEvent event : RecordingFile.readAllEvents(file))
+         {
+            switch (event.getEventType().getName())
+            {
+               case SignComputationEvent.NAME ->
+               {
+                  noOfSignComputations++;
+                  assertEquals(Algebraic.getAlgorithm().name(), event.getString("algorithm"));
+                  assertTrue(event.getInt("noOfNodes") > 1);
+                  assertTrue(event.getInt("initialPrecision") > 0);
+                  assertTrue(event.getInt("finalPrecision") >= event.getInt("initialPrecision"));
+                  assertTrue(event.getInt("sufficientPrecision") > 0);
+                  assertTrue(event.getBoolean("zero"));
+               }
+               case CacheEvictionEvent.NAME -> noOfEvictions++;
+               default -> noOfIncrements++;
+            }
+         }
+         assertEquals(1, noOfSignComputations);
+         assertTrue(noOfEvictions > 0);
+         assertTrue(noOfIncrements > 0);
+      }
+      finally
+      {
+         Files.delete(file);
+      }
+   }
+
+   @Test
+   @WithRobustContext
+   public void testPrecisionIncrementEvents() throws IOException
+   {
+
+      final Path file = Files.createTempFile("yaxana", ".jfr");
+      try
+      {
+         try (final Recording recording = new Recording())
+         {
+            recording.enable(SignComputationEvent.NAME).withoutThreshold();
+            recording.enable("br.eng.strauss.yaxana.PrecisionIncrement").withoutThreshold();
+            recording.start();
+            final Robust two = Robust.valueOf(2).sqrt();
+            final Robust three = Robust.valueOf(3).sqrt();
+            final Robust x = two.mul(three).add(Robust.valueOf("1p-400"));
+            assertEquals(1, x.sub(Robust.valueOf(6).sqrt()).signum());
+            recording.stop();
+            recording.dump(file);
+         }
+         int noOfIncreases = -1;
+         int noOfInitialPrecisions = 0;
+         int noOfRefinements = 0;
+         int lastPrecision = 0;
+         for (final RecordedEvent event : RecordingFile.readAllEvents(file))
+         {
+            if (event.getEventType().getName().equals(SignComputationEvent.NAME))
+            {
+               noOfIncreases = event.getInt("noOfIncreases");
+               assertEquals(lastPrecision, event.getInt("finalPrecision"));
+            }
+            else
+            {
+               final int precision = event.getInt("precision");
+               assertTrue(event.getInt("newPrecision") > precision);
+               assertTrue(event.getInt("noOfNodes") > 1);
+               if (precision == 0)
+               {
+                  noOfInitialPrecisions++;
+               }
+               else
+               {
+                  assertEquals(lastPrecision, precision);
+                  noOfRefinements++;
+               }
+               lastPrecision = event.getInt("newPrecision");
+            }
+         }
+         assertEquals(1, noOfInitialPrecisions);
+         assertTrue(noOfIncreases >= 2);
+         assertEquals(noOfIncreases, noOfRefinements);
+      }
+      finally
+      {
+         Files.delete(file);
+      }
+   }
+
+   /**
+    * Returns {@code sqrt(2)*sqrt(3)-sqrt(6)}, whose sign is resolved by the root bound.
+    */
+   private static Robust zero()
+   {
+
+      final Robust two = Robust.valueOf(2).sqrt();
+      final Robust three = Robust.valueOf(3).sqrt();
+      return two.mul(three).sub(Robust.valueOf(6).sqrt());
+   }
 }
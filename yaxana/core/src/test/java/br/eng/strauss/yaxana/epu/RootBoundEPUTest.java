@@ -72,17 +72,9 @@ public final class RootBoundEPUTest extends YaxanaTest
          final BfmssEPU epu = new BfmssEPU();
          final Robust robust = Robust.valueOf(expression);
          final Algebraic a = (Algebraic) robust.toSyntaxTree();
-         {
-            a.D = Long.MIN_VALUE;
-            epu.clearVisitedMarks(a);
-            epu.productOfIndices(a);
-            assertEquals(exponent, a.D);
-         }
-         {
-            a.D = Long.MIN_VALUE;
-            epu.sufficientPrecision(a);
-            assertEquals(exponent, a.D);
-         }
+         assertEquals(exponent, epu.productOfIndices(a));
+         epu.sufficientPrecision(a);
+         assertEquals(exponent, epu.exponent(a) + 1);
       }
       finally
       {
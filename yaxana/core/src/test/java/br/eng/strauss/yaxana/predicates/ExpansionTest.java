@@ -0,0 +1,64 @@
+package br.eng.strauss.yaxana.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class ExpansionTest extends YaxanaTest
+{
+
+   @Test
+   public void test()
+   {
+
+      final Random random = new Random(0L);
+      for (int k = 0; k < 1000; k++)
+      {
+         final double a = Math.scalb(random.nextDouble() - 0.5, random.nextInt(100) - 50);
+         final double b = Math.scalb(random.nextDouble() - 0.5, random.nextInt(100) - 50);
+         final double c = Math.scalb(random.nextDouble() - 0.5, random.nextInt(100) - 50);
+         final double[] e = Expansion.diff(a, b);
+         final double[] f = Expansion.diff(c, a);
+         assertExpansion(exact(a).subtract(exact(b)), e);
+         assertExpansion(exact(a).subtract(exact(b)).add(exact(c).subtract(exact(a))),
+                         Expansion.sum(e, f));
+         assertExpansion(exact(a).subtract(exact(b)).multiply(exact(c)), Expansion.scale(e, c));
+         assertExpansion(exact(a).subtract(exact(b)).multiply(exact(c).subtract(exact(a))),
+                         Expansion.mul(e, f));
+         assertExpansion(exact(b).subtract(exact(a)), Expansion.neg(e));
+         assertExpansion(BigDecimal.ZERO, Expansion.diff(e, e));
+      }
+   }
+
+   private static void assertExpansion(final BigDecimal expected, final double[] e)
+   {
+
+      BigDecimal sum = BigDecimal.ZERO;
+      for (int k = 0; k < e.length; k++)
+      {
+         sum = sum.add(exact(e[k]));
+         if (k > 0)
+         {
+            assertTrue(Math.abs(e[k - 1]) < Math.abs(e[k]), "components must increase");
+         }
+      }
+      assertEquals(0, expected.compareTo(sum));
+      assertEquals(expected.signum(), Expansion.signum(e));
+   }
+
+   private static BigDecimal exact(final double x)
+   {
+
+      return new BigDecimal(x);
+   }
+}
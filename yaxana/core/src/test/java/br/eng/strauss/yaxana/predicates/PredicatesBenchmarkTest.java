@@ -0,0 +1,130 @@
+package br.eng.strauss.yaxana.predicates;
+
+import static br.eng.strauss.yaxana.unittest.YaxanaSettings.STRESS_LEVEL;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.Robust;
+import br.eng.strauss.yaxana.Robusts;
+import br.eng.strauss.yaxana.unittest.Benchmark;
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * Benchmark of {@link Predicates}, comparing them to the same predicates evaluated with
+ * {@link Robust} operations.
+ * <p>
+ * Each predicate is evaluated on random points and on nearly degenerate points, which mostly
+ * defeat the floating point filter.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class PredicatesBenchmarkTest extends YaxanaTest
+{
+
+   @Benchmark(1)
+   @Test
+   public void test()
+   {
+
+      final int loopCount = STRESS_LEVEL > 0 ? STRESS_LEVEL * 20 : 20;
+      final int fastLoopCount = 50 * loopCount;
+      for (final boolean degenerate : new boolean[] { false, true })
+      {
+         for (final Predicate predicate : Predicate.values())
+         {
+            final double[][] points = points(predicate, degenerate);
+            final int[] fastSigns = new int[points.length];
+            final int[] robustSigns = new int[points.length];
+            for (int k = 0; k < 3; k++)
+            {
+               run(predicate, points, fastLoopCount / 10, true, fastSigns);
+               run(predicate, points, loopCount / 10, false, robustSigns);
+            }
+            final long fastNs = run(predicate, points, fastLoopCount, true, fastSigns);
+            final long robustNs = run(predicate, points, loopCount, false, robustSigns);
+            assertArrayEquals(robustSigns, fastSigns);
+            final long noOfOps = (long) loopCount * (points.length - 4);
+            format("%-8s %-10s: predicates %9.1fns/op, robust %9.1fns/op\n", predicate,
+                   degenerate ? "degenerate" : "random", (double) fastNs / noOfOps / 50,
+                   (double) robustNs / noOfOps);
+         }
+      }
+   }
+
+   private static long run(final Predicate predicate, final double[][] points,
+         final int loopCount, final boolean fast, final int[] signs)
+   {
+
+      Robusts.clearCache();
+      final long time = System.nanoTime();
+      for (int n = 0; n < loopCount; n++)
+      {
+         for (int k = 4; k < points.length; k++)
+         {
+            final double[] a = points[k - 4];
+            final double[] b = points[k - 3];
+            final double[] c = points[k - 2];
+            final double[] d = points[k - 1];
+            final double[] e = points[k];
+            // @formatter:off
+            signs[k] = switch (predicate)
+            {
+               case ORIENT2D -> fast ? Predicates.orient2d(a, b, c)
+                                     : Predicates.orient2dRobust(a, b, c);
+               case ORIENT3D -> fast ? Predicates.orient3d(a, b, c, d)
+                                     : Predicates.orient3dRobust(a, b, c, d);
+               case INCIRCLE -> fast ? Predicates.incircle(a, b, c, d)
+                                     : Predicates.incircleRobust(a, b, c, d);
+               case INSPHERE -> fast ? Predicates.insphere(a, b, c, d, e)
+                                     : Predicates.insphereRobust(a, b, c, d, e);
+            };
+            // @formatter:on
+         }
+      }
+      return System.nanoTime() - time;
+   }
+
+   /**
+    * Returns random points in the unit cube, or else points rounded to {@code double} from the
+    * line, plane, circle or sphere, on which the given predicate is zero.
+    */
+   private static double[][] points(final Predicate predicate, final boolean degenerate)
+   {
+
+      final Random random = new Random(4711);
+      final double[][] points = new double[256][];
+      for (int k = 0; k < points.length; k++)
+      {
+         final double x = random.nextDouble();
+         final double y = random.nextDouble();
+         final double z = random.nextDouble();
+         if (!degenerate)
+         {
+            points[k] = new double[] { x, y, z };
+            continue;
+         }
+         final double phi = 2 * Math.PI * x;
+         final double h = 2 * y - 1;
+         final double rho = Math.sqrt(1 - h * h);
+         // @formatter:off
+         points[k] = switch (predicate)
+         {
+            case ORIENT2D -> new double[] { x, 0.3 * x + 0.1, 0d };
+            case ORIENT3D -> new double[] { x, y, 0.3 * x + 0.7 * y + 0.1 };
+            case INCIRCLE -> new double[] { Math.cos(phi), Math.sin(phi), 0d };
+            case INSPHERE -> new double[] { rho * Math.cos(phi), rho * Math.sin(phi), h };
+         };
+         // @formatter:on
+      }
+      return points;
+   }
+
+   private enum Predicate
+   {
+      ORIENT2D, ORIENT3D, INCIRCLE, INSPHERE
+   }
+}
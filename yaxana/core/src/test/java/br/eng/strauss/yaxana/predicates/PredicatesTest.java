@@ -0,0 +1,169 @@
+package br.eng.strauss.yaxana.predicates;
+
+import static br.eng.strauss.yaxana.predicates.Predicates.incircle;
+import static br.eng.strauss.yaxana.predicates.Predicates.incircleRobust;
+import static br.eng.strauss.yaxana.predicates.Predicates.insphere;
+import static br.eng.strauss.yaxana.predicates.Predicates.insphereRobust;
+import static br.eng.strauss.yaxana.predicates.Predicates.orient2d;
+import static br.eng.strauss.yaxana.predicates.Predicates.orient2dRobust;
+import static br.eng.strauss.yaxana.predicates.Predicates.orient3d;
+import static br.eng.strauss.yaxana.predicates.Predicates.orient3dRobust;
+import static java.lang.Math.ulp;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.unittest.YaxanaTest;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class PredicatesTest extends YaxanaTest
+{
+
+   @Test
+   public void testOrient2d()
+   {
+
+      final double[] a = { 0, 0 };
+      final double[] b = { 1, 0 };
+      final double[] c = { 0, 1 };
+      assertEquals(+1, orient2d(a, b, c));
+      assertEquals(-1, orient2d(a, c, b));
+      assertEquals(0, orient2d(a, b, new double[] { 2, 0 }));
+      // Shewchuk's example: points near the line y = x, where double arithmetic fails
+      final double[] p = new double[2];
+      final double[] q = { 12, 12 };
+      final double[] r = { 24, 24 };
+      for (int i = 0; i < 64; i++)
+      {
+         for (int j = 0; j < 64; j++)
+         {
+            p[0] = 0.5 + i * ulp(0.5);
+            p[1] = 0.5 + j * ulp(0.5);
+            assertEquals(Integer.signum(j - i), orient2d(p, q, r));
+         }
+      }
+   }
+
+   @Test
+   public void testOrient3d()
+   {
+
+      final double[] a = { 0, 0, 0 };
+      final double[] b = { 1, 0, 0 };
+      final double[] c = { 0, 1, 0 };
+      assertEquals(+1, orient3d(a, b, c, new double[] { 0, 0, -1 }));
+      assertEquals(-1, orient3d(a, b, c, new double[] { 0, 0, 1 }));
+      assertEquals(0, orient3d(a, b, c, new double[] { 3, 5, 0 }));
+      final Random random = new Random(0L);
+      for (int k = 0; k < 200; k++)
+      {
+         final double[] p = point(random, 3);
+         final double[] q = point(random, 3);
+         final double[] r = point(random, 3);
+         final double s = random.nextDouble();
+         final double t = random.nextDouble();
+         final double[] u = new double[3];
+         for (int i = 0; i < 3; i++)
+         {
+            u[i] = p[i] + s * (q[i] - p[i]) + t * (r[i] - p[i]);
+         }
+         assertEquals(orient3dRobust(p, q, r, u), orient3d(p, q, r, u));
+      }
+   }
+
+   @Test
+   public void testIncircle()
+   {
+
+      final double[] a = { 1, 0 };
+      final double[] b = { 0, 1 };
+      final double[] c = { -1, 0 };
+      assertEquals(+1, incircle(a, b, c, new double[] { 0, 0 }));
+      assertEquals(-1, incircle(a, b, c, new double[] { 2, 0 }));
+      assertEquals(0, incircle(a, b, c, new double[] { 0, -1 }));
+      assertEquals(-1, incircle(a, c, b, new double[] { 0, 0 }));
+      final Random random = new Random(0L);
+      for (int k = 0; k < 200; k++)
+      {
+         final double[][] p = new double[4][];
+         for (int i = 0; i < 4; i++)
+         {
+            final double phi = 2 * Math.PI * random.nextDouble();
+            p[i] = new double[] { 3 + Math.cos(phi), 5 + Math.sin(phi) };
+         }
+         assertEquals(incircleRobust(p[0], p[1], p[2], p[3]), incircle(p[0], p[1], p[2], p[3]));
+      }
+   }
+
+   @Test
+   public void testInsphere()
+   {
+
+      final double[] a = { 1, 0, 0 };
+      final double[] b = { 0, 1, 0 };
+      final double[] c = { 0, 0, 1 };
+      final double[] d = { -1, 0, 0 };
+      assertEquals(+1, orient3d(a, b, c, d));
+      assertEquals(+1, insphere(a, b, c, d, new double[] { 0, 0, 0 }));
+      assertEquals(-1, insphere(a, b, c, d, new double[] { 0, 0, 2 }));
+      assertEquals(-1, insphere(b, a, c, d, new double[] { 0, 0, 0 }));
+      assertEquals(0, insphere(a, b, c, d, new double[] { 0, -1, 0 }));
+      final Random random = new Random(0L);
+      for (int k = 0; k < 50; k++)
+      {
+         final double[][] p = new double[5][];
+         for (int i = 0; i < 5; i++)
+         {
+            final double phi = 2 * Math.PI * random.nextDouble();
+            final double z = 2 * random.nextDouble() - 1;
+            final double rho = Math.sqrt(1 - z * z);
+            p[i] = new double[] { rho * Math.cos(phi), rho * Math.sin(phi), z };
+         }
+         assertEquals(insphereRobust(p[0], p[1], p[2], p[3], p[4]),
+                      insphere(p[0], p[1], p[2], p[3], p[4]));
+      }
+   }
+
+   @Test
+   public void testRobustFallback()
+   {
+
+      final double tiny = 0x1p-600;
+      final double huge = 0x1p+600;
+      assertEquals(+1, orient2d(new double[] { 0, 0 }, new double[] { tiny, 0 },
+                                new double[] { 0, tiny }));
+      assertEquals(0, orient2d(new double[] { huge, huge }, new double[] { 2 * huge, 2 * huge },
+                               new double[] { 3 * huge, 3 * huge }));
+      assertEquals(+1, incircle(new double[] { tiny, 0 }, new double[] { 0, tiny },
+                                new double[] { -tiny, 0 }, new double[] { 0, 0 }));
+   }
+
+   @Test
+   public void testNonFinite()
+   {
+
+      final double[] a = { 0, 0 };
+      final double[] b = { 1, 0 };
+      assertThrows(IllegalArgumentException.class,
+                   () -> orient2d(a, b, new double[] { Double.NaN, 1 }));
+      assertThrows(IllegalArgumentException.class,
+                   () -> orient2d(a, b, new double[] { 1, Double.POSITIVE_INFINITY }));
+   }
+
+   private static double[] point(final Random random, final int dimension)
+   {
+
+      final double[] point = new double[dimension];
+      for (int i = 0; i < dimension; i++)
+      {
+         point[i] = 100 * random.nextDouble() - 50;
+      }
+      return point;
+   }
+}
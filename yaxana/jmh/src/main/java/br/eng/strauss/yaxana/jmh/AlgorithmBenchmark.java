@@ -0,0 +1,82 @@
+package br.eng.strauss.yaxana.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import br.eng.strauss.yaxana.Algorithm;
+import br.eng.strauss.yaxana.Robust;
+import br.eng.strauss.yaxana.Robusts;
+
+/**
+ * JMH benchmark of each {@link Algorithm} on the {@link SampleFamily sample families}.
+ * <p>
+ * Each invocation compares the two expressions of a pair, which, if {@code epsilon} is zero, are
+ * equal, and then requires exact sign computation. The cache is cleared before each comparison,
+ * so that the sign is computed anew.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AlgorithmBenchmark
+{
+
+   @Setup
+   public void setup()
+   {
+
+      this.previous = Algorithm.getCurrent();
+      this.algorithm.setCurrent();
+      this.pairs = this.family.pairs(NO_OF_PAIRS, Robust.valueOf(this.epsilon));
+      this.index = 0;
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+
+      this.previous.setCurrent();
+   }
+
+   @Benchmark
+   public int compare()
+   {
+
+      final Robust[] pair = this.pairs[this.index];
+      this.index = (this.index + 1) % NO_OF_PAIRS;
+      Robusts.clearCache();
+      return pair[0].compareTo(pair[1]);
+   }
+
+   /** The number of pairs of expressions compared in turn. */
+   private static final int NO_OF_PAIRS = 64;
+
+   /** The algorithm computing signs. */
+   @Param({ "BFMSS2", "ZVAA", "MOSC" })
+   public Algorithm algorithm;
+
+   /** The family of expressions. */
+   @Param({ "BINOMIAL", "GEOMETRIC", "ROOT_OF_POW_MINUS_ONE" })
+   public SampleFamily family;
+
+   /** The difference of the expressions of a pair. */
+   @Param({ "0", "1p-100" })
+   public String epsilon;
+
+   private Algorithm previous;
+
+   private Robust[][] pairs;
+
+   private int index;
+}
@@ -0,0 +1,88 @@
+package br.eng.strauss.yaxana.jmh;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.eng.strauss.yaxana.big.BigFloat;
+import br.eng.strauss.yaxana.big.Rounder;
+
+/**
+ * JMH benchmark of {@link BigFloat} operations on operands with, and results rounded to, a given
+ * precision.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BigFloatBenchmark
+{
+
+   @Setup
+   public void setup()
+   {
+
+      final Random random = new Random(4711);
+      this.rounder = new Rounder(this.precision);
+      this.a = new BigFloat(new BigInteger(this.precision, random).setBit(this.precision - 1),
+                            -this.precision);
+      this.b = new BigFloat(new BigInteger(this.precision, random).setBit(this.precision - 1),
+                            3 - this.precision);
+   }
+
+   @Benchmark
+   public BigFloat add()
+   {
+
+      return this.a.add(this.b, this.rounder);
+   }
+
+   @Benchmark
+   public BigFloat mul()
+   {
+
+      return this.a.mul(this.b, this.rounder);
+   }
+
+   @Benchmark
+   public BigFloat div()
+   {
+
+      return this.a.div(this.b, this.rounder);
+   }
+
+   @Benchmark
+   public BigFloat sqrt()
+   {
+
+      return this.b.sqrt(this.rounder);
+   }
+
+   @Benchmark
+   public BigFloat root()
+   {
+
+      return this.b.root(3, this.rounder);
+   }
+
+   /** The precision of operands and results in bits. */
+   @Param({ "53", "128", "512", "2048", "8192" })
+   public int precision;
+
+   private Rounder rounder;
+
+   private BigFloat a;
+
+   private BigFloat b;
+}
@@ -0,0 +1,124 @@
+package br.eng.strauss.yaxana.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import br.eng.strauss.yaxana.Robust;
+import br.eng.strauss.yaxana.Robusts;
+
+/**
+ * JMH benchmark of the contention of the process wide cache, which {@link Robust} operations
+ * consult, at 1, 2, 4 and 8 threads.
+ * <p>
+ * Each invocation multiplies two roots, whose product is not determined by {@code double}
+ * arithmetic and hence stored in the cache. With {@code cache=hits} all products are found in the
+ * cache, which mostly exercises lookups. With {@code cache=evictions} the cache is too small to
+ * hold the products, which mostly exercises storing and evicting entries.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheBenchmark
+{
+
+   @Setup
+   public void setup()
+   {
+
+      this.maximumCacheSize = Robusts.getMaximumCacheSize();
+      Robusts.clearCache();
+      Robusts.setMaximumCacheSize(this.cache.equals("hits") ? this.maximumCacheSize : 64);
+      this.roots = new Robust[N];
+      for (int k = 0; k < N; k++)
+      {
+         this.roots[k] = Robust.valueOf(k + 2).sqrt();
+      }
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+
+      Robusts.setMaximumCacheSize(this.maximumCacheSize);
+   }
+
+   @Benchmark
+   @Threads(1)
+   public Robust threads1(final Cursor cursor)
+   {
+
+      return product(cursor);
+   }
+
+   @Benchmark
+   @Threads(2)
+   public Robust threads2(final Cursor cursor)
+   {
+
+      return product(cursor);
+   }
+
+   @Benchmark
+   @Threads(4)
+   public Robust threads4(final Cursor cursor)
+   {
+
+      return product(cursor);
+   }
+
+   @Benchmark
+   @Threads(8)
+   public Robust threads8(final Cursor cursor)
+   {
+
+      return product(cursor);
+   }
+
+   private Robust product(final Cursor cursor)
+   {
+
+      final int k = cursor.next();
+      return this.roots[k % N].mul(this.roots[k / N]);
+   }
+
+   /**
+    * The position of a thread in the sequence of products, which starts at a different position
+    * for each thread.
+    */
+   @State(Scope.Thread)
+   public static class Cursor
+   {
+
+      private int next()
+      {
+
+         return this.index = (this.index + 1) % (N * N);
+      }
+
+      private int index = (int) (Thread.currentThread().getId() * 101 % (N * N));
+   }
+
+   /** The number of roots. */
+   private static final int N = 32;
+
+   /** Whether products are found in the cache or evicted. */
+   @Param({ "hits", "evictions" })
+   public String cache;
+
+   private int maximumCacheSize;
+
+   private Robust[] roots;
+}
@@ -0,0 +1,72 @@
+package br.eng.strauss.yaxana.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import br.eng.strauss.yaxana.Robust;
+import br.eng.strauss.yaxana.epu.Algebraic;
+import br.eng.strauss.yaxana.rnd.RandomAlgebraic;
+
+/**
+ * JMH benchmark of the throughput of the expression parser, in expressions per millisecond.
+ * <p>
+ * {@link #algebraic()} only parses random expressions into syntax trees, {@link #robust()} also
+ * evaluates them, including sign computation.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParserBenchmark
+{
+
+   @Setup
+   public void setup()
+   {
+
+      final RandomAlgebraic random = new RandomAlgebraic(20, 3, 8);
+      this.expressions = new String[NO_OF_EXPRESSIONS];
+      for (int k = 0; k < NO_OF_EXPRESSIONS; k++)
+      {
+         this.expressions[k] = random.next().toString();
+      }
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(NO_OF_EXPRESSIONS)
+   public void algebraic(final Blackhole blackhole)
+   {
+
+      for (final String expression : this.expressions)
+      {
+         blackhole.consume(new Algebraic(expression));
+      }
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(NO_OF_EXPRESSIONS)
+   public void robust(final Blackhole blackhole)
+   {
+
+      for (final String expression : this.expressions)
+      {
+         blackhole.consume(Robust.valueOf(expression));
+      }
+   }
+
+   /** The number of expressions parsed per invocation. */
+   private static final int NO_OF_EXPRESSIONS = 64;
+
+   private String[] expressions;
+}
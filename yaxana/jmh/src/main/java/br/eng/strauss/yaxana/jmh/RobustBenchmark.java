@@ -0,0 +1,108 @@
+package br.eng.strauss.yaxana.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import br.eng.strauss.yaxana.Robust;
+import br.eng.strauss.yaxana.Robusts;
+
+/**
+ * JMH benchmark of {@link Robust} arithmetic, with and without cache hits.
+ * <p>
+ * {@link #filtered()} computes {@code (a+b)*(c-d)} for random {@code double} values, whose sign is
+ * determined by {@code double} interval arithmetic. {@link #exact()} computes
+ * {@code sqrt(a)*sqrt(b)-sqrt(a*b)} for small integers, whose sign requires exact computation.
+ * With {@code cache=hit} the results of previous invocations are found in the cache, with
+ * {@code cache=miss} the cache is switched off.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RobustBenchmark
+{
+
+   @Setup
+   public void setup()
+   {
+
+      this.maximumCacheSize = Robusts.getMaximumCacheSize();
+      Robusts.clearCache();
+      Robusts.setMaximumCacheSize(this.cache.equals("hit") ? this.maximumCacheSize : 0);
+      final Random random = new Random(4711);
+      this.values = new Robust[N + 3];
+      for (int k = 0; k < this.values.length; k++)
+      {
+         this.values[k] = Robust.valueOf(random.nextDouble() - 0.5);
+      }
+      this.roots = new Robust[MAX_FACTOR * MAX_FACTOR + 1];
+      for (int k = 0; k < this.roots.length; k++)
+      {
+         this.roots[k] = Robust.valueOf(k).sqrt();
+      }
+      this.index = 0;
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+
+      Robusts.setMaximumCacheSize(this.maximumCacheSize);
+   }
+
+   @Benchmark
+   public Robust filtered()
+   {
+
+      final int k = next();
+      final Robust[] x = this.values;
+      return x[k].add(x[k + 1]).mul(x[k + 2].sub(x[k + 3]));
+   }
+
+   @Benchmark
+   public Robust exact()
+   {
+
+      final int k = next();
+      final int a = 2 + k % (MAX_FACTOR - 1);
+      final int b = 2 + k / (MAX_FACTOR - 1) % (MAX_FACTOR - 1);
+      final Robust[] roots = this.roots;
+      return roots[a].mul(roots[b]).sub(roots[a * b]);
+   }
+
+   private int next()
+   {
+
+      return this.index = (this.index + 1) % N;
+   }
+
+   /** The number of different operands. */
+   private static final int N = 64;
+
+   /** The maximum factor of the radicands of {@link #exact()}. */
+   private static final int MAX_FACTOR = 9;
+
+   /** Whether operations are found in the cache. */
+   @Param({ "hit", "miss" })
+   public String cache;
+
+   private int maximumCacheSize;
+
+   private Robust[] values;
+
+   private Robust[] roots;
+
+   private int index;
+}
@@ -0,0 +1,113 @@
+package br.eng.strauss.yaxana.jmh;
+
+import java.util.Random;
+
+import br.eng.strauss.yaxana.Robust;
+import br.eng.strauss.yaxana.Robusts;
+import br.eng.strauss.yaxana.big.BigFloat;
+import br.eng.strauss.yaxana.rnd.RandomBigFloat;
+
+/**
+ * The families of sample expressions of the JUnit benchmarks in {@code yaxana-core}, each
+ * creating pairs of expressions, which are equal, if {@code epsilon} is zero.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public enum SampleFamily
+{
+
+   /**
+    * {@code sqrt(a)+sqrt(b)} and {@code sqrt(a+2*sqrt(a*b)+b)} for random {@code a} and {@code b}
+    * (as {@code BinomialBenchmarkTest}).
+    */
+   BINOMIAL
+   {
+
+      @Override
+      Robust[] pair(final Random random, final Robust epsilon)
+      {
+
+         final RandomBigFloat randomBigFloat = new RandomBigFloat(random, 20, 3);
+         final BigFloat a = randomBigFloat.next().abs();
+         final BigFloat b = randomBigFloat.next().abs();
+         final Robust l = Robust.valueOf("sqrt(%1$s)+sqrt(%2$s)".formatted(a, b));
+         final Robust r = Robust.valueOf("sqrt(%1$s+2*sqrt(%1$s*%2$s)+%2$s)".formatted(a, b));
+         return new Robust[] { l.add(epsilon), r };
+      }
+   },
+
+   /**
+    * {@code 1+q+q^2+...+q^9} and {@code (1-q^10)/(1-q)} for the root {@code q} of a random number
+    * (as {@code GeometricalBenchmarkTest}).
+    */
+   GEOMETRIC
+   {
+
+      @Override
+      Robust[] pair(final Random random, final Robust epsilon)
+      {
+
+         final int shift = random.nextInt(31);
+         final Robust scale = Robust.valueOf(random.nextBoolean() ? 1 << shift : 1d / (1 << shift));
+         final Robust q = Robust.valueOf(random.nextDouble()).mul(scale).sqrt();
+         Robust sum = Robust.ONE;
+         Robust product = q;
+         for (int k = 1; k < 10; k++)
+         {
+            sum = sum.add(product);
+            product = product.mul(q);
+         }
+         final Robust quotient = Robust.ONE.sub(product).div(Robust.ONE.sub(q));
+         return new Robust[] { sum.add(epsilon), quotient };
+      }
+   },
+
+   /**
+    * {@code root(a^16-epsilon,16)} and {@code a} for a tiny random {@code a} (as
+    * {@code RootOfPowMinusOneTest}).
+    */
+   ROOT_OF_POW_MINUS_ONE
+   {
+
+      @Override
+      Robust[] pair(final Random random, final Robust epsilon)
+      {
+
+         final BigFloat a = new RandomBigFloat(random, 30, 0).next().abs().mulTwoTo(-1000);
+         final Robust l = Robust.valueOf("root(%s^16-%s,16)".formatted(a, epsilon));
+         return new Robust[] { l, Robust.valueOf(a.toString()) };
+      }
+   };
+
+   /**
+    * Returns a given number of pairs of expressions, created with simplification switched off.
+    *
+    * @param noOfPairs
+    *           the number of pairs.
+    * @param epsilon
+    *           the difference of the expressions of a pair, more or less.
+    * @return the pairs of expressions.
+    */
+   public Robust[][] pairs(final int noOfPairs, final Robust epsilon)
+   {
+
+      final Random random = new Random(4711);
+      final Robust[][] pairs = new Robust[noOfPairs][];
+      try
+      {
+         Robusts.setSimplification(false);
+         for (int k = 0; k < noOfPairs; k++)
+         {
+            pairs[k] = pair(random, epsilon);
+         }
+      }
+      finally
+      {
+         Robusts.setSimplification(true);
+      }
+      return pairs;
+   }
+
+   abstract Robust[] pair(Random random, Robust epsilon);
+}
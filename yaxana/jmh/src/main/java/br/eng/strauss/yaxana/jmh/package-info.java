@@ -0,0 +1,8 @@
+/**
+ * JMH benchmarks of the hot paths of Yaxana.
+ * <p>
+ * Run all benchmarks with {@code gradle :yaxana-jmh:jmh}, or some of them with, for instance,
+ * {@code gradle :yaxana-jmh:jmh -Pjmh=CacheBenchmark}. The JUnit benchmarks of
+ * {@code yaxana-core} remain as quick checks during development.
+ */
+package br.eng.strauss.yaxana.jmh;
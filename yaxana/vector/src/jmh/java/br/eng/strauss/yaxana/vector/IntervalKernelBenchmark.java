@@ -0,0 +1,107 @@
+package br.eng.strauss.yaxana.vector;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.strauss.yaxana.IntervalKernel;
+import br.eng.strauss.yaxana.RobustBatch;
+
+/**
+ * JMH benchmark comparing {@link VectorIntervalKernel} to {@link IntervalKernel#scalar()}, both
+ * used by {@link RobustBatch} to evaluate the orientation and incircle predicates for random
+ * points.
+ * <p>
+ * Run with {@code gradle :yaxana-vector:jmh}.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+public class IntervalKernelBenchmark
+{
+
+   @Setup
+   public void setup()
+   {
+
+      final IntervalKernel kernel = this.kernel.equals("vector") ? new VectorIntervalKernel()
+                                                                 : IntervalKernel.scalar();
+      this.orient2d = new RobustBatch(ORIENT2D).withKernel(kernel);
+      this.incircle = new RobustBatch(INCIRCLE).withKernel(kernel);
+      this.orient2dInputs = inputs(this.orient2d.noOfOperands());
+      this.incircleInputs = inputs(this.incircle.noOfOperands());
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(NO_OF_TUPLES)
+   public int[] orient2d()
+   {
+
+      return this.orient2d.evaluate(this.orient2dInputs);
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(NO_OF_TUPLES)
+   public int[] incircle()
+   {
+
+      return this.incircle.evaluate(this.incircleInputs);
+   }
+
+   private static double[][] inputs(final int noOfOperands)
+   {
+
+      final Random random = new Random(4711);
+      final double[][] inputs = new double[noOfOperands][NO_OF_TUPLES];
+      for (final double[] input : inputs)
+      {
+         for (int n = 0; n < NO_OF_TUPLES; n++)
+         {
+            input[n] = random.nextDouble();
+         }
+      }
+      return inputs;
+   }
+
+   /** The number of tuples evaluated per invocation. */
+   private static final int NO_OF_TUPLES = 4096;
+
+   /** The orientation predicate, with operands ax, cx, by, cy, ay, cy, bx, cx. */
+   private static final String ORIENT2D = "(0-0)*(0-0)-(0-0)*(0-0)";
+
+   /** The incircle predicate as a 3x3 determinant of differences to the fourth point. */
+   private static final String INCIRCLE = """
+         ((0-0)^2+(0-0)^2)*((0-0)*(0-0)-(0-0)*(0-0))
+         -((0-0)^2+(0-0)^2)*((0-0)*(0-0)-(0-0)*(0-0))
+         +((0-0)^2+(0-0)^2)*((0-0)*(0-0)-(0-0)*(0-0))""";
+
+   /** The kernel to benchmark. */
+   @Param({ "scalar", "vector" })
+   public String kernel;
+
+   private RobustBatch orient2d;
+
+   private RobustBatch incircle;
+
+   private double[][] orient2dInputs;
+
+   private double[][] incircleInputs;
+}
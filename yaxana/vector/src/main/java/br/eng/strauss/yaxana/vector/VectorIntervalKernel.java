@@ -0,0 +1,215 @@
+package br.eng.strauss.yaxana.vector;
+
+import static jdk.incubator.vector.VectorOperators.GT;
+import static jdk.incubator.vector.VectorOperators.LT;
+
+import br.eng.strauss.yaxana.IntervalKernel;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * An {@link IntervalKernel} using the SIMD instructions of the platform via the incubating Vector
+ * API, so that one instruction processes the intervals of 4 to 8 tuples, depending on the vector
+ * size of the platform.
+ * <p>
+ * Results are identical to those of {@link IntervalKernel#scalar()}, to which {@code pow} and
+ * {@code root} are delegated, since the Vector API does not guarantee the accuracy of these.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class VectorIntervalKernel implements IntervalKernel
+{
+
+   /**
+    * Returns the kernel provided by this module, which is the scalar one in case the platform
+    * does not support vectors of more than one {@code double}.
+    *
+    * @return the kernel provided by this module.
+    */
+   public static IntervalKernel provider()
+   {
+
+      return SPECIES.length() > 1 ? new VectorIntervalKernel() : IntervalKernel.scalar();
+   }
+
+   /**
+    * Creates a new instance.
+    */
+   public VectorIntervalKernel()
+   {
+
+   }
+
+   @Override
+   public void neg(final double[] lo, final double[] hi, final int length)
+   {
+
+      for (int n = 0; n < length; n += SPECIES.length())
+      {
+         final DoubleVector l = DoubleVector.fromArray(SPECIES, lo, n);
+         final DoubleVector h = DoubleVector.fromArray(SPECIES, hi, n);
+         h.neg().intoArray(lo, n);
+         l.neg().intoArray(hi, n);
+      }
+   }
+
+   @Override
+   public void abs(final double[] lo, final double[] hi, final int length)
+   {
+
+      for (int n = 0; n < length; n += SPECIES.length())
+      {
+         final DoubleVector l = DoubleVector.fromArray(SPECIES, lo, n);
+         final DoubleVector h = DoubleVector.fromArray(SPECIES, hi, n);
+         final VectorMask<Double> negative = h.compare(LT, 0d);
+         final VectorMask<Double> straddling = l.compare(LT, 0d).andNot(negative);
+         l.blend(0d, straddling).blend(h.neg(), negative).intoArray(lo, n);
+         h.blend(l.neg().max(h), straddling).blend(l.neg(), negative).intoArray(hi, n);
+      }
+   }
+
+   @Override
+   public void add(final double[] aLo, final double[] aHi, final double[] bLo,
+         final double[] bHi, final int length)
+   {
+
+      for (int n = 0; n < length; n += SPECIES.length())
+      {
+         final DoubleVector al = DoubleVector.fromArray(SPECIES, aLo, n);
+         final DoubleVector ah = DoubleVector.fromArray(SPECIES, aHi, n);
+         final DoubleVector bl = DoubleVector.fromArray(SPECIES, bLo, n);
+         final DoubleVector bh = DoubleVector.fromArray(SPECIES, bHi, n);
+         final VectorMask<Double> aZero = isZero(al, ah);
+         final VectorMask<Double> bZero = isZero(bl, bh);
+         nextDown(al.add(bl)).blend(bl, aZero).blend(al, bZero).intoArray(aLo, n);
+         nextUp(ah.add(bh)).blend(bh, aZero).blend(ah, bZero).intoArray(aHi, n);
+      }
+   }
+
+   @Override
+   public void sub(final double[] aLo, final double[] aHi, final double[] bLo,
+         final double[] bHi, final int length)
+   {
+
+      for (int n = 0; n < length; n += SPECIES.length())
+      {
+         final DoubleVector al = DoubleVector.fromArray(SPECIES, aLo, n);
+         final DoubleVector ah = DoubleVector.fromArray(SPECIES, aHi, n);
+         final DoubleVector bl = DoubleVector.fromArray(SPECIES, bLo, n);
+         final DoubleVector bh = DoubleVector.fromArray(SPECIES, bHi, n);
+         final VectorMask<Double> aZero = isZero(al, ah);
+         final VectorMask<Double> bZero = isZero(bl, bh);
+         nextDown(al.sub(bh)).blend(bh.neg(), aZero).blend(al, bZero).intoArray(aLo, n);
+         nextUp(ah.sub(bl)).blend(bl.neg(), aZero).blend(ah, bZero).intoArray(aHi, n);
+      }
+   }
+
+   @Override
+   public void mul(final double[] aLo, final double[] aHi, final double[] bLo,
+         final double[] bHi, final int length)
+   {
+
+      for (int n = 0; n < length; n += SPECIES.length())
+      {
+         final DoubleVector al = DoubleVector.fromArray(SPECIES, aLo, n);
+         final DoubleVector ah = DoubleVector.fromArray(SPECIES, aHi, n);
+         final DoubleVector bl = DoubleVector.fromArray(SPECIES, bLo, n);
+         final DoubleVector bh = DoubleVector.fromArray(SPECIES, bHi, n);
+         final VectorMask<Double> zero = isZero(al, ah).or(isZero(bl, bh));
+         final DoubleVector p1 = al.mul(bl);
+         final DoubleVector p2 = al.mul(bh);
+         final DoubleVector p3 = ah.mul(bl);
+         final DoubleVector p4 = ah.mul(bh);
+         nextDown(p1.min(p2).min(p3.min(p4))).blend(0d, zero).intoArray(aLo, n);
+         nextUp(p1.max(p2).max(p3.max(p4))).blend(0d, zero).intoArray(aHi, n);
+      }
+   }
+
+   @Override
+   public void div(final double[] aLo, final double[] aHi, final double[] bLo,
+         final double[] bHi, final int length)
+   {
+
+      for (int n = 0; n < length; n += SPECIES.length())
+      {
+         final DoubleVector al = DoubleVector.fromArray(SPECIES, aLo, n);
+         final DoubleVector ah = DoubleVector.fromArray(SPECIES, aHi, n);
+         final DoubleVector bl = DoubleVector.fromArray(SPECIES, bLo, n);
+         final DoubleVector bh = DoubleVector.fromArray(SPECIES, bHi, n);
+         final VectorMask<Double> aZero = isZero(al, ah);
+         final VectorMask<Double> undetermined = bl.compare(GT, 0d).or(bh.compare(LT, 0d)).not();
+         final DoubleVector q1 = al.div(bl);
+         final DoubleVector q2 = al.div(bh);
+         final DoubleVector q3 = ah.div(bl);
+         final DoubleVector q4 = ah.div(bh);
+         nextDown(q1.min(q2).min(q3.min(q4))).blend(al, aZero)
+                                              .blend(Double.NaN, undetermined)
+                                              .intoArray(aLo, n);
+         nextUp(q1.max(q2).max(q3.max(q4))).blend(ah, aZero)
+                                            .blend(Double.NaN, undetermined)
+                                            .intoArray(aHi, n);
+      }
+   }
+
+   @Override
+   public void pow(final double[] lo, final double[] hi, final int length, final int exponent)
+   {
+
+      SCALAR.pow(lo, hi, length, exponent);
+   }
+
+   @Override
+   public void root(final double[] lo, final double[] hi, final int length, final int exponent)
+   {
+
+      SCALAR.root(lo, hi, length, exponent);
+   }
+
+   private static VectorMask<Double> isZero(final DoubleVector lo, final DoubleVector hi)
+   {
+
+      return lo.eq(0d).and(hi.eq(0d));
+   }
+
+   /**
+    * Returns {@link Math#nextUp(double)} of the lanes of a given vector.
+    * <p>
+    * The bit pattern of finite non-zero values is incremented, if positive, and decremented, if
+    * negative, which also maps {@code -Infinity} to {@code -Double.MAX_VALUE}.
+    */
+   private static DoubleVector nextUp(final DoubleVector x)
+   {
+
+      final VectorMask<Long> positive = x.compare(GT, 0d)
+                                         .and(x.compare(LT, Double.POSITIVE_INFINITY))
+                                         .cast(LONGS);
+      final VectorMask<Long> negative = x.compare(LT, 0d).cast(LONGS);
+      final LongVector bits = x.reinterpretAsLongs();
+      return bits.add(1L, positive)
+                 .sub(1L, negative)
+                 .reinterpretAsDoubles()
+                 .blend(Double.MIN_VALUE, x.eq(0d));
+   }
+
+   /**
+    * Returns {@link Math#nextDown(double)} of the lanes of a given vector.
+    */
+   private static DoubleVector nextDown(final DoubleVector x)
+   {
+
+      return nextUp(x.neg()).neg();
+   }
+
+   /** The preferred species of {@code double} vectors. */
+   private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+   /** The species of {@code long} vectors of the same shape. */
+   private static final VectorSpecies<Long> LONGS = VectorSpecies.of(long.class,
+                                                                     SPECIES.vectorShape());
+
+   /** The kernel performing {@code pow} and {@code root}. */
+   private static final IntervalKernel SCALAR = IntervalKernel.scalar();
+}
@@ -0,0 +1,4 @@
+/**
+ * SIMD implementation of the interval arithmetic of {@code RobustBatch}.
+ */
+package br.eng.strauss.yaxana.vector;
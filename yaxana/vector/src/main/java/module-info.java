@@ -0,0 +1,22 @@
+/**
+ * Yaxana - SIMD implementation of the interval arithmetic of {@code RobustBatch}.
+ * <p>
+ * Optional module built on the incubating Vector API, which is used by {@code RobustBatch}, when
+ * present on the module path.
+ *
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+module br.eng.strauss.yaxana.vector
+{
+
+   requires static org.junit.jupiter.api;
+
+   requires transitive br.eng.strauss.yaxana;
+   requires jdk.incubator.vector;
+
+   exports br.eng.strauss.yaxana.vector;
+
+   provides br.eng.strauss.yaxana.IntervalKernel
+         with br.eng.strauss.yaxana.vector.VectorIntervalKernel;
+}
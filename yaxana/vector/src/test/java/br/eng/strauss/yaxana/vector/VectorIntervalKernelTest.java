@@ -0,0 +1,119 @@
+package br.eng.strauss.yaxana.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.eng.strauss.yaxana.IntervalKernel;
+import br.eng.strauss.yaxana.RobustBatch;
+
+/**
+ * @author Burkhard Strauss
+ * @since 2026-10
+ */
+public final class VectorIntervalKernelTest
+{
+
+   @Test
+   public void testOperations()
+   {
+
+      final IntervalKernel scalar = IntervalKernel.scalar();
+      final IntervalKernel vector = new VectorIntervalKernel();
+      final Random random = new Random(0L);
+      for (int k = 0; k < 100; k++)
+      {
+         final double[][] a = intervals(random);
+         final double[][] b = intervals(random);
+         for (final String op : new String[] { "neg", "abs", "add", "sub", "mul", "div" })
+         {
+            final double[][] expected = { a[0].clone(), a[1].clone() };
+            final double[][] actual = { a[0].clone(), a[1].clone() };
+            apply(scalar, op, expected, b);
+            apply(vector, op, actual, b);
+            assertArrayEquals(expected[0], actual[0], op);
+            assertArrayEquals(expected[1], actual[1], op);
+         }
+      }
+   }
+
+   @Test
+   public void testRobustBatch()
+   {
+
+      final RobustBatch batch = new RobustBatch("((0-0)*(0-0)-(0-0)*(0-0))/|0-0|");
+      final Random random = new Random(0L);
+      final int noOfTuples = 1001;
+      final double[][] inputs = new double[batch.noOfOperands()][noOfTuples];
+      for (int n = 0; n < noOfTuples; n++)
+      {
+         for (int k = 0; k < inputs.length; k++)
+         {
+            inputs[k][n] = n % 2 == 0 ? random.nextInt(5) - 2 : random.nextDouble();
+         }
+         inputs[9][n] = inputs[8][n] + 1;
+      }
+      final int[] expected = batch.withKernel(IntervalKernel.scalar()).evaluate(inputs);
+      assertArrayEquals(expected, batch.withKernel(new VectorIntervalKernel()).evaluate(inputs));
+      assertEquals(VectorIntervalKernel.provider().getClass(), batch.kernel().getClass());
+   }
+
+   private static void apply(final IntervalKernel kernel, final String op, final double[][] a,
+         final double[][] b)
+   {
+
+      final int length = LENGTH - 7;
+      // @formatter:off
+      switch (op)
+      {
+         case "neg" -> kernel.neg(a[0], a[1], length);
+         case "abs" -> kernel.abs(a[0], a[1], length);
+         case "add" -> kernel.add(a[0], a[1], b[0], b[1], length);
+         case "sub" -> kernel.sub(a[0], a[1], b[0], b[1], length);
+         case "mul" -> kernel.mul(a[0], a[1], b[0], b[1], length);
+         default    -> kernel.div(a[0], a[1], b[0], b[1], length);
+      }
+      // @formatter:on
+      for (int n = length; n < LENGTH; n++)
+      {
+         // elements beyond length are unspecified
+         a[0][n] = 0d;
+         a[1][n] = 0d;
+      }
+   }
+
+   /**
+    * Returns random intervals, including exact zeros, intervals containing zero, undetermined
+    * intervals, and intervals with infinite or tiny bounds.
+    */
+   private static double[][] intervals(final Random random)
+   {
+
+      final double[][] intervals = new double[2][LENGTH];
+      for (int n = 0; n < LENGTH; n++)
+      {
+         final double x = random.nextDouble() - 0.5;
+         final double y = x + random.nextDouble();
+         // @formatter:off
+         final double[] interval = switch (random.nextInt(8))
+         {
+            case 0  -> new double[] { 0d, 0d };
+            case 1  -> new double[] { Double.NaN, Double.NaN };
+            case 2  -> new double[] { Double.NEGATIVE_INFINITY, y };
+            case 3  -> new double[] { -Double.MIN_VALUE, Double.MIN_VALUE };
+            case 4  -> new double[] { 0d, y };
+            case 5  -> new double[] { random.nextInt(3) - 1, random.nextInt(3) + 1 };
+            default -> new double[] { x, y };
+         };
+         // @formatter:on
+         intervals[0][n] = interval[0];
+         intervals[1][n] = interval[1];
+      }
+      return intervals;
+   }
+
+   private static final int LENGTH = 256;
+}